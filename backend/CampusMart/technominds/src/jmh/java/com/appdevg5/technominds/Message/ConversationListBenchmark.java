@@ -0,0 +1,50 @@
+package com.appdevg5.technominds.Message;
+
+import com.appdevg5.technominds.SyntheticData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MessageService.getConversationsList grouping 10k messages into per-partner, per-product
+ * conversations, with the repository stubbed out. The stub hands out a fresh copy of the
+ * list each call because the service sorts the grouped messages in place.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConversationListBenchmark {
+
+    @Param({"10000"})
+    public int messageCount;
+
+    @Param({"50", "500"})
+    public int partners;
+
+    private MessageService messageService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<MessageEntity> messages = SyntheticData.messages(messageCount, partners, 200);
+        MessageRepository repository = SyntheticData.stub(MessageRepository.class, "findAllUserMessages",
+                args -> new ArrayList<>(messages));
+        messageService = new MessageService(repository, null, null, null, null, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> conversationsList() {
+        return messageService.getConversationsList(1);
+    }
+}
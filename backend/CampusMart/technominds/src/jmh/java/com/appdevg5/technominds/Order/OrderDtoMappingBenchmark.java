@@ -0,0 +1,77 @@
+package com.appdevg5.technominds.Order;
+
+import com.appdevg5.technominds.Product.ProductEntity;
+import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.SyntheticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-order mapping cost of the order views.
+ * <ul>
+ *   <li>detailProjection: the OrderDetailDTO constructor Hibernate calls for each row of the detail queries
+ *   (this replaced the old convertToDetailDTO, which walked lazy associations)</li>
+ *   <li>orderDto: OrderDTO built from a loaded OrderEntity, as the create/update endpoints return it</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderDtoMappingBenchmark {
+
+    private OrderEntity order;
+    private ProfileEntity buyer;
+    private ProfileEntity seller;
+    private ProductEntity product;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ProfileEntity> profiles = SyntheticData.profiles(2);
+        buyer = profiles.get(0);
+        seller = profiles.get(1);
+        product = SyntheticData.products(1, 1, 0).get(0);
+
+        order = new OrderEntity();
+        order.setId(1001);
+        order.setBuyer(buyer);
+        order.setSeller(seller);
+        order.setProduct(product);
+        order.setQuantity(2);
+        order.setTotalAmount(new BigDecimal("240.00"));
+        order.setStatus(OrderStatus.PENDING);
+        order.setPaymentMethod("Cash");
+        order.setPickupLocation("Main Library");
+        order.setDeliveryNotes("After 3pm");
+        order.setCreatedAt(LocalDateTime.of(2025, 3, 1, 10, 0));
+        order.setUpdatedAt(LocalDateTime.of(2025, 3, 1, 10, 5));
+    }
+
+    @Benchmark
+    public OrderDetailDTO detailProjection() {
+        return new OrderDetailDTO(order.getId(), order.getQuantity(), order.getTotalAmount(), order.getStatus(),
+                order.getPaymentMethod(), order.getPickupLocation(), order.getDeliveryNotes(),
+                order.getCreatedAt(), order.getUpdatedAt(),
+                product.getId(), product.getName(), product.getDescription(),
+                product.getPrice(), product.getImages().get(0).getImageUrl(), product.getCondition(),
+                product.getCategory().getName(),
+                buyer.getId(), buyer.getFirstName(), buyer.getLastName(), buyer.getEmail(), buyer.getPhoneNumber(),
+                seller.getId(), seller.getFirstName(), seller.getLastName(), seller.getEmail(), seller.getPhoneNumber(),
+                null);
+    }
+
+    @Benchmark
+    public OrderDTO orderDto() {
+        return new OrderDTO(order);
+    }
+}
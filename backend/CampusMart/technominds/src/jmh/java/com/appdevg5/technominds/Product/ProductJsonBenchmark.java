@@ -0,0 +1,58 @@
+package com.appdevg5.technominds.Product;
+
+import com.appdevg5.technominds.SyntheticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a product listing response (a list of ProductDTO with seller,
+ * category and images), the way the product endpoints return it.
+ * <ul>
+ *   <li>images=none: no images</li>
+ *   <li>images=urls: three short image URLs per product</li>
+ *   <li>images=inline: three ~30 KB base64 data URLs per product, as uploaded images are stored today</li>
+ * </ul>
+ * Setup prints the payload size of each configuration; add -prof gc to see what it allocates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductJsonBenchmark {
+
+    @Param({"20", "200"})
+    public int listSize;
+
+    @Param({"none", "urls", "inline"})
+    public String images;
+
+    private JsonMapper jsonMapper;
+    private List<ProductDTO> products;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        List<ProductEntity> entities = switch (images) {
+            case "none" -> SyntheticData.products(listSize, 0, 0);
+            case "urls" -> SyntheticData.products(listSize, 3, 0);
+            default -> SyntheticData.products(listSize, 3, 22_000);
+        };
+        products = entities.stream().map(ProductDTO::new).toList();
+        System.out.println("[ProductJsonBenchmark] payload " + jsonMapper.writeValueAsBytes(products).length + " bytes");
+    }
+
+    @Benchmark
+    public byte[] serializeProducts() {
+        return jsonMapper.writeValueAsBytes(products);
+    }
+}
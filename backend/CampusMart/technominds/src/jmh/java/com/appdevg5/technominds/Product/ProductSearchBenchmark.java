@@ -0,0 +1,54 @@
+package com.appdevg5.technominds.Product;
+
+import com.appdevg5.technominds.SyntheticData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductService.searchProducts matching over an in-memory catalog: the repository stub
+ * returns the whole catalog, so this measures the service's own filtering, not the database.
+ * <ul>
+ *   <li>commonTerm: a word in roughly a third of the listings</li>
+ *   <li>rareTerm: matches a single listing, so every product is scanned for nothing</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProductSearchBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int catalogSize;
+
+    private ProductService productService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ProductEntity> catalog = SyntheticData.products(catalogSize, 0, 0);
+        ProductRepository repository = SyntheticData.stub(ProductRepository.class, "findAllDetailed", args -> catalog);
+        productService = new ProductService(repository, null, null, null, new SimpleMeterRegistry(), null, null, null);
+    }
+
+    @Benchmark
+    public List<ProductEntity> commonTerm() {
+        return productService.searchProducts("Calculator");
+    }
+
+    @Benchmark
+    public List<ProductEntity> rareTerm() {
+        return productService.searchProducts("kit lamp ruler " + (catalogSize / 2));
+    }
+}
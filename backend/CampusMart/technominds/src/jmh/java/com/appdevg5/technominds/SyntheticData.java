@@ -0,0 +1,153 @@
+package com.appdevg5.technominds;
+
+import com.appdevg5.technominds.Category.CategoryEntity;
+import com.appdevg5.technominds.Message.MessageEntity;
+import com.appdevg5.technominds.Product.ProductEntity;
+import com.appdevg5.technominds.ProductImage.ProductImageEntity;
+import com.appdevg5.technominds.Profile.ProfileEntity;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Deterministic in-memory fixtures for the benchmarks (fixed seeds, so runs are comparable),
+ * and repository stubs so services can be benchmarked without a database.
+ */
+public final class SyntheticData {
+
+    private static final String[] WORDS = {
+        "calculus", "reviewer", "uniform", "laptop", "charger", "notebook", "drafting", "kit",
+        "physics", "lab", "gown", "scientific", "calculator", "shoes", "bag", "engineering",
+        "chemistry", "set", "novel", "programming", "guide", "headphones", "lamp", "ruler"
+    };
+    private static final String[] CONDITIONS = {"New", "Like New", "Good", "Fair"};
+
+    private SyntheticData() {
+    }
+
+    public static List<ProfileEntity> profiles(int count) {
+        List<ProfileEntity> profiles = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            ProfileEntity profile = new ProfileEntity();
+            profile.setId(i);
+            profile.setFirstName("First" + i);
+            profile.setLastName("Last" + i);
+            profile.setEmail("student" + i + "@cit.edu");
+            profile.setPhoneNumber("0917" + String.format("%07d", i));
+            profile.setAcademicLevel("College");
+            profiles.add(profile);
+        }
+        return profiles;
+    }
+
+    public static List<CategoryEntity> categories() {
+        List<CategoryEntity> categories = new ArrayList<>();
+        String[] names = {"Books", "Electronics", "Uniforms", "School Supplies", "Others"};
+        for (int i = 0; i < names.length; i++) {
+            CategoryEntity category = new CategoryEntity();
+            category.setId(i + 1);
+            category.setName(names[i]);
+            categories.add(category);
+        }
+        return categories;
+    }
+
+    /**
+     * @param imagesPerProduct images attached to each product
+     * @param imageBytes 0 for short URLs, otherwise the size of an inline base64 data URL per image
+     */
+    public static List<ProductEntity> products(int count, int imagesPerProduct, int imageBytes) {
+        Random random = new Random(42);
+        List<ProfileEntity> sellers = profiles(Math.max(1, count / 20));
+        List<CategoryEntity> categories = categories();
+        String inlineImage = imageBytes > 0
+                ? "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(new byte[imageBytes])
+                : null;
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+        List<ProductEntity> products = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            ProductEntity product = new ProductEntity();
+            product.setId(i);
+            product.setSeller(sellers.get(random.nextInt(sellers.size())));
+            product.setCategory(categories.get(random.nextInt(categories.size())));
+            product.setName(phrase(random, 3) + " " + i);
+            product.setDescription("Selling my " + phrase(random, 12) + ". Meet up on campus.");
+            product.setPrice(BigDecimal.valueOf(50 + random.nextInt(5000), 0));
+            product.setCondition(CONDITIONS[random.nextInt(CONDITIONS.length)]);
+            product.setIsAvailable(random.nextInt(10) != 0);
+            product.setStock(1 + random.nextInt(5));
+            product.setCreatedAt(start.plusMinutes(i));
+            product.setUpdatedAt(start.plusMinutes(i));
+            for (int j = 0; j < imagesPerProduct; j++) {
+                ProductImageEntity image = new ProductImageEntity();
+                image.setImageUrl(inlineImage != null ? inlineImage : "/uploads/products/" + i + "_" + j + ".jpg");
+                image.setIsPrimary(j == 0);
+                product.addImage(image);
+            }
+            products.add(product);
+        }
+        return products;
+    }
+
+    /**
+     * Messages between profile 1 and {@code partners} other users,
+     * a third of them about one of {@code products} listings.
+     */
+    public static List<MessageEntity> messages(int count, int partners, int products) {
+        Random random = new Random(7);
+        List<ProfileEntity> people = profiles(partners + 1);
+        ProfileEntity user = people.get(0);
+        List<ProductEntity> listings = products(products, 0, 0);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 8, 0);
+
+        List<MessageEntity> messages = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            ProfileEntity other = people.get(1 + random.nextInt(partners));
+            boolean outgoing = random.nextBoolean();
+            MessageEntity message = new MessageEntity();
+            message.setId(i);
+            message.setSender(outgoing ? user : other);
+            message.setReceiver(outgoing ? other : user);
+            if (random.nextInt(3) == 0) {
+                message.setProduct(listings.get(random.nextInt(listings.size())));
+            }
+            message.setContent("Is the " + phrase(random, 2) + " still available?");
+            message.setIsRead(random.nextInt(4) != 0);
+            message.setCreatedAt(start.plusSeconds(random.nextInt(10_000_000)));
+            messages.add(message);
+        }
+        return messages;
+    }
+
+    /**
+     * A repository (or any interface) whose {@code method} returns {@code answer(args)};
+     * any other call fails, so a benchmark cannot silently measure a stubbed no-op.
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> R stub(Class<R> type, String method, Function<Object[], Object> answer) {
+        return (R) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, m, args) -> {
+            if (m.getName().equals(method)) {
+                return answer.apply(args);
+            }
+            throw new UnsupportedOperationException(type.getSimpleName() + "." + m.getName() + " is not stubbed");
+        });
+    }
+
+    private static String phrase(Random random, int words) {
+        StringBuilder phrase = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                phrase.append(' ');
+            }
+            phrase.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return phrase.toString();
+    }
+}
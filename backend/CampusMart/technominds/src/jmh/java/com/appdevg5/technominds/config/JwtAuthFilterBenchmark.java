@@ -0,0 +1,124 @@
+package com.appdevg5.technominds.config;
+
+import com.appdevg5.technominds.Auth.TokenRevocationList;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token in JwtAuthFilter.
+ * <ul>
+ *   <li>legacyFilter: the previous implementation (key rebuilt per parse, five parses per request)</li>
+ *   <li>filterFirstRequest: one parse with the precomputed key (cache miss; includes re-invalidating the entry)</li>
+ *   <li>filterRepeatRequest: token already verified (SHA-256 + cache lookup + Bloom filter check, no HMAC)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthFilterBenchmark {
+
+    private static final String SECRET = "Nw5+HFQqpYBKt+er9AJvHv8btZwwUgrXGmJaby6FmNE=";
+    private static final long EXPIRATION = 86_400_000L;
+
+    private JwtUtil jwtUtil;
+    private JwtTokenVerifier verifier;
+    private JwtAuthFilter filter;
+    private String token;
+    private FilterChain chain;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, EXPIRATION);
+        verifier = new JwtTokenVerifier(jwtUtil, 10_000, 900);
+        // No repository: the token is not revoked, so every check ends at the Bloom filter, as in production
+        filter = new JwtAuthFilter(verifier, new TokenRevocationList(null, 100_000, 0.01, 60));
+        token = jwtUtil.generateToken(42, "student@cit.edu", 7);
+        chain = (request, response) -> { };
+    }
+
+    @Benchmark
+    public Object legacyFilter() {
+        MockHttpServletRequest request = request(token);
+        LegacyJwt.authenticate(request, token);
+        return request.getAttribute("profileId");
+    }
+
+    @Benchmark
+    public Object filterFirstRequest() throws Exception {
+        // Evicting the token first forces the cache-miss path on every invocation
+        verifier.invalidate(token);
+        MockHttpServletRequest request = request(token);
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return request.getAttribute("profileId");
+    }
+
+    @Benchmark
+    public Object filterRepeatRequest() throws Exception {
+        MockHttpServletRequest request = request(token);
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return request.getAttribute("profileId");
+    }
+
+    @Benchmark
+    public void requestOverhead(Blackhole blackhole) {
+        // Baseline: building the mock request/response alone
+        blackhole.consume(request(token));
+        blackhole.consume(new MockHttpServletResponse());
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    /**
+     * Copy of the filter logic before the single-parse change, kept only for comparison.
+     */
+    static final class LegacyJwt {
+
+        private static SecretKey getSigningKey() {
+            return Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static Claims extractAllClaims(String token) {
+            return Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload();
+        }
+
+        private static boolean validateToken(String token) {
+            try {
+                extractAllClaims(token);
+                return !extractAllClaims(token).getExpiration().before(new Date());
+            } catch (Exception e) {
+                return false;
+            }
+        }
+
+        static void authenticate(HttpServletRequest request, String token) {
+            if (validateToken(token)) {
+                request.setAttribute("userId", extractAllClaims(token).get("userId", Integer.class));
+                request.setAttribute("email", extractAllClaims(token).get("email", String.class));
+                request.setAttribute("profileId", extractAllClaims(token).get("profileId", Integer.class));
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.appdevg5.technominds.Analytics;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * REST Controller for seller sales analytics.
+ * Base URL: /api/analytics
+ */
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final SalesRollupService salesRollupService;
+
+    public AnalyticsController(SalesRollupService salesRollupService) {
+        this.salesRollupService = salesRollupService;
+    }
+
+    // GET /api/analytics/sellers/{sellerId}?period=day|week|month - seller dashboard (defaults to week)
+    @GetMapping("/sellers/{sellerId}")
+    public ResponseEntity<?> getSellerReport(@PathVariable Integer sellerId,
+                                             @RequestParam(defaultValue = "week") String period) {
+        try {
+            return ResponseEntity.ok(salesRollupService.getSellerReport(sellerId, SalesPeriod.fromCode(period)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of(
+                            "message", e.getMessage(),
+                            "timestamp", java.time.LocalDateTime.now().toString()
+                    ));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.appdevg5.technominds.Analytics;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Marks an order status as counted in the sales rollups, by the incremental path or by the
+ * nightly rebuild, so an event that arrives after a rebuild already counted it is skipped.
+ * Dated by the day the order was placed, like the rollup rows it guards.
+ */
+@Entity
+@Table(name = "sales_rollup_applied_events", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_sales_rollup_applied_events", columnNames = {"order_id", "status"})
+})
+public class AppliedOrderEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Integer orderId;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "applied_at")
+    private LocalDateTime appliedAt;
+
+    // Constructors
+    public AppliedOrderEventEntity() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Integer orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDate getSalesDate() {
+        return salesDate;
+    }
+
+    public void setSalesDate(LocalDate salesDate) {
+        this.salesDate = salesDate;
+    }
+
+    public LocalDateTime getAppliedAt() {
+        return appliedAt;
+    }
+
+    public void setAppliedAt(LocalDateTime appliedAt) {
+        this.appliedAt = appliedAt;
+    }
+}
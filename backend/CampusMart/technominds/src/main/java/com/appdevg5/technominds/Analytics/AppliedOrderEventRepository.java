@@ -0,0 +1,71 @@
+package com.appdevg5.technominds.Analytics;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Repository
+public interface AppliedOrderEventRepository extends JpaRepository<AppliedOrderEventEntity, Long> {
+
+    /**
+     * Claims an order status for the incremental path.
+     * Returns 1 if it was not counted yet, 0 if it already was (the rollups must not be touched).
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sales_rollup_applied_events"))
+    @Query(value = "INSERT IGNORE INTO sales_rollup_applied_events (order_id, status, sales_date, applied_at) " +
+                   "VALUES (:orderId, :status, :salesDate, :now)",
+           nativeQuery = true)
+    int markApplied(@Param("orderId") Integer orderId,
+                    @Param("status") String status,
+                    @Param("salesDate") LocalDate salesDate,
+                    @Param("now") LocalDateTime now);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sales_rollup_applied_events"))
+    @Query(value = "DELETE FROM sales_rollup_applied_events WHERE sales_date >= :from", nativeQuery = true)
+    int deleteFrom(@Param("from") LocalDate from);
+
+    /**
+     * Days before the rebuild window are never rebuilt again, so their markers are not needed.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sales_rollup_applied_events"))
+    @Query(value = "DELETE FROM sales_rollup_applied_events WHERE sales_date < :before", nativeQuery = true)
+    int deleteBefore(@Param("before") LocalDate before);
+
+    /**
+     * Marks every order placed since {@code fromTime} as counted by a rebuild.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sales_rollup_applied_events"))
+    @Query(value = "INSERT IGNORE INTO sales_rollup_applied_events (order_id, status, sales_date, applied_at) " +
+                   "SELECT o.order_id, :pending, CAST(o.created_at AS DATE), :now " +
+                   "FROM orders o WHERE o.created_at >= :fromTime",
+           nativeQuery = true)
+    int markRebuiltPlacements(@Param("fromTime") LocalDateTime fromTime,
+                              @Param("pending") String pending,
+                              @Param("now") LocalDateTime now);
+
+    /**
+     * Marks the completions and cancellations of orders placed since {@code fromTime} as counted by a rebuild.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sales_rollup_applied_events"))
+    @Query(value = "INSERT IGNORE INTO sales_rollup_applied_events (order_id, status, sales_date, applied_at) " +
+                   "SELECT o.order_id, o.status, CAST(o.created_at AS DATE), :now " +
+                   "FROM orders o WHERE o.created_at >= :fromTime AND o.status IN (:completed, :cancelled)",
+           nativeQuery = true)
+    int markRebuiltOutcomes(@Param("fromTime") LocalDateTime fromTime,
+                            @Param("completed") String completed,
+                            @Param("cancelled") String cancelled,
+                            @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,68 @@
+package com.appdevg5.technominds.Analytics;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One day of a seller's sales series.
+ */
+public class SalesDayDTO {
+
+    private LocalDate date;
+    private Integer ordersPlaced;
+    private Integer ordersCompleted;
+    private Integer ordersCancelled;
+    private BigDecimal revenue;
+
+    // Constructors
+    public SalesDayDTO() {}
+
+    public SalesDayDTO(SellerSalesDailyEntity day) {
+        this.date = day.getSalesDate();
+        this.ordersPlaced = day.getOrdersPlaced();
+        this.ordersCompleted = day.getOrdersCompleted();
+        this.ordersCancelled = day.getOrdersCancelled();
+        this.revenue = day.getRevenue();
+    }
+
+    // Getters and Setters
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public Integer getOrdersPlaced() {
+        return ordersPlaced;
+    }
+
+    public void setOrdersPlaced(Integer ordersPlaced) {
+        this.ordersPlaced = ordersPlaced;
+    }
+
+    public Integer getOrdersCompleted() {
+        return ordersCompleted;
+    }
+
+    public void setOrdersCompleted(Integer ordersCompleted) {
+        this.ordersCompleted = ordersCompleted;
+    }
+
+    public Integer getOrdersCancelled() {
+        return ordersCancelled;
+    }
+
+    public void setOrdersCancelled(Integer ordersCancelled) {
+        this.ordersCancelled = ordersCancelled;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+}
@@ -0,0 +1,35 @@
+package com.appdevg5.technominds.Analytics;
+
+/**
+ * Reporting windows for the seller dashboard, each ending today (inclusive).
+ */
+public enum SalesPeriod {
+
+    DAY(1),
+    WEEK(7),
+    MONTH(30);
+
+    private final int days;
+
+    SalesPeriod(int days) {
+        this.days = days;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    /**
+     * Parses "day", "week" or "month" case-insensitively.
+     */
+    public static SalesPeriod fromCode(String code) {
+        if (code != null) {
+            for (SalesPeriod period : values()) {
+                if (period.name().equalsIgnoreCase(code.trim())) {
+                    return period;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unknown period: " + code + " (expected day, week or month)");
+    }
+}
@@ -0,0 +1,35 @@
+package com.appdevg5.technominds.Analytics;
+
+import com.appdevg5.technominds.Order.OrderStatusChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Feeds committed order events into the sales rollups on the analytics executor,
+ * so the order request never waits on (or fails because of) the aggregation.
+ */
+@Component
+public class SalesRollupListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SalesRollupListener.class);
+
+    private final SalesRollupService salesRollupService;
+
+    public SalesRollupListener(SalesRollupService salesRollupService) {
+        this.salesRollupService = salesRollupService;
+    }
+
+    @Async("analyticsExecutor")
+    @TransactionalEventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        try {
+            salesRollupService.apply(event);
+        } catch (Exception e) {
+            // The nightly reconciliation repairs the missed increment
+            log.error("Failed to update rollups for order {}", event.getOrderId(), e);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.appdevg5.technominds.Analytics;
+
+import com.appdevg5.technominds.Order.OrderStatus;
+import com.appdevg5.technominds.Order.OrderStatusChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Maintains the seller sales rollups and serves the seller dashboard from them.
+ * Orders are bucketed by the day they were placed, so a late completion or cancellation
+ * updates the day the order belongs to and the nightly rebuild produces the same numbers.
+ */
+@Service
+public class SalesRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(SalesRollupService.class);
+
+    private static final int TOP_PRODUCTS = 5;
+
+    private final SellerSalesDailyRepository salesDailyRepository;
+    private final SellerProductSalesDailyRepository productSalesDailyRepository;
+    private final AppliedOrderEventRepository appliedOrderEventRepository;
+    private final int reconcileDays;
+
+    public SalesRollupService(SellerSalesDailyRepository salesDailyRepository,
+                              SellerProductSalesDailyRepository productSalesDailyRepository,
+                              AppliedOrderEventRepository appliedOrderEventRepository,
+                              @Value("${analytics.reconcile.days:35}") int reconcileDays) {
+        this.salesDailyRepository = salesDailyRepository;
+        this.productSalesDailyRepository = productSalesDailyRepository;
+        this.appliedOrderEventRepository = appliedOrderEventRepository;
+        this.reconcileDays = reconcileDays;
+    }
+
+    /**
+     * Applies one committed order event to the rollups. Each status is reached at most once
+     * per order (compare-and-set transitions), but the event runs asynchronously and a rebuild
+     * may have counted the order in the meantime, so each (order, status) is claimed first
+     * and applied only once.
+     */
+    @Transactional
+    public void apply(OrderStatusChangedEvent event) {
+        LocalDate salesDate = event.getOrderCreatedAt() != null
+            ? event.getOrderCreatedAt().toLocalDate()
+            : LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        BigDecimal amount = event.getTotalAmount() != null ? event.getTotalAmount() : BigDecimal.ZERO;
+
+        if (counted(event.getStatus())
+                && appliedOrderEventRepository.markApplied(event.getOrderId(), event.getStatus().getCode(),
+                    salesDate, now) == 0) {
+            log.debug("Order {} {} already in the rollups", event.getOrderId(), event.getStatus().getCode());
+            return;
+        }
+
+        switch (event.getStatus()) {
+            case PENDING:
+                salesDailyRepository.increment(event.getSellerId(), salesDate, 1, 0, 0, BigDecimal.ZERO, now);
+                break;
+            case COMPLETED:
+                salesDailyRepository.increment(event.getSellerId(), salesDate, 0, 1, 0, amount, now);
+                productSalesDailyRepository.increment(event.getSellerId(), salesDate, event.getProductId(),
+                    event.getQuantity() != null ? event.getQuantity() : 0, amount, now);
+                break;
+            case CANCELLED:
+                salesDailyRepository.increment(event.getSellerId(), salesDate, 0, 0, 1, BigDecimal.ZERO, now);
+                break;
+            default:
+                // Intermediate statuses do not change any reported figure
+                break;
+        }
+    }
+
+    /**
+     * Nightly rebuild of recent days straight from the orders table. Repairs anything the
+     * incremental path missed (e.g. events lost on shutdown or dropped under load).
+     */
+    @Scheduled(cron = "${analytics.reconcile.cron:0 30 2 * * *}")
+    @Transactional
+    public void reconcileRecentDays() {
+        LocalDate from = LocalDate.now().minusDays(reconcileDays);
+        reconcile(from);
+        appliedOrderEventRepository.deleteBefore(from);
+    }
+
+    /**
+     * Replaces the rollup rows for every day on or after {@code from} with values recomputed from orders,
+     * and marks what it counted so that events still in flight for those orders are not added again.
+     * The markers are cleared first: that waits for an increment in progress, which the rebuild then includes.
+     */
+    @Transactional
+    public void reconcile(LocalDate from) {
+        long started = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+
+        appliedOrderEventRepository.deleteFrom(from);
+        salesDailyRepository.deleteFrom(from);
+        int days = salesDailyRepository.rebuildFrom(from.atStartOfDay(),
+            OrderStatus.COMPLETED.getCode(), OrderStatus.CANCELLED.getCode(), now);
+
+        productSalesDailyRepository.deleteFrom(from);
+        int productDays = productSalesDailyRepository.rebuildFrom(from.atStartOfDay(),
+            OrderStatus.COMPLETED.getCode(), now);
+
+        appliedOrderEventRepository.markRebuiltPlacements(from.atStartOfDay(), OrderStatus.PENDING.getCode(), now);
+        appliedOrderEventRepository.markRebuiltOutcomes(from.atStartOfDay(),
+            OrderStatus.COMPLETED.getCode(), OrderStatus.CANCELLED.getCode(), now);
+
+        log.info("Reconciled rollups since {}: {} seller days, {} product days in {}ms",
+            from, days, productDays, System.currentTimeMillis() - started);
+    }
+
+    // Statuses that change a reported figure
+    private static boolean counted(OrderStatus status) {
+        return status == OrderStatus.PENDING || status == OrderStatus.COMPLETED || status == OrderStatus.CANCELLED;
+    }
+
+    @Transactional(readOnly = true)
+    public SellerSalesReportDTO getSellerReport(Integer sellerId, SalesPeriod period) {
+        LocalDate to = LocalDate.now();
+        LocalDate from = to.minusDays(period.getDays() - 1L);
+
+        List<SellerSalesDailyEntity> days =
+            salesDailyRepository.findBySellerIdAndSalesDateBetweenOrderBySalesDateAsc(sellerId, from, to);
+
+        int placed = 0;
+        int completed = 0;
+        int cancelled = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (SellerSalesDailyEntity day : days) {
+            placed += day.getOrdersPlaced();
+            completed += day.getOrdersCompleted();
+            cancelled += day.getOrdersCancelled();
+            revenue = revenue.add(day.getRevenue());
+        }
+
+        SellerSalesReportDTO report = new SellerSalesReportDTO();
+        report.setSellerId(sellerId);
+        report.setPeriod(period.name().toLowerCase());
+        report.setFrom(from);
+        report.setTo(to);
+        report.setOrdersPlaced(placed);
+        report.setOrdersCompleted(completed);
+        report.setOrdersCancelled(cancelled);
+        report.setRevenue(revenue);
+        report.setAverageOrderValue(completed > 0
+            ? revenue.divide(BigDecimal.valueOf(completed), 2, RoundingMode.HALF_UP)
+            : BigDecimal.ZERO);
+        report.setCancellationRate(placed > 0
+            ? BigDecimal.valueOf(cancelled).divide(BigDecimal.valueOf(placed), 4, RoundingMode.HALF_UP)
+            : BigDecimal.ZERO);
+        report.setDaily(days.stream().map(SalesDayDTO::new).toList());
+        report.setTopProducts(productSalesDailyRepository.findTopProducts(
+            sellerId, from, to, PageRequest.of(0, TOP_PRODUCTS)));
+        return report;
+    }
+}
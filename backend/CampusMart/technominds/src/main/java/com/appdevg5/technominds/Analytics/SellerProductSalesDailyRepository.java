@@ -0,0 +1,77 @@
+package com.appdevg5.technominds.Analytics;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SellerProductSalesDailyRepository extends JpaRepository<SellerProductSalesDailyEntity, Long> {
+
+    /**
+     * Best-selling products of a seller within an inclusive date range, by revenue.
+     * The page size limits how many products are returned.
+     */
+    @Query("SELECT new com.appdevg5.technominds.Analytics.TopProductDTO(" +
+           "s.productId, p.name, SUM(s.unitsSold), SUM(s.revenue)) " +
+           "FROM SellerProductSalesDailyEntity s LEFT JOIN ProductEntity p ON p.id = s.productId " +
+           "WHERE s.sellerId = :sellerId AND s.salesDate BETWEEN :from AND :to " +
+           "GROUP BY s.productId, p.name " +
+           "ORDER BY SUM(s.revenue) DESC, SUM(s.unitsSold) DESC")
+    List<TopProductDTO> findTopProducts(@Param("sellerId") Integer sellerId,
+                                        @Param("from") LocalDate from,
+                                        @Param("to") LocalDate to,
+                                        Pageable pageable);
+
+    /**
+     * Adds the given deltas to a product's day, creating the row on first use.
+     */
+    // Native writes name their table so Hibernate does not flush every second-level cache region
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "seller_product_sales_daily"))
+    @Query(value = "INSERT INTO seller_product_sales_daily " +
+                   "(seller_profile_id, sales_date, product_id, units_sold, revenue, updated_at) " +
+                   "VALUES (:sellerId, :salesDate, :productId, :units, :revenue, :now) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "units_sold = units_sold + VALUES(units_sold), " +
+                   "revenue = revenue + VALUES(revenue), " +
+                   "updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int increment(@Param("sellerId") Integer sellerId,
+                  @Param("salesDate") LocalDate salesDate,
+                  @Param("productId") Integer productId,
+                  @Param("units") int units,
+                  @Param("revenue") BigDecimal revenue,
+                  @Param("now") LocalDateTime now);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "seller_product_sales_daily"))
+    @Query(value = "DELETE FROM seller_product_sales_daily WHERE sales_date >= :from", nativeQuery = true)
+    int deleteFrom(@Param("from") LocalDate from);
+
+    /**
+     * Rebuilds the per-product rows from completed orders placed on or after {@code fromTime}.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "seller_product_sales_daily"))
+    @Query(value = "INSERT INTO seller_product_sales_daily " +
+                   "(seller_profile_id, sales_date, product_id, units_sold, revenue, updated_at) " +
+                   "SELECT o.seller_profile_id, CAST(o.created_at AS DATE), o.product_id, " +
+                   "SUM(o.quantity), SUM(o.total_amount), :now " +
+                   "FROM orders o WHERE o.created_at >= :fromTime AND o.status = :completed " +
+                   "GROUP BY o.seller_profile_id, CAST(o.created_at AS DATE), o.product_id",
+           nativeQuery = true)
+    int rebuildFrom(@Param("fromTime") LocalDateTime fromTime,
+                    @Param("completed") String completed,
+                    @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,112 @@
+package com.appdevg5.technominds.Analytics;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Daily sales rollup per seller: one row per (seller, day the orders were placed).
+ * Maintained incrementally by SalesRollupListener and rebuilt nightly by SalesRollupService.
+ */
+@Entity
+@Table(name = "seller_sales_daily", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_seller_sales_daily", columnNames = {"seller_profile_id", "sales_date"})
+})
+public class SellerSalesDailyEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "seller_profile_id", nullable = false)
+    private Integer sellerId;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "orders_placed", nullable = false)
+    private Integer ordersPlaced = 0;
+
+    @Column(name = "orders_completed", nullable = false)
+    private Integer ordersCompleted = 0;
+
+    @Column(name = "orders_cancelled", nullable = false)
+    private Integer ordersCancelled = 0;
+
+    // Sum of total_amount over completed orders
+    @Column(name = "revenue", precision = 12, scale = 2, nullable = false)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public SellerSalesDailyEntity() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getSellerId() {
+        return sellerId;
+    }
+
+    public void setSellerId(Integer sellerId) {
+        this.sellerId = sellerId;
+    }
+
+    public LocalDate getSalesDate() {
+        return salesDate;
+    }
+
+    public void setSalesDate(LocalDate salesDate) {
+        this.salesDate = salesDate;
+    }
+
+    public Integer getOrdersPlaced() {
+        return ordersPlaced;
+    }
+
+    public void setOrdersPlaced(Integer ordersPlaced) {
+        this.ordersPlaced = ordersPlaced;
+    }
+
+    public Integer getOrdersCompleted() {
+        return ordersCompleted;
+    }
+
+    public void setOrdersCompleted(Integer ordersCompleted) {
+        this.ordersCompleted = ordersCompleted;
+    }
+
+    public Integer getOrdersCancelled() {
+        return ordersCancelled;
+    }
+
+    public void setOrdersCancelled(Integer ordersCancelled) {
+        this.ordersCancelled = ordersCancelled;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,75 @@
+package com.appdevg5.technominds.Analytics;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SellerSalesDailyRepository extends JpaRepository<SellerSalesDailyEntity, Long> {
+
+    /**
+     * Daily rows for one seller within an inclusive date range, oldest first.
+     */
+    List<SellerSalesDailyEntity> findBySellerIdAndSalesDateBetweenOrderBySalesDateAsc(
+            Integer sellerId, LocalDate from, LocalDate to);
+
+    /**
+     * Adds the given deltas to a seller's day, creating the row on first use.
+     * A single statement, so concurrent increments for the same day never lose updates.
+     */
+    // Native writes name their table so Hibernate does not flush every second-level cache region
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "seller_sales_daily"))
+    @Query(value = "INSERT INTO seller_sales_daily " +
+                   "(seller_profile_id, sales_date, orders_placed, orders_completed, orders_cancelled, revenue, updated_at) " +
+                   "VALUES (:sellerId, :salesDate, :placed, :completed, :cancelled, :revenue, :now) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "orders_placed = orders_placed + VALUES(orders_placed), " +
+                   "orders_completed = orders_completed + VALUES(orders_completed), " +
+                   "orders_cancelled = orders_cancelled + VALUES(orders_cancelled), " +
+                   "revenue = revenue + VALUES(revenue), " +
+                   "updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int increment(@Param("sellerId") Integer sellerId,
+                  @Param("salesDate") LocalDate salesDate,
+                  @Param("placed") int placed,
+                  @Param("completed") int completed,
+                  @Param("cancelled") int cancelled,
+                  @Param("revenue") BigDecimal revenue,
+                  @Param("now") LocalDateTime now);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "seller_sales_daily"))
+    @Query(value = "DELETE FROM seller_sales_daily WHERE sales_date >= :from", nativeQuery = true)
+    int deleteFrom(@Param("from") LocalDate from);
+
+    /**
+     * Rebuilds the daily rows from the orders table for every day on or after {@code from}.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "seller_sales_daily"))
+    @Query(value = "INSERT INTO seller_sales_daily " +
+                   "(seller_profile_id, sales_date, orders_placed, orders_completed, orders_cancelled, revenue, updated_at) " +
+                   "SELECT o.seller_profile_id, CAST(o.created_at AS DATE), COUNT(*), " +
+                   "SUM(CASE WHEN o.status = :completed THEN 1 ELSE 0 END), " +
+                   "SUM(CASE WHEN o.status = :cancelled THEN 1 ELSE 0 END), " +
+                   "COALESCE(SUM(CASE WHEN o.status = :completed THEN o.total_amount ELSE 0 END), 0), " +
+                   ":now " +
+                   "FROM orders o WHERE o.created_at >= :fromTime " +
+                   "GROUP BY o.seller_profile_id, CAST(o.created_at AS DATE)",
+           nativeQuery = true)
+    int rebuildFrom(@Param("fromTime") LocalDateTime fromTime,
+                    @Param("completed") String completed,
+                    @Param("cancelled") String cancelled,
+                    @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,126 @@
+package com.appdevg5.technominds.Analytics;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Seller dashboard report for one period, built entirely from the rollup tables.
+ * Orders are attributed to the day they were placed; revenue and average order value
+ * count completed orders only, and cancellation rate is cancelled / placed.
+ */
+public class SellerSalesReportDTO {
+
+    private Integer sellerId;
+    private String period;
+    private LocalDate from;
+    private LocalDate to;
+    private Integer ordersPlaced;
+    private Integer ordersCompleted;
+    private Integer ordersCancelled;
+    private BigDecimal revenue;
+    private BigDecimal averageOrderValue;
+    private BigDecimal cancellationRate;
+    private List<SalesDayDTO> daily;
+    private List<TopProductDTO> topProducts;
+
+    // Constructors
+    public SellerSalesReportDTO() {}
+
+    // Getters and Setters
+    public Integer getSellerId() {
+        return sellerId;
+    }
+
+    public void setSellerId(Integer sellerId) {
+        this.sellerId = sellerId;
+    }
+
+    public String getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(String period) {
+        this.period = period;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public Integer getOrdersPlaced() {
+        return ordersPlaced;
+    }
+
+    public void setOrdersPlaced(Integer ordersPlaced) {
+        this.ordersPlaced = ordersPlaced;
+    }
+
+    public Integer getOrdersCompleted() {
+        return ordersCompleted;
+    }
+
+    public void setOrdersCompleted(Integer ordersCompleted) {
+        this.ordersCompleted = ordersCompleted;
+    }
+
+    public Integer getOrdersCancelled() {
+        return ordersCancelled;
+    }
+
+    public void setOrdersCancelled(Integer ordersCancelled) {
+        this.ordersCancelled = ordersCancelled;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    public BigDecimal getAverageOrderValue() {
+        return averageOrderValue;
+    }
+
+    public void setAverageOrderValue(BigDecimal averageOrderValue) {
+        this.averageOrderValue = averageOrderValue;
+    }
+
+    public BigDecimal getCancellationRate() {
+        return cancellationRate;
+    }
+
+    public void setCancellationRate(BigDecimal cancellationRate) {
+        this.cancellationRate = cancellationRate;
+    }
+
+    public List<SalesDayDTO> getDaily() {
+        return daily;
+    }
+
+    public void setDaily(List<SalesDayDTO> daily) {
+        this.daily = daily;
+    }
+
+    public List<TopProductDTO> getTopProducts() {
+        return topProducts;
+    }
+
+    public void setTopProducts(List<TopProductDTO> topProducts) {
+        this.topProducts = topProducts;
+    }
+}
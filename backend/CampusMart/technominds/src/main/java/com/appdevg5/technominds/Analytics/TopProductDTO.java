@@ -0,0 +1,57 @@
+package com.appdevg5.technominds.Analytics;
+
+import java.math.BigDecimal;
+
+/**
+ * One entry of a seller's top products ranking.
+ */
+public class TopProductDTO {
+
+    private Integer productId;
+    private String productName;
+    private Long unitsSold;
+    private BigDecimal revenue;
+
+    // Constructors
+    public TopProductDTO() {}
+
+    public TopProductDTO(Integer productId, String productName, Long unitsSold, BigDecimal revenue) {
+        this.productId = productId;
+        this.productName = productName;
+        this.unitsSold = unitsSold;
+        this.revenue = revenue;
+    }
+
+    // Getters and Setters
+    public Integer getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Integer productId) {
+        this.productId = productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    public Long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public void setUnitsSold(Long unitsSold) {
+        this.unitsSold = unitsSold;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+}
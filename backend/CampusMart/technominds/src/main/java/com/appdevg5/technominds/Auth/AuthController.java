@@ -1,10 +1,13 @@
 package com.appdevg5.technominds.Auth;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.Map;
 
 @RestController
@@ -25,6 +28,8 @@ public class AuthController {
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT)
                     .body(Map.of("error", e.getMessage()));
+        } catch (AuthThrottledException e) {
+            return tooManyRequests(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Registration failed"));
@@ -32,19 +37,54 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
         try {
-            Map<String, Object> response = authService.login(request);
+            Map<String, Object> response = authService.login(request, httpRequest.getRemoteAddr());
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("error", e.getMessage()));
+        } catch (AuthThrottledException e) {
+            return tooManyRequests(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Login failed"));
         }
     }
 
+    /**
+     * Exchange a refresh token for a new access token (the refresh token is rotated)
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        try {
+            return ResponseEntity.ok(authService.refresh(request.getRefreshToken()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Token refresh failed"));
+        }
+    }
+
+    /**
+     * Revoke the caller's access token and, if sent, its refresh token
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestBody(required = false) RefreshTokenRequest request,
+                                    HttpServletRequest httpRequest) {
+        try {
+            authService.logout((String) httpRequest.getAttribute("tokenId"),
+                    (Instant) httpRequest.getAttribute("tokenExpiresAt"),
+                    request != null ? request.getRefreshToken() : null);
+            return ResponseEntity.ok(Map.of("message", "Logged out"));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Logout failed"));
+        }
+    }
+
     @GetMapping("/test")
     public ResponseEntity<Map<String, String>> test() {
         return ResponseEntity.ok(Map.of("message", "Auth API is working!"));
@@ -88,6 +128,8 @@ public class AuthController {
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Map.of("error", e.getMessage()));
+        } catch (AuthThrottledException e) {
+            return tooManyRequests(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Failed to fix password"));
@@ -100,9 +142,13 @@ public class AuthController {
     @PutMapping("/users/{userId}/change-password")
     public ResponseEntity<?> changePassword(
             @PathVariable Integer userId,
-            @Valid @RequestBody ChangePasswordRequest request) {
+            @Valid @RequestBody ChangePasswordRequest request,
+            HttpServletRequest httpRequest) {
         try {
-            authService.changePassword(userId, request.getCurrentPassword(), request.getNewPassword());
+            authService.changePassword(userId, request.getCurrentPassword(), request.getNewPassword(),
+                    httpRequest.getRemoteAddr());
+            authService.revokeAccessToken((String) httpRequest.getAttribute("tokenId"),
+                    (Instant) httpRequest.getAttribute("tokenExpiresAt"));
             return ResponseEntity.ok(Map.of("message", "Password changed successfully"));
         } catch (IllegalArgumentException e) {
             // Handle both "user not found" and "incorrect password" errors
@@ -112,9 +158,17 @@ public class AuthController {
             }
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(Map.of("error", e.getMessage()));
+        } catch (AuthThrottledException e) {
+            return tooManyRequests(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Failed to change password"));
         }
     }
+
+    private static ResponseEntity<?> tooManyRequests(AuthThrottledException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(Map.of("error", e.getMessage()));
+    }
 }
@@ -1,44 +1,68 @@
 package com.appdevg5.technominds.Auth;
 
+import com.appdevg5.technominds.Change.ChangeLogService;
 import com.appdevg5.technominds.Profile.ProfileEntity;
 import com.appdevg5.technominds.Profile.ProfileRepository;
 import com.appdevg5.technominds.User.UserEntity;
 import com.appdevg5.technominds.User.UserRepository;
 import com.appdevg5.technominds.config.JwtUtil;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Password work goes through PasswordHashingService (bounded pool, 429 when saturated)
+ * and is never done inside a transaction, so a slow hash never holds a database connection.
+ */
 @Service
 public class AuthService {
 
     private final UserRepository userRepository;
     private final ProfileRepository profileRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashing;
+    private final LoginThrottle loginThrottle;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
+    private final TransactionTemplate transactionTemplate;
     private final JwtUtil jwtUtil;
+    private final ChangeLogService changeLogService;
 
-    public AuthService(UserRepository userRepository, ProfileRepository profileRepository, JwtUtil jwtUtil) {
+    public AuthService(UserRepository userRepository, ProfileRepository profileRepository,
+                       PasswordHashingService passwordHashing, LoginThrottle loginThrottle,
+                       RefreshTokenService refreshTokenService, TokenRevocationList tokenRevocationList,
+                       PlatformTransactionManager transactionManager, JwtUtil jwtUtil,
+                       ChangeLogService changeLogService) {
         this.userRepository = userRepository;
         this.profileRepository = profileRepository;
+        this.passwordHashing = passwordHashing;
+        this.loginThrottle = loginThrottle;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationList = tokenRevocationList;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
         this.jwtUtil = jwtUtil;
-        this.passwordEncoder = new BCryptPasswordEncoder();
+        this.changeLogService = changeLogService;
     }
 
-    @Transactional
     public Map<String, Object> register(RegisterRequest request) {
         // Check if email exists
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new IllegalArgumentException("Email already exists");
         }
 
+        // Hash before opening the transaction
+        String hashedPassword = passwordHashing.encode(request.getPassword());
+        return transactionTemplate.execute(status -> createAccount(request, hashedPassword));
+    }
+
+    private Map<String, Object> createAccount(RegisterRequest request, String hashedPassword) {
         // Create user with hashed password
         UserEntity user = new UserEntity();
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(hashedPassword);
         user = userRepository.save(user);
 
         // Create profile
@@ -50,13 +74,17 @@ public class AuthService {
         profile.setInstagramHandle(request.getInstagramHandle());
         profile.setAcademicLevel(request.getAcademicLevel());
         profile = profileRepository.save(profile);
+        changeLogService.upserted(ChangeLogService.PROFILE, profile.getId());
 
-        // Generate real JWT token
+        // Generate a short-lived access token plus a refresh token to renew it
         String token = jwtUtil.generateToken(user.getId(), user.getEmail(), profile.getId());
+        String refreshToken = refreshTokenService.issue(user.getId());
 
         // Return response
         Map<String, Object> response = new HashMap<>();
         response.put("token", token);
+        response.put("refreshToken", refreshToken);
+        response.put("expiresIn", jwtUtil.getExpirationMillis() / 1000);
         
         Map<String, Object> userData = new HashMap<>();
         userData.put("id", user.getId());
@@ -83,26 +111,37 @@ public class AuthService {
         return response;
     }
 
-    public Map<String, Object> login(LoginRequest request) {
+    public Map<String, Object> login(LoginRequest request, String clientIp) {
+        // Refuse accounts/addresses with too many recent failures before doing any hashing
+        loginThrottle.checkAllowed(request.getEmail(), clientIp);
+
         // Find user by email
-        UserEntity user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new IllegalArgumentException("Invalid credentials"));
+        UserEntity user = userRepository.findByEmail(request.getEmail()).orElse(null);
+        if (user == null) {
+            loginThrottle.recordFailure(request.getEmail(), clientIp);
+            throw new IllegalArgumentException("Invalid credentials");
+        }
 
         // Check password using BCrypt
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashing.matches(request.getPassword(), user.getPassword())) {
+            loginThrottle.recordFailure(request.getEmail(), clientIp);
             throw new IllegalArgumentException("Invalid credentials");
         }
+        loginThrottle.recordSuccess(request.getEmail());
 
         // Find profile
         ProfileEntity profile = profileRepository.findByEmail(user.getEmail())
                 .orElseThrow(() -> new IllegalArgumentException("Profile not found"));
 
-        // Generate real JWT token
+        // Generate a short-lived access token plus a refresh token to renew it
         String token = jwtUtil.generateToken(user.getId(), user.getEmail(), profile.getId());
+        String refreshToken = refreshTokenService.issue(user.getId());
 
         // Return response
         Map<String, Object> response = new HashMap<>();
         response.put("token", token);
+        response.put("refreshToken", refreshToken);
+        response.put("expiresIn", jwtUtil.getExpirationMillis() / 1000);
         
         Map<String, Object> userData = new HashMap<>();
         userData.put("id", user.getId());
@@ -129,6 +168,44 @@ public class AuthService {
         return response;
     }
 
+    /**
+     * Exchange a refresh token for a new access token and a rotated refresh token
+     */
+    public Map<String, Object> refresh(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new IllegalArgumentException("Refresh token is required");
+        }
+        RefreshTokenService.RotatedToken rotated = refreshTokenService.rotate(refreshToken);
+
+        UserEntity user = userRepository.findById(rotated.getUserId())
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        ProfileEntity profile = profileRepository.findByEmail(user.getEmail())
+                .orElseThrow(() -> new IllegalArgumentException("Profile not found"));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("token", jwtUtil.generateToken(user.getId(), user.getEmail(), profile.getId()));
+        response.put("refreshToken", rotated.getRefreshToken());
+        response.put("expiresIn", jwtUtil.getExpirationMillis() / 1000);
+        return response;
+    }
+
+    /**
+     * End a session: revoke the presented access token and its refresh token family
+     */
+    public void logout(String accessTokenId, Instant accessTokenExpiresAt, String refreshToken) {
+        revokeAccessToken(accessTokenId, accessTokenExpiresAt);
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
+    }
+
+    /**
+     * Reject an access token from now until it would have expired
+     */
+    public void revokeAccessToken(String accessTokenId, Instant accessTokenExpiresAt) {
+        tokenRevocationList.revoke(accessTokenId, accessTokenExpiresAt);
+    }
+
     /**
      * Check user password format (for debugging)
      */
@@ -152,13 +229,12 @@ public class AuthService {
     /**
      * Fix password hashing for existing users
      */
-    @Transactional
     public void fixUserPassword(String email, String plainPassword) {
         UserEntity user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         // Hash the password properly
-        String hashedPassword = passwordEncoder.encode(plainPassword);
+        String hashedPassword = passwordHashing.encode(plainPassword);
         user.setPassword(hashedPassword);
         userRepository.save(user);
     }
@@ -166,14 +242,17 @@ public class AuthService {
     /**
      * Change user password
      */
-    @Transactional
-    public void changePassword(Integer userId, String currentPassword, String newPassword) {
+    public void changePassword(Integer userId, String currentPassword, String newPassword, String clientIp) {
         // Find user by ID
         UserEntity user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
+        // Guessing the current password is throttled the same way as login
+        loginThrottle.checkAllowed(user.getEmail(), clientIp);
+
         // Verify current password
-        if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+        if (!passwordHashing.matches(currentPassword, user.getPassword())) {
+            loginThrottle.recordFailure(user.getEmail(), clientIp);
             throw new IllegalArgumentException("Current password is incorrect");
         }
 
@@ -183,8 +262,11 @@ public class AuthService {
         }
 
         // Hash and save new password
-        String hashedPassword = passwordEncoder.encode(newPassword);
+        String hashedPassword = passwordHashing.encode(newPassword);
         user.setPassword(hashedPassword);
         userRepository.save(user);
+
+        // Sign out every other session; their access tokens lapse within the access token lifetime
+        refreshTokenService.revokeAllForUser(userId);
     }
 }
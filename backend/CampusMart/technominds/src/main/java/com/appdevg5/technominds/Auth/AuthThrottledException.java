@@ -0,0 +1,20 @@
+package com.appdevg5.technominds.Auth;
+
+/**
+ * Thrown when an auth request is refused before any password work is done:
+ * either the hashing pool is saturated or the caller has too many recent failures.
+ * Mapped to 429 Too Many Requests with a Retry-After header.
+ */
+public class AuthThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public AuthThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,83 @@
+package com.appdevg5.technominds.Auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory counters of recent password failures per account and per client IP.
+ * Checked before any hash is computed, so repeated bad logins (guessing one account,
+ * or one address spraying many accounts) cost a map lookup instead of a BCrypt round.
+ * Counters expire a fixed window after the last failure; a successful login clears the account's counter.
+ * State is per instance, which is enough to take the load off the hashing pool.
+ */
+@Component
+public class LoginThrottle {
+
+    private final int maxAccountFailures;
+    private final int maxIpFailures;
+    private final long windowSeconds;
+    private final Cache<String, AtomicInteger> accountFailures;
+    private final Cache<String, AtomicInteger> ipFailures;
+
+    public LoginThrottle(@Value("${auth.throttle.max-account-failures:5}") int maxAccountFailures,
+                         @Value("${auth.throttle.max-ip-failures:50}") int maxIpFailures,
+                         @Value("${auth.throttle.window-seconds:900}") long windowSeconds,
+                         @Value("${auth.throttle.max-entries:100000}") long maxEntries) {
+        this.maxAccountFailures = maxAccountFailures;
+        this.maxIpFailures = maxIpFailures;
+        this.windowSeconds = windowSeconds;
+        Duration window = Duration.ofSeconds(windowSeconds);
+        this.accountFailures = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(window).build();
+        this.ipFailures = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(window).build();
+    }
+
+    /**
+     * @throws AuthThrottledException if the account or the IP has reached its failure limit
+     */
+    public void checkAllowed(String account, String clientIp) {
+        if (count(accountFailures, accountKey(account)) >= maxAccountFailures
+                || count(ipFailures, clientIp) >= maxIpFailures) {
+            throw new AuthThrottledException("Too many failed attempts, please try again later", windowSeconds);
+        }
+    }
+
+    public void recordFailure(String account, String clientIp) {
+        increment(accountFailures, accountKey(account));
+        increment(ipFailures, clientIp);
+    }
+
+    public void recordSuccess(String account) {
+        String key = accountKey(account);
+        if (key != null) {
+            accountFailures.invalidate(key);
+        }
+    }
+
+    private static String accountKey(String account) {
+        return account == null ? null : account.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int count(Cache<String, AtomicInteger> cache, String key) {
+        if (key == null) {
+            return 0;
+        }
+        AtomicInteger failures = cache.getIfPresent(key);
+        return failures == null ? 0 : failures.get();
+    }
+
+    private static void increment(Cache<String, AtomicInteger> cache, String key) {
+        if (key == null) {
+            return;
+        }
+        // put() after the increment refreshes expireAfterWrite, so the window runs from the last failure
+        AtomicInteger failures = cache.get(key, k -> new AtomicInteger());
+        failures.incrementAndGet();
+        cache.put(key, failures);
+    }
+}
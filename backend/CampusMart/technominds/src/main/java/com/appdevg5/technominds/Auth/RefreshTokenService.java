@@ -0,0 +1,144 @@
+package com.appdevg5.technominds.Auth;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Issues and rotates opaque refresh tokens. Only a SHA-256 of each token is stored,
+ * so a leaked table cannot be replayed. Reusing a rotated token is treated as theft
+ * and revokes every token descended from the same login.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration lifetime;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${jwt.refresh-expiration:1209600000}") long lifetimeMillis) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.lifetime = Duration.ofMillis(lifetimeMillis);
+    }
+
+    /**
+     * Starts a new token family for a fresh login.
+     * @return the raw token to hand to the client
+     */
+    @Transactional
+    public String issue(Integer userId) {
+        return issueInFamily(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for a new one in the same family.
+     * @return the rotated token and its owner
+     * @throws IllegalArgumentException if the token is unknown, expired, or was already used
+     */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public RotatedToken rotate(String rawToken) {
+        RefreshTokenEntity current = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
+        LocalDateTime now = LocalDateTime.now();
+
+        if (!current.getExpiresAt().isAfter(now)) {
+            throw new IllegalArgumentException("Refresh token expired");
+        }
+        // Already rotated (or lost a race with a concurrent refresh): assume it was stolen
+        if (current.getRevokedAt() != null || refreshTokenRepository.revokeIfActive(current.getId(), now) == 0) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            log.warn("Refresh token reuse for user {}, revoked family {}", current.getUserId(), current.getFamilyId());
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+
+        return new RotatedToken(current.getUserId(), issueInFamily(current.getUserId(), current.getFamilyId()));
+    }
+
+    /**
+     * Ends the session a refresh token belongs to. Unknown tokens are ignored.
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    /**
+     * Ends every session of a user (e.g. after a password change).
+     */
+    @Transactional
+    public void revokeAllForUser(Integer userId) {
+        refreshTokenRepository.revokeAllForUser(userId, LocalDateTime.now());
+    }
+
+    @Scheduled(cron = "${jwt.refresh-purge-cron:0 45 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("Purged {} expired refresh tokens", purged);
+    }
+
+    private String issueInFamily(Integer userId, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        RefreshTokenEntity entity = new RefreshTokenEntity();
+        entity.setUserId(userId);
+        entity.setTokenHash(hash(rawToken));
+        entity.setFamilyId(familyId);
+        entity.setCreatedAt(now);
+        entity.setExpiresAt(now.plus(lifetime));
+        refreshTokenRepository.save(entity);
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Result of a successful rotation.
+     */
+    public static class RotatedToken {
+
+        private final Integer userId;
+        private final String refreshToken;
+
+        public RotatedToken(Integer userId, String refreshToken) {
+            this.userId = userId;
+            this.refreshToken = refreshToken;
+        }
+
+        public Integer getUserId() {
+            return userId;
+        }
+
+        public String getRefreshToken() {
+            return refreshToken;
+        }
+    }
+}
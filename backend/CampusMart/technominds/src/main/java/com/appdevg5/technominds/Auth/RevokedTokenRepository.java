@@ -0,0 +1,34 @@
+package com.appdevg5.technominds.Auth;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedTokenEntity, Long> {
+
+    boolean existsByTokenId(String tokenId);
+
+    /**
+     * Token IDs revoked at or after the given time (incremental load of the in-memory filter).
+     */
+    @Query("SELECT r.tokenId FROM RevokedTokenEntity r WHERE r.revokedAt >= :since")
+    List<String> findTokenIdsRevokedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Token IDs of revoked tokens that have not expired yet (full rebuild of the in-memory filter).
+     */
+    @Query("SELECT r.tokenId FROM RevokedTokenEntity r WHERE r.expiresAt > :now")
+    List<String> findActiveTokenIds(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedTokenEntity r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,138 @@
+package com.appdevg5.technominds.Auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Revoked access-token IDs, checked on every authenticated request without touching the database.
+ * <p>
+ * An in-memory Bloom filter answers "definitely not revoked" for almost every token. Only a
+ * positive (a revoked token, or the rare false positive) falls through to an exact lookup in
+ * revoked_tokens, and that answer is cached. The filter picks up revocations made by other
+ * instances by loading only rows revoked since the last sync, and is rebuilt periodically
+ * from unexpired rows so it does not fill up with tokens that have expired anyway.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final Duration syncOverlap;
+
+    private volatile TokenIdBloomFilter filter;
+    private volatile LocalDateTime syncedUpTo;
+    // A j.u.c. lock rather than synchronized: it is held across queries, which would pin a virtual thread
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Exact answers for Bloom positives, so a false positive costs one query, not one per request
+    private final Cache<String, Boolean> exactLookups;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               @Value("${jwt.revocation.expected-entries:100000}") long expectedInsertions,
+                               @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveProbability,
+                               @Value("${jwt.revocation.sync-overlap-seconds:60}") long syncOverlapSeconds) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.syncOverlap = Duration.ofSeconds(syncOverlapSeconds);
+        this.filter = new TokenIdBloomFilter(expectedInsertions, falsePositiveProbability);
+        this.syncedUpTo = LocalDateTime.now();
+        this.exactLookups = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMinutes(15))
+                .build();
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        return exactLookups.get(tokenId, revokedTokenRepository::existsByTokenId);
+    }
+
+    /**
+     * Revokes an access token until it expires. Safe to call twice for the same token.
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        try {
+            revokedTokenRepository.save(new RevokedTokenEntity(tokenId,
+                    LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()), LocalDateTime.now()));
+        } catch (DataIntegrityViolationException e) {
+            // Already revoked (e.g. logout sent twice)
+        }
+        rebuildLock.lock();
+        try {
+            filter.put(tokenId);
+        } finally {
+            rebuildLock.unlock();
+        }
+        exactLookups.put(tokenId, Boolean.TRUE);
+    }
+
+    /**
+     * Adds tokens revoked on any instance since the last sync. Re-reads a short overlap
+     * so rows whose transactions committed late are not missed; re-adding is harmless.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:15000}",
+               initialDelayString = "${jwt.revocation.sync-interval-ms:15000}")
+    public void syncRecent() {
+        rebuildLock.lock();
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<String> tokenIds = revokedTokenRepository.findTokenIdsRevokedSince(syncedUpTo.minus(syncOverlap));
+            for (String tokenId : tokenIds) {
+                filter.put(tokenId);
+                exactLookups.invalidate(tokenId);
+            }
+            syncedUpTo = startedAt;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Purges expired rows and rebuilds the filter from the ones still in force.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${jwt.revocation.rebuild-cron:0 15 * * * *}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            int purged = revokedTokenRepository.deleteExpired(startedAt);
+            List<String> active = revokedTokenRepository.findActiveTokenIds(startedAt);
+
+            TokenIdBloomFilter rebuilt = new TokenIdBloomFilter(
+                    Math.max(expectedInsertions, active.size() * 2L), falsePositiveProbability);
+            active.forEach(rebuilt::put);
+            filter = rebuilt;
+            syncedUpTo = startedAt;
+            exactLookups.invalidateAll();
+
+            log.info("Loaded {} revoked tokens, purged {}", active.size(), purged);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
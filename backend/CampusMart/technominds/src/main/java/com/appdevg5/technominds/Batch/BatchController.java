@@ -0,0 +1,38 @@
+package com.appdevg5.technominds.Batch;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST Controller for composing a page from several API calls in one round trip.
+ * Base URL: /api/batch
+ */
+@RestController
+@RequestMapping("/api/batch")
+public class BatchController {
+
+    private final BatchService batchService;
+
+    public BatchController(BatchService batchService) {
+        this.batchService = batchService;
+    }
+
+    // POST /api/batch
+    // Body: {"requests": [{"id": "product", "path": "/api/products/5"}, {"id": "liked", "path": "/api/products/5/liked?profileId=3"}]}
+    // Returns {"responses": [{"id": "product", "status": 200, "body": {...}}, ...]} in request order
+    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> executeBatch(@RequestBody BatchRequest batch, HttpServletRequest request) {
+        try {
+            List<BatchItemResponse> responses = batchService.execute(batch.getRequests(), request);
+            return ResponseEntity.ok(Map.of("responses", responses));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.appdevg5.technominds.Batch;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+/**
+ * Outcome of one sub-request: its status and the JSON body the endpoint wrote, embedded as is.
+ */
+public class BatchItemResponse {
+
+    private String id;
+    private int status;
+    @JsonRawValue
+    private String body;
+
+    // Constructors
+    public BatchItemResponse() {}
+
+    public BatchItemResponse(String id, int status, String body) {
+        this.id = id;
+        this.status = status;
+        this.body = body;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public void setBody(String body) {
+        this.body = body;
+    }
+}
@@ -0,0 +1,63 @@
+package com.appdevg5.technominds.Batch;
+
+import java.util.List;
+
+/**
+ * Body of POST /api/batch: the GET requests a page needs, e.g.
+ * {"requests": [{"id": "product", "path": "/api/products/5"}, {"id": "seller", "path": "/api/profiles/3/seller-info"}]}
+ */
+public class BatchRequest {
+
+    private List<Item> requests;
+
+    // Getters and setters
+    public List<Item> getRequests() {
+        return requests;
+    }
+
+    public void setRequests(List<Item> requests) {
+        this.requests = requests;
+    }
+
+    /**
+     * One sub-request. The id is echoed back so the caller can match responses; it defaults to the position.
+     */
+    public static class Item {
+
+        private String id;
+        private String method = "GET";
+        private String path;
+
+        public Item() {}
+
+        public Item(String id, String path) {
+            this.id = id;
+            this.path = path;
+        }
+
+        // Getters and setters
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.appdevg5.technominds.Batch;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.DispatcherServlet;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs the GET requests of a batch in parallel, each straight through the DispatcherServlet.
+ * The servlet filters (JWT parsing, SQL accounting, replica stickiness) ran once for the batch;
+ * the sub-requests inherit their outcome: the caller's authentication attributes, and (through
+ * the batch executor's task decorator) whether reads have to go to the primary.
+ */
+@Service
+public class BatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchService.class);
+
+    // Set by JwtAuthFilter on the batch request
+    private static final Set<String> AUTH_ATTRIBUTES = Set.of("userId", "email", "profileId", "tokenId", "tokenExpiresAt");
+
+    // Describe the batch's own body or apply to the batch response as a whole, not to its entries
+    private static final Set<String> DROPPED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.ACCEPT,
+            HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE);
+
+    private final DispatcherServlet dispatcherServlet;
+    private final AsyncTaskExecutor batchExecutor;
+    private final JsonMapper jsonMapper;
+    private final int maxRequests;
+    private final long timeoutMillis;
+
+    public BatchService(DispatcherServlet dispatcherServlet,
+                        @Qualifier("batchExecutor") AsyncTaskExecutor batchExecutor,
+                        JsonMapper jsonMapper,
+                        @Value("${batch.max-requests:20}") int maxRequests,
+                        @Value("${batch.timeout-ms:10000}") long timeoutMillis) {
+        this.dispatcherServlet = dispatcherServlet;
+        this.batchExecutor = batchExecutor;
+        this.jsonMapper = jsonMapper;
+        this.maxRequests = maxRequests;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * @return one response per request, in request order. Sub-requests still running when the
+     * batch times out are reported as 504.
+     */
+    public List<BatchItemResponse> execute(List<BatchRequest.Item> requests, HttpServletRequest batchRequest) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("A batch needs at least one request");
+        }
+        if (requests.size() > maxRequests) {
+            throw new IllegalArgumentException("A batch can hold at most " + maxRequests + " requests");
+        }
+
+        Map<String, List<String>> headers = forwardedHeaders(batchRequest);
+        Map<String, Object> attributes = new HashMap<>();
+        for (String name : AUTH_ATTRIBUTES) {
+            Object value = batchRequest.getAttribute(name);
+            if (value != null) {
+                attributes.put(name, value);
+            }
+        }
+
+        List<String> ids = new ArrayList<>();
+        List<Future<BatchItemResponse>> pending = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            BatchRequest.Item item = requests.get(i);
+            String id = item.getId() != null ? item.getId() : String.valueOf(i);
+            ids.add(id);
+            BatchItemResponse rejected = validate(id, item);
+            pending.add(rejected != null
+                    ? CompletableFuture.completedFuture(rejected)
+                    : batchExecutor.submit(() -> dispatch(id, item.getPath(), batchRequest, headers, attributes)));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        List<BatchItemResponse> responses = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            Future<BatchItemResponse> future = pending.get(i);
+            try {
+                responses.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                // Interrupts the sub-request's thread, so blocking I/O and JDBC waits give up early
+                future.cancel(true);
+                responses.add(error(ids.get(i), HttpStatus.GATEWAY_TIMEOUT.value(),
+                        "Timed out after " + timeoutMillis + "ms"));
+            } catch (ExecutionException e) {
+                responses.add(error(ids.get(i), HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getCause().getMessage()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for batch requests", e);
+            }
+        }
+        return responses;
+    }
+
+    private BatchItemResponse validate(String id, BatchRequest.Item item) {
+        if (item.getMethod() != null && !"GET".equalsIgnoreCase(item.getMethod())) {
+            return error(id, HttpStatus.METHOD_NOT_ALLOWED.value(), "Only GET requests can be batched");
+        }
+        String path = item.getPath();
+        if (path == null || !path.startsWith("/api/")) {
+            return error(id, HttpStatus.BAD_REQUEST.value(), "Path must start with /api/");
+        }
+        if (path.startsWith("/api/batch")) {
+            return error(id, HttpStatus.BAD_REQUEST.value(), "Batches cannot be nested");
+        }
+        return null;
+    }
+
+    private BatchItemResponse dispatch(String id, String path, HttpServletRequest batchRequest,
+                                       Map<String, List<String>> headers, Map<String, Object> attributes) {
+        BatchSubRequest request = new BatchSubRequest(batchRequest, path, headers, attributes);
+        BufferedSubResponse response = new BufferedSubResponse();
+        try {
+            dispatcherServlet.service(request, response);
+        } catch (Exception e) {
+            log.warn("GET {} failed", path, e);
+            return error(id, HttpStatus.INTERNAL_SERVER_ERROR.value(), e.getMessage());
+        }
+        return new BatchItemResponse(id, response.getStatus(), bodyOf(response));
+    }
+
+    // JSON bodies are embedded as they were written; anything else becomes a JSON string
+    private String bodyOf(BufferedSubResponse response) {
+        byte[] bytes = response.getContentAsByteArray();
+        if (bytes.length == 0) {
+            return response.getErrorMessage() != null
+                    ? jsonMapper.writeValueAsString(Map.of("error", response.getErrorMessage()))
+                    : null;
+        }
+        String contentType = response.getContentType();
+        MediaType mediaType = contentType != null ? MediaType.parseMediaType(contentType) : null;
+        Charset charset = mediaType != null && mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+        String text = new String(bytes, charset);
+        boolean json = mediaType != null && (MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)
+                || (mediaType.getSubtypeSuffix() != null && mediaType.getSubtypeSuffix().equals("json")));
+        return json ? text : jsonMapper.writeValueAsString(text);
+    }
+
+    private BatchItemResponse error(String id, int status, String message) {
+        return new BatchItemResponse(id, status,
+                jsonMapper.writeValueAsString(Map.of("error", message != null ? message : "Request failed")));
+    }
+
+    // Copied up front: the sub-requests run on other threads and the container's request is not thread-safe
+    private static Map<String, List<String>> forwardedHeaders(HttpServletRequest request) {
+        Map<String, List<String>> headers = new HashMap<>();
+        for (String name : Collections.list(request.getHeaderNames())) {
+            if (DROPPED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                headers.put(name.toLowerCase(), Collections.list(request.getHeaders(name)));
+            }
+        }
+        headers.put("accept", List.of(MediaType.APPLICATION_JSON_VALUE));
+        return headers;
+    }
+}
@@ -1,8 +1,11 @@
 package com.appdevg5.technominds.Category;
 
+import com.appdevg5.technominds.config.ChangeCounters;
+import com.appdevg5.technominds.config.ETags;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -18,30 +21,33 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final ChangeCounters changeCounters;
 
-    public CategoryController(CategoryService categoryService) {
+    public CategoryController(CategoryService categoryService, ChangeCounters changeCounters) {
         this.categoryService = categoryService;
+        this.changeCounters = changeCounters;
     }
 
-    // GET /api/categories
+    // GET /api/categories - 304 on a matching If-None-Match without running the query
     @GetMapping
-    public ResponseEntity<List<CategoryEntity>> getAllCategories() {
-        return ResponseEntity.ok(categoryService.getAllCategories());
+    public ResponseEntity<List<CategoryDTO>> getAllCategories(WebRequest request) {
+        return ETags.ifNoneMatch(request, ETags.weak(changeCounters.version(ChangeCounters.CATEGORIES)),
+                () -> categoryService.getAllCategories().stream().map(CategoryDTO::new).toList());
     }
 
     // GET /api/categories/{id}
     @GetMapping("/{id}")
-    public ResponseEntity<CategoryEntity> getCategoryById(@PathVariable Integer id) {
+    public ResponseEntity<CategoryDTO> getCategoryById(@PathVariable Integer id) {
         return categoryService.getCategoryById(id)
-                .map(ResponseEntity::ok)
+                .map(category -> ResponseEntity.ok(new CategoryDTO(category)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     // GET /api/categories/name/{name}
     @GetMapping("/name/{name}")
-    public ResponseEntity<CategoryEntity> getCategoryByName(@PathVariable String name) {
+    public ResponseEntity<CategoryDTO> getCategoryByName(@PathVariable String name) {
         return categoryService.getCategoryByName(name)
-                .map(ResponseEntity::ok)
+                .map(category -> ResponseEntity.ok(new CategoryDTO(category)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
@@ -54,7 +60,7 @@ public class CategoryController {
                     .path("/{id}")
                     .buildAndExpand(created.getId())
                     .toUri();
-            return ResponseEntity.created(location).body(created);
+            return ResponseEntity.created(location).body(new CategoryDTO(created));
         } catch (IllegalArgumentException e) {
             // Name conflict
             return ResponseEntity.status(409).body(e.getMessage());
@@ -66,7 +72,7 @@ public class CategoryController {
     public ResponseEntity<?> updateCategory(@PathVariable Integer id, @Valid @RequestBody CategoryEntity updates) {
         try {
             return categoryService.updateCategory(id, updates)
-                    .map(updated -> ResponseEntity.ok(updated))
+                    .map(updated -> ResponseEntity.ok(new CategoryDTO(updated)))
                     .orElseGet(() -> ResponseEntity.notFound().build());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(409).body(e.getMessage());
@@ -0,0 +1,56 @@
+package com.appdevg5.technominds.Category;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for Category responses
+ */
+public class CategoryDTO {
+    private Integer id;
+    private String name;
+    private String description;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public CategoryDTO() {}
+
+    public CategoryDTO(CategoryEntity category) {
+        this.id = category.getId();
+        this.name = category.getName();
+        this.description = category.getDescription();
+        this.createdAt = category.getCreatedAt();
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
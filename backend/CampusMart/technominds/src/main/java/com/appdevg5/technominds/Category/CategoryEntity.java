@@ -1,13 +1,19 @@
 package com.appdevg5.technominds.Category;
 
+import com.appdevg5.technominds.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
+// Reference data: cached in the second-level cache. Not READ_ONLY because categories can still be renamed
 @Entity
 @Table(name = "categories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = SecondLevelCacheConfig.CATEGORIES)
 public class CategoryEntity {
 
     @Id
@@ -1,5 +1,6 @@
 package com.appdevg5.technominds.Category;
 
+import com.appdevg5.technominds.config.ChangeCounters;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,9 +14,11 @@ import java.util.Optional;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ChangeCounters changeCounters;
 
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository, ChangeCounters changeCounters) {
         this.categoryRepository = categoryRepository;
+        this.changeCounters = changeCounters;
     }
 
     // READ - all
@@ -40,6 +43,7 @@ public class CategoryService {
         if (category.getName() != null && categoryRepository.existsByName(category.getName())) {
             throw new IllegalArgumentException("Category with the given name already exists");
         }
+        changeCounters.changed(ChangeCounters.CATEGORIES);
         return categoryRepository.save(category);
     }
 
@@ -57,6 +61,7 @@ public class CategoryService {
             if (updates.getDescription() != null) {
                 existing.setDescription(updates.getDescription());
             }
+            changeCounters.changed(ChangeCounters.CATEGORIES);
             return categoryRepository.save(existing);
         });
     }
@@ -65,5 +70,6 @@ public class CategoryService {
     @Transactional
     public void deleteCategory(Integer id) {
         categoryRepository.deleteById(id);
+        changeCounters.changed(ChangeCounters.CATEGORIES);
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.appdevg5.technominds.Change;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for the change feed.
+ * Base URL: /api/changes
+ */
+@RestController
+@RequestMapping("/api/changes")
+public class ChangeController {
+
+    private final ChangeLogService changeLogService;
+
+    public ChangeController(ChangeLogService changeLogService) {
+        this.changeLogService = changeLogService;
+    }
+
+    // GET /api/changes?since=0&limit=100 - Writes after sequence number "since", oldest first
+    @GetMapping
+    public ChangeFeedDTO getChanges(@RequestParam(name = "since", defaultValue = "0") long since,
+                                    @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        return changeLogService.feed(Math.max(0, since), Math.max(1, Math.min(limit, 1000)));
+    }
+}
@@ -0,0 +1,66 @@
+package com.appdevg5.technominds.Change;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the change feed.
+ */
+public class ChangeDTO {
+    private Long seq;
+    private String entityType;
+    private Integer entityId;
+    private String operation;
+    private LocalDateTime changedAt;
+
+    // Constructors
+    public ChangeDTO() {}
+
+    public ChangeDTO(ChangeLogEntity change) {
+        this.seq = change.getId();
+        this.entityType = change.getEntityType();
+        this.entityId = change.getEntityId();
+        this.operation = change.getOperation();
+        this.changedAt = change.getChangedAt();
+    }
+
+    // Getters and Setters
+    public Long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public Integer getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Integer entityId) {
+        this.entityId = entityId;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
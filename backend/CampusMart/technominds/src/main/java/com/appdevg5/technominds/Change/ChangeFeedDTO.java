@@ -0,0 +1,47 @@
+package com.appdevg5.technominds.Change;
+
+import java.util.List;
+
+/**
+ * A page of the change feed. Pass {@code next} as {@code since} on the following call; while
+ * {@code more} is true there is another page to fetch right away.
+ */
+public class ChangeFeedDTO {
+    private List<ChangeDTO> changes;
+    private Long next;
+    private boolean more;
+
+    // Constructors
+    public ChangeFeedDTO() {}
+
+    public ChangeFeedDTO(List<ChangeDTO> changes, Long next, boolean more) {
+        this.changes = changes;
+        this.next = next;
+        this.more = more;
+    }
+
+    // Getters and Setters
+    public List<ChangeDTO> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<ChangeDTO> changes) {
+        this.changes = changes;
+    }
+
+    public Long getNext() {
+        return next;
+    }
+
+    public void setNext(Long next) {
+        this.next = next;
+    }
+
+    public boolean isMore() {
+        return more;
+    }
+
+    public void setMore(boolean more) {
+        this.more = more;
+    }
+}
@@ -0,0 +1,16 @@
+package com.appdevg5.technominds.Change;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntity, Long> {
+
+    /**
+     * The next page of the feed: changes after {@code since}, in sequence order (a primary key range scan).
+     */
+    List<ChangeLogEntity> findByIdGreaterThanOrderByIdAsc(Long since, Pageable pageable);
+}
@@ -0,0 +1,116 @@
+package com.appdevg5.technominds.Change;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records writes to the change log and serves them as a feed, so caches, search indexes and
+ * clients can catch up from the last sequence they saw instead of rescanning tables.
+ * <p>
+ * Changes are written in the writer's own transaction, just before it commits, so a change is
+ * in the log exactly when the write is. Sequence numbers are taken at insert time, which means a
+ * row can become visible before a lower one from a transaction that has not committed yet; the
+ * feed therefore stops short of the newest {@code changes.stable-lag-ms} of the log.
+ */
+@Service
+public class ChangeLogService {
+
+    public static final String PRODUCT = "product";
+    public static final String PROFILE = "profile";
+    public static final String ORDER = "order";
+    public static final String TRADE_OFFER = "trade_offer";
+
+    public static final String UPSERT = "UPSERT";
+    public static final String DELETE = "DELETE";
+
+    private final ChangeLogRepository changeLogRepository;
+    private final long stableLagMs;
+
+    public ChangeLogService(ChangeLogRepository changeLogRepository,
+                            @Value("${changes.stable-lag-ms:1000}") long stableLagMs) {
+        this.changeLogRepository = changeLogRepository;
+        this.stableLagMs = stableLagMs;
+    }
+
+    public void upserted(String entityType, Integer entityId) {
+        record(entityType, entityId, UPSERT);
+    }
+
+    public void deleted(String entityType, Integer entityId) {
+        record(entityType, entityId, DELETE);
+    }
+
+    /**
+     * Changes after {@code since}, oldest first. {@code next} is the last sequence returned, or
+     * {@code since} again when there is nothing new (yet).
+     */
+    @Transactional(readOnly = true)
+    public ChangeFeedDTO feed(long since, int limit) {
+        List<ChangeLogEntity> rows = changeLogRepository.findByIdGreaterThanOrderByIdAsc(since, PageRequest.of(0, limit + 1));
+        LocalDateTime stableBefore = LocalDateTime.now().minusNanos(stableLagMs * 1_000_000);
+
+        List<ChangeDTO> changes = new ArrayList<>();
+        boolean more = false;
+        for (ChangeLogEntity row : rows) {
+            if (row.getChangedAt().isAfter(stableBefore)) {
+                break;
+            }
+            if (changes.size() == limit) {
+                more = true;
+                break;
+            }
+            changes.add(new ChangeDTO(row));
+        }
+        Long next = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSeq();
+        return new ChangeFeedDTO(changes, next, more);
+    }
+
+    private void record(String entityType, Integer entityId, String operation) {
+        if (entityId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ChangeLogEntity change = new ChangeLogEntity(entityType, entityId, operation);
+            change.setChangedAt(LocalDateTime.now());
+            changeLogRepository.save(change);
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        // One row per entity and transaction; the last operation wins (created then deleted = DELETE)
+        pending.changes.put(entityType + ":" + entityId, new ChangeLogEntity(entityType, entityId, operation));
+    }
+
+    private class PendingChanges implements TransactionSynchronization {
+
+        private final Map<String, ChangeLogEntity> changes = new LinkedHashMap<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            LocalDateTime now = LocalDateTime.now();
+            for (ChangeLogEntity change : changes.values()) {
+                change.setChangedAt(now);
+            }
+            changeLogRepository.saveAll(changes.values());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ChangeLogService.this);
+        }
+    }
+}
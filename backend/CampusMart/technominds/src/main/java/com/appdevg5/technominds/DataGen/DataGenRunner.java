@@ -0,0 +1,98 @@
+package com.appdevg5.technominds.DataGen;
+
+import com.appdevg5.technominds.Analytics.SalesRollupService;
+import com.appdevg5.technominds.Review.ReviewService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Loads a synthetic dataset and exits. Run with the datagen profile against an empty (or
+ * disposable) database, e.g.
+ *
+ *   java -jar technominds.jar --spring.profiles.active=datagen --datagen.products=100000
+ *
+ * Every generated user can log in as student{profileId}.s{seed}@datagen.cit.edu with datagen.password.
+ */
+@Component
+@Profile("datagen")
+public class DataGenRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DataGenRunner.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SalesRollupService salesRollupService;
+    private final ReviewService reviewService;
+    private final ConfigurableApplicationContext context;
+    private final DataGenSettings settings = new DataGenSettings();
+
+    public DataGenRunner(JdbcTemplate jdbcTemplate,
+                         SalesRollupService salesRollupService,
+                         ReviewService reviewService,
+                         ConfigurableApplicationContext context,
+                         @Value("${datagen.seed:42}") long seed,
+                         @Value("${datagen.profiles:50000}") int profiles,
+                         @Value("${datagen.products:1000000}") int products,
+                         @Value("${datagen.messages:10000000}") long messages,
+                         @Value("${datagen.notifications:2000000}") long notifications,
+                         @Value("${datagen.orders:500000}") int orders,
+                         @Value("${datagen.review-rate:0.6}") double reviewRate,
+                         @Value("${datagen.inline-image-rate:0.01}") double inlineImageRate,
+                         @Value("${datagen.inline-image-bytes:20000}") int inlineImageBytes,
+                         @Value("${datagen.average-thread-length:25}") int averageThreadLength,
+                         @Value("${datagen.zipf-exponent:1.05}") double zipfExponent,
+                         @Value("${datagen.rows-per-statement:1000}") int rowsPerStatement,
+                         @Value("${datagen.threads:4}") int threads,
+                         @Value("${datagen.password:campusmart}") String password) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.salesRollupService = salesRollupService;
+        this.reviewService = reviewService;
+        this.context = context;
+        settings.setSeed(seed);
+        settings.setProfiles(profiles);
+        settings.setProducts(products);
+        settings.setMessages(messages);
+        settings.setNotifications(notifications);
+        settings.setOrders(orders);
+        settings.setReviewRate(reviewRate);
+        settings.setInlineImageRate(inlineImageRate);
+        settings.setInlineImageBytes(inlineImageBytes);
+        settings.setAverageThreadLength(averageThreadLength);
+        settings.setZipfExponent(zipfExponent);
+        settings.setRowsPerStatement(rowsPerStatement);
+        settings.setThreads(threads);
+        settings.setPassword(password);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        load(settings);
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    /**
+     * Generates the rows, then rebuilds what the app normally maintains incrementally
+     * (sales rollups, seller ratings), since the loader bypasses the services.
+     */
+    public Map<String, Long> load(DataGenSettings settings) {
+        String passwordHash = new BCryptPasswordEncoder().encode(settings.getPassword());
+        Map<String, Long> counts = new SyntheticDataGenerator(jdbcTemplate, passwordHash).generate(settings);
+
+        long started = System.currentTimeMillis();
+        salesRollupService.reconcile(LocalDate.now().minusDays(366));
+        reviewService.reconcileSellerRatings();
+        log.info("Rebuilt rollups and seller ratings in {}ms", System.currentTimeMillis() - started);
+        return counts;
+    }
+}
@@ -0,0 +1,137 @@
+package com.appdevg5.technominds.DataGen;
+
+/**
+ * Scale and shape of a synthetic data load. Defaults are the full "campus at scale" dataset;
+ * see the datagen.* properties in application-datagen.properties.
+ */
+public class DataGenSettings {
+
+    private long seed = 42;
+    private int profiles = 50_000;
+    private int products = 1_000_000;
+    private long messages = 10_000_000;
+    private long notifications = 2_000_000;
+    private int orders = 500_000;
+    // Share of completed orders that get a review
+    private double reviewRate = 0.6;
+    // Share of products whose images are stored inline as base64, like real uploads, instead of URLs
+    private double inlineImageRate = 0.01;
+    private int inlineImageBytes = 20_000;
+    private int averageThreadLength = 25;
+    private double zipfExponent = 1.05;
+    private int rowsPerStatement = 1000;
+    private int threads = 4;
+    private String password = "campusmart";
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getProfiles() {
+        return profiles;
+    }
+
+    public void setProfiles(int profiles) {
+        this.profiles = profiles;
+    }
+
+    public int getProducts() {
+        return products;
+    }
+
+    public void setProducts(int products) {
+        this.products = products;
+    }
+
+    public long getMessages() {
+        return messages;
+    }
+
+    public void setMessages(long messages) {
+        this.messages = messages;
+    }
+
+    public long getNotifications() {
+        return notifications;
+    }
+
+    public void setNotifications(long notifications) {
+        this.notifications = notifications;
+    }
+
+    public int getOrders() {
+        return orders;
+    }
+
+    public void setOrders(int orders) {
+        this.orders = orders;
+    }
+
+    public double getReviewRate() {
+        return reviewRate;
+    }
+
+    public void setReviewRate(double reviewRate) {
+        this.reviewRate = reviewRate;
+    }
+
+    public double getInlineImageRate() {
+        return inlineImageRate;
+    }
+
+    public void setInlineImageRate(double inlineImageRate) {
+        this.inlineImageRate = inlineImageRate;
+    }
+
+    public int getInlineImageBytes() {
+        return inlineImageBytes;
+    }
+
+    public void setInlineImageBytes(int inlineImageBytes) {
+        this.inlineImageBytes = inlineImageBytes;
+    }
+
+    public int getAverageThreadLength() {
+        return averageThreadLength;
+    }
+
+    public void setAverageThreadLength(int averageThreadLength) {
+        this.averageThreadLength = averageThreadLength;
+    }
+
+    public double getZipfExponent() {
+        return zipfExponent;
+    }
+
+    public void setZipfExponent(double zipfExponent) {
+        this.zipfExponent = zipfExponent;
+    }
+
+    public int getRowsPerStatement() {
+        return rowsPerStatement;
+    }
+
+    public void setRowsPerStatement(int rowsPerStatement) {
+        this.rowsPerStatement = rowsPerStatement;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+}
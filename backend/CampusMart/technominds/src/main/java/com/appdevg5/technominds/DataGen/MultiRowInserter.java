@@ -0,0 +1,72 @@
+package com.appdevg5.technominds.DataGen;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Buffers rows and writes them as multi-row INSERT statements
+ * ({@code INSERT INTO t (a, b) VALUES (?, ?), (?, ?), ...}), one round trip per batch.
+ * Not thread-safe: each generator slice uses its own.
+ */
+class MultiRowInserter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final String[] columns;
+    private final int rowsPerStatement;
+    private final String fullBatchSql;
+    private final List<Object> values;
+    private int bufferedRows;
+    private long insertedRows;
+
+    MultiRowInserter(JdbcTemplate jdbcTemplate, String table, String[] columns, int rowsPerStatement) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+        this.columns = columns;
+        this.rowsPerStatement = rowsPerStatement;
+        this.fullBatchSql = insertSql(rowsPerStatement);
+        this.values = new ArrayList<>(rowsPerStatement * columns.length);
+    }
+
+    void add(Object... row) {
+        if (row.length != columns.length) {
+            throw new IllegalArgumentException(table + " expects " + columns.length + " values, got " + row.length);
+        }
+        Collections.addAll(values, row);
+        if (++bufferedRows == rowsPerStatement) {
+            flush();
+        }
+    }
+
+    void flush() {
+        if (bufferedRows == 0) {
+            return;
+        }
+        String sql = bufferedRows == rowsPerStatement ? fullBatchSql : insertSql(bufferedRows);
+        jdbcTemplate.update(sql, values.toArray());
+        insertedRows += bufferedRows;
+        values.clear();
+        bufferedRows = 0;
+    }
+
+    long getInsertedRows() {
+        return insertedRows;
+    }
+
+    private String insertSql(int rows) {
+        String placeholders = "(" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+        StringBuilder sql = new StringBuilder(64 + rows * (placeholders.length() + 2))
+                .append("INSERT INTO ").append(table)
+                .append(" (").append(String.join(", ", columns)).append(") VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(placeholders);
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,468 @@
+package com.appdevg5.technominds.DataGen;
+
+import com.appdevg5.technominds.Order.OrderStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fills the database with a seeded, realistic-looking marketplace: power-law sellers and
+ * hot products, long-tailed chat threads, mostly completed orders with reviews, and a share
+ * of listings carrying inline base64 images.
+ *
+ * Every row is derived from (seed, table, row index) alone, so a table can be cut into slices
+ * that load in parallel, and the same settings always produce the same data. Rows are appended
+ * after whatever is already in the database; only profiles, products and orders (the rows other
+ * rows point at) get explicit IDs.
+ *
+ * Tables load in dependency order: profiles and users, then products, then images, orders,
+ * messages and notifications, then reviews.
+ */
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final int SLICE_ROWS = 50_000;
+    // Large image rows go out in smaller statements to stay well under max_allowed_packet
+    private static final int IMAGE_ROWS_PER_STATEMENT = 100;
+
+    private static final long PROFILE = 1, PRODUCT = 2, IMAGE = 3, ORDER = 4, THREAD = 5, MESSAGE = 6,
+            NOTIFICATION = 7, REVIEW = 8;
+
+    private static final String[] FIRST_NAMES = {
+        "Juan", "Maria", "Jose", "Ana", "Mark", "Angel", "John", "Kristine", "Paolo", "Camille",
+        "Miguel", "Andrea", "Carlo", "Nicole", "Rafael", "Patricia", "Gabriel", "Bea", "Luis", "Joy"
+    };
+    private static final String[] LAST_NAMES = {
+        "Santos", "Reyes", "Cruz", "Bautista", "Ocampo", "Garcia", "Mendoza", "Torres", "Flores", "Villanueva",
+        "Ramos", "Castillo", "Navarro", "Aquino", "Dela Cruz", "Lim", "Tan", "Gonzales", "Rivera", "Pascual"
+    };
+    private static final String[] LEVELS = {"1st Year", "2nd Year", "3rd Year", "4th Year", "5th Year", "Graduate"};
+    private static final String[] ITEMS = {
+        "calculus reviewer", "engineering drawing kit", "scientific calculator", "PE uniform", "lab gown",
+        "physics textbook", "laptop charger", "wireless mouse", "drafting table", "nursing kit",
+        "programming book", "graphing paper pad", "USB flash drive", "rubber shoes", "backpack",
+        "desk lamp", "chemistry lab manual", "headphones", "tumbler", "polo uniform"
+    };
+    private static final String[] CONDITIONS = {"New", "Like New", "Good", "Fair"};
+    private static final String[] PLACES = {"Main Library", "Canteen", "Gate 1", "Engineering Building", "Gym lobby"};
+    private static final String[] PAYMENTS = {"Cash", "GCash", "Maya"};
+    private static final String[] CHAT_LINES = {
+        "Hi, is this still available?", "Can you do a lower price?", "Where can we meet?",
+        "I can pick it up after class.", "Is the item in good condition?", "Okay, see you later!",
+        "Can you send more photos?", "Thanks! Received it.", "Is it negotiable?", "I'm at the canteen now."
+    };
+    private static final String[] REVIEW_LINES = {
+        "Item as described, smooth meetup.", "Legit seller, thank you!", "Fast reply and on time.",
+        "Okay naman, slightly used.", "Great deal for the price.", "Would buy again."
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String passwordHash;
+
+    /**
+     * @param passwordHash encoded password given to every generated user, so load tests can log in as them
+     */
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, String passwordHash) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordHash = passwordHash;
+    }
+
+    /**
+     * Loads one dataset.
+     *
+     * @return rows inserted per table
+     */
+    public Map<String, Long> generate(DataGenSettings settings) {
+        Plan plan = new Plan(settings);
+        Map<String, AtomicLong> inserted = new LinkedHashMap<>();
+        for (String table : List.of("profiles", "users", "products", "product_images", "orders",
+                "messages", "notifications", "reviews")) {
+            inserted.put(table, new AtomicLong());
+        }
+
+        long started = System.currentTimeMillis();
+        log.info("Loading seed {} with {} thread(s): {} profiles, {} products, {} orders, {} messages, {} notifications",
+                settings.getSeed(), settings.getThreads(), settings.getProfiles(), settings.getProducts(),
+                settings.getOrders(), settings.getMessages(), settings.getNotifications());
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, settings.getThreads()));
+        try {
+            List<Callable<Void>> level = new ArrayList<>();
+            addSlices(level, settings.getProfiles(), (from, to) -> profiles(plan, from, to, inserted));
+            runLevel(executor, level);
+            advanceIdentity("profiles", "profile_id", plan.profileBase + settings.getProfiles() + 1);
+
+            level = new ArrayList<>();
+            addSlices(level, settings.getProducts(), (from, to) -> products(plan, from, to, inserted));
+            runLevel(executor, level);
+            advanceIdentity("products", "product_id", plan.productBase + settings.getProducts() + 1);
+
+            level = new ArrayList<>();
+            addSlices(level, settings.getProducts(), (from, to) -> images(plan, from, to, inserted));
+            addSlices(level, settings.getOrders(), (from, to) -> orders(plan, from, to, inserted));
+            addSlices(level, settings.getMessages(), (from, to) -> messages(plan, from, to, inserted));
+            addSlices(level, settings.getNotifications(), (from, to) -> notifications(plan, from, to, inserted));
+            runLevel(executor, level);
+            advanceIdentity("orders", "order_id", plan.orderBase + settings.getOrders() + 1);
+
+            level = new ArrayList<>();
+            addSlices(level, settings.getOrders(), (from, to) -> reviews(plan, from, to, inserted));
+            runLevel(executor, level);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        inserted.forEach((table, rows) -> counts.put(table, rows.get()));
+        long elapsed = Math.max(1, System.currentTimeMillis() - started);
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        log.info("Inserted {} rows in {}ms ({} rows/s): {}", total, elapsed, total * 1000 / elapsed, counts);
+        return counts;
+    }
+
+    // ---- Per-table slices ----
+
+    private void profiles(Plan plan, long from, long to, Map<String, AtomicLong> inserted) {
+        MultiRowInserter profiles = inserter(plan, "profiles", "profile_id", "first_name", "last_name", "email",
+                "phone_number", "academic_level", "bio", "seller_rating", "total_reviews", "rating_sum",
+                "rating_1_count", "rating_2_count", "rating_3_count", "rating_4_count", "rating_5_count",
+                "created_at", "updated_at");
+        MultiRowInserter users = inserter(plan, "users", "email", "password", "created_at");
+        for (long i = from; i < to; i++) {
+            SplittableRandom random = plan.random(PROFILE, i);
+            int id = plan.profileId((int) i);
+            String email = plan.email(id);
+            LocalDateTime created = plan.timestamp(random, 720);
+            profiles.add(id, pick(random, FIRST_NAMES), pick(random, LAST_NAMES), email,
+                    String.format("09%09d", random.nextInt(1_000_000_000)), pick(random, LEVELS),
+                    random.nextInt(4) == 0 ? "Selling my old school stuff, message me!" : null,
+                    BigDecimal.ZERO, 0, 0L, 0, 0, 0, 0, 0, created, created);
+            users.add(email, passwordHash, created);
+        }
+        profiles.flush();
+        users.flush();
+        inserted.get("profiles").addAndGet(profiles.getInsertedRows());
+        inserted.get("users").addAndGet(users.getInsertedRows());
+    }
+
+    private void products(Plan plan, long from, long to, Map<String, AtomicLong> inserted) {
+        MultiRowInserter products = inserter(plan, "products", "product_id", "seller_profile_id", "name",
+                "description", "price", "category_id", "`condition`", "is_available", "trade_only",
+                "view_count", "like_count", "stock", "created_at", "updated_at");
+        for (long i = from; i < to; i++) {
+            SplittableRandom random = plan.random(PRODUCT, i);
+            ProductFacts product = plan.product((int) i, random);
+            String item = pick(random, ITEMS);
+            LocalDateTime created = plan.timestamp(random, 365);
+            products.add(product.id, product.sellerId, capitalize(item) + " #" + product.id,
+                    "Selling my " + item + ". " + pick(random, CONDITIONS) + " condition, meet up on campus.",
+                    product.price, plan.category(random), pick(random, CONDITIONS), random.nextInt(10) != 0,
+                    random.nextInt(20) == 0, random.nextInt(500), random.nextInt(40), 1 + random.nextInt(5),
+                    created, created);
+        }
+        products.flush();
+        inserted.get("products").addAndGet(products.getInsertedRows());
+    }
+
+    private void images(Plan plan, long from, long to, Map<String, AtomicLong> inserted) {
+        MultiRowInserter images = new MultiRowInserter(jdbcTemplate, "product_images",
+                new String[] {"product_id", "image_url", "is_primary"},
+                Math.min(IMAGE_ROWS_PER_STATEMENT, plan.settings.getRowsPerStatement()));
+        for (long i = from; i < to; i++) {
+            SplittableRandom random = plan.random(IMAGE, i);
+            int productId = plan.productId((int) i);
+            boolean inline = random.nextDouble() < plan.settings.getInlineImageRate();
+            int count = 1 + random.nextInt(3);
+            for (int n = 0; n < count; n++) {
+                String url = inline
+                        ? plan.inlineImages[random.nextInt(plan.inlineImages.length)]
+                        : "/uploads/products/" + productId + "_" + n + ".jpg";
+                images.add(productId, url, n == 0);
+            }
+        }
+        images.flush();
+        inserted.get("product_images").addAndGet(images.getInsertedRows());
+    }
+
+    private void orders(Plan plan, long from, long to, Map<String, AtomicLong> inserted) {
+        MultiRowInserter orders = inserter(plan, "orders", "order_id", "buyer_profile_id", "seller_profile_id",
+                "product_id", "total_amount", "quantity", "status", "payment_method", "pickup_location",
+                "created_at", "updated_at");
+        for (long k = from; k < to; k++) {
+            OrderFacts order = plan.order((int) k);
+            orders.add(order.id, order.buyerId, order.sellerId, order.productId, order.total, order.quantity,
+                    order.status.getCode(), order.payment, order.pickup, order.createdAt, order.updatedAt);
+        }
+        orders.flush();
+        inserted.get("orders").addAndGet(orders.getInsertedRows());
+    }
+
+    private void reviews(Plan plan, long from, long to, Map<String, AtomicLong> inserted) {
+        MultiRowInserter reviews = inserter(plan, "reviews", "reviewer_id", "seller_id", "product_id", "order_id",
+                "rating", "comment", "created_at", "updated_at");
+        for (long k = from; k < to; k++) {
+            OrderFacts order = plan.order((int) k);
+            SplittableRandom random = plan.random(REVIEW, k);
+            if (order.status != OrderStatus.COMPLETED || random.nextDouble() >= plan.settings.getReviewRate()) {
+                continue;
+            }
+            // Mostly happy buyers, as on real marketplaces
+            int roll = random.nextInt(100);
+            int rating = roll < 55 ? 5 : roll < 80 ? 4 : roll < 90 ? 3 : roll < 95 ? 2 : 1;
+            LocalDateTime reviewed = order.updatedAt.plusHours(1 + random.nextInt(72));
+            reviews.add(order.buyerId, order.sellerId, order.productId, order.id, rating,
+                    random.nextInt(3) == 0 ? null : pick(random, REVIEW_LINES), reviewed, reviewed);
+        }
+        reviews.flush();
+        inserted.get("reviews").addAndGet(reviews.getInsertedRows());
+    }
+
+    private void messages(Plan plan, long from, long to, Map<String, AtomicLong> inserted) {
+        MultiRowInserter messages = inserter(plan, "messages", "sender_id", "receiver_id", "product_id", "content",
+                "is_read", "is_deleted", "is_archived", "is_muted", "created_at");
+        for (long m = from; m < to; m++) {
+            SplittableRandom random = plan.random(MESSAGE, m);
+            // Thread popularity is power-law too: a few very long threads, many short ones
+            ThreadFacts thread = plan.thread(plan.threads.scatter(plan.threads.sample(random)));
+            boolean fromBuyer = random.nextBoolean();
+            messages.add(fromBuyer ? thread.buyerId : thread.sellerId, fromBuyer ? thread.sellerId : thread.buyerId,
+                    thread.productId, pick(random, CHAT_LINES), random.nextInt(5) != 0, false, false, false,
+                    plan.timestamp(random, 180));
+        }
+        messages.flush();
+        inserted.get("messages").addAndGet(messages.getInsertedRows());
+    }
+
+    private void notifications(Plan plan, long from, long to, Map<String, AtomicLong> inserted) {
+        MultiRowInserter notifications = inserter(plan, "notifications", "profile_id", "type", "title", "message",
+                "related_id", "related_type", "is_read", "created_at");
+        for (long n = from; n < to; n++) {
+            SplittableRandom random = plan.random(NOTIFICATION, n);
+            boolean aboutMessage = random.nextInt(3) == 0;
+            // Active sellers get most notifications
+            int profileId = plan.profileId(plan.sellers.scatter(plan.sellers.sample(random)));
+            long relatedId = aboutMessage
+                    ? 1 + random.nextInt(Math.max(1, (int) Math.min(Integer.MAX_VALUE, plan.settings.getMessages())))
+                    : plan.orderId(random.nextInt(Math.max(1, plan.settings.getOrders())));
+            notifications.add(profileId, aboutMessage ? "MESSAGE_RECEIVED" : "ORDER_PLACED",
+                    aboutMessage ? "New Message" : "New Order",
+                    aboutMessage ? "You have a new message" : "Someone ordered one of your listings",
+                    relatedId, aboutMessage ? "MESSAGE" : "ORDER", random.nextInt(3) != 0, plan.timestamp(random, 180));
+        }
+        notifications.flush();
+        inserted.get("notifications").addAndGet(notifications.getInsertedRows());
+    }
+
+    // ---- Plumbing ----
+
+    private interface Slice {
+        void load(long from, long to);
+    }
+
+    private static void addSlices(List<Callable<Void>> level, long rows, Slice slice) {
+        for (long from = 0; from < rows; from += SLICE_ROWS) {
+            long start = from;
+            long end = Math.min(rows, from + SLICE_ROWS);
+            level.add(() -> {
+                slice.load(start, end);
+                return null;
+            });
+        }
+    }
+
+    private static void runLevel(ExecutorService executor, List<Callable<Void>> level) {
+        try {
+            for (Future<Void> done : executor.invokeAll(level)) {
+                done.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Data generation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Data generation failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private MultiRowInserter inserter(Plan plan, String table, String... columns) {
+        return new MultiRowInserter(jdbcTemplate, table, columns, plan.settings.getRowsPerStatement());
+    }
+
+    /**
+     * MySQL moves AUTO_INCREMENT past explicit IDs by itself; H2 (tests, local runs) has to be told.
+     */
+    private void advanceIdentity(String table, String column, long next) {
+        String product = jdbcTemplate.execute((java.sql.Connection connection) ->
+                connection.getMetaData().getDatabaseProductName());
+        if ("H2".equals(product)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + next);
+        }
+    }
+
+    private long maxId(String table, String column) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + column + ") FROM " + table, Long.class);
+        return max != null ? max : 0;
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String capitalize(String value) {
+        return value.substring(0, 1).toUpperCase(Locale.ROOT) + value.substring(1);
+    }
+
+    /**
+     * Everything shared by the slices of one load: ID offsets, samplers and the pure functions
+     * that derive a product, order or chat thread from its index.
+     */
+    private final class Plan {
+
+        final DataGenSettings settings;
+        final long profileBase;
+        final long productBase;
+        final long orderBase;
+        final List<Integer> categoryIds;
+        final ZipfSampler sellers;
+        final ZipfSampler hotProducts;
+        final ZipfSampler threads;
+        final String[] inlineImages;
+        final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        Plan(DataGenSettings settings) {
+            this.settings = settings;
+            this.profileBase = maxId("profiles", "profile_id");
+            this.productBase = maxId("products", "product_id");
+            this.orderBase = maxId("orders", "order_id");
+            this.categoryIds = jdbcTemplate.queryForList("SELECT id FROM categories ORDER BY id", Integer.class);
+            this.sellers = new ZipfSampler(settings.getProfiles(), settings.getZipfExponent());
+            this.hotProducts = new ZipfSampler(settings.getProducts(), settings.getZipfExponent());
+            long threadCount = Math.max(1, settings.getMessages() / Math.max(1, settings.getAverageThreadLength()));
+            this.threads = new ZipfSampler((int) Math.min(threadCount, 2_000_000), settings.getZipfExponent());
+            this.inlineImages = inlineImages(settings);
+        }
+
+        SplittableRandom random(long table, long index) {
+            long mixed = settings.getSeed() * 0x9E3779B97F4A7C15L + table * 0xBF58476D1CE4E5B9L + index;
+            return new SplittableRandom(mixed);
+        }
+
+        int profileId(int index) {
+            return (int) (profileBase + 1 + index);
+        }
+
+        int productId(int index) {
+            return (int) (productBase + 1 + index);
+        }
+
+        int orderId(int index) {
+            return (int) (orderBase + 1 + index);
+        }
+
+        String email(int profileId) {
+            return "student" + profileId + ".s" + settings.getSeed() + "@datagen.cit.edu";
+        }
+
+        Integer category(SplittableRandom random) {
+            return categoryIds.isEmpty() ? null : categoryIds.get(random.nextInt(categoryIds.size()));
+        }
+
+        LocalDateTime timestamp(SplittableRandom random, int maxDaysAgo) {
+            return now.minusSeconds(random.nextLong(maxDaysAgo * 86_400L));
+        }
+
+        /**
+         * The first draws of a product's random stream fix its seller and price, so orders and
+         * threads can recompute them without reading the product back.
+         */
+        ProductFacts product(int index, SplittableRandom random) {
+            int sellerId = profileId(sellers.scatter(sellers.sample(random)));
+            BigDecimal price = BigDecimal.valueOf(20 + random.nextInt(4980)).setScale(2);
+            return new ProductFacts(productId(index), sellerId, price);
+        }
+
+        ProductFacts product(int index) {
+            return product(index, random(PRODUCT, index));
+        }
+
+        OrderFacts order(int index) {
+            SplittableRandom random = random(ORDER, index);
+            ProductFacts product = product(hotProducts.scatter(hotProducts.sample(random)));
+            int buyerId = otherProfile(random, product.sellerId);
+            int quantity = random.nextInt(10) == 0 ? 2 : 1;
+            int roll = random.nextInt(100);
+            OrderStatus status = roll < 70 ? OrderStatus.COMPLETED
+                    : roll < 80 ? OrderStatus.CANCELLED
+                    : roll < 88 ? OrderStatus.PENDING
+                    : roll < 94 ? OrderStatus.CONFIRMED
+                    : OrderStatus.READY_FOR_PICKUP;
+            LocalDateTime created = timestamp(random, 365);
+            LocalDateTime updated = status == OrderStatus.PENDING ? created : created.plusHours(1 + random.nextInt(96));
+            return new OrderFacts(orderId(index), buyerId, product.sellerId, product.id,
+                    product.price.multiply(BigDecimal.valueOf(quantity)), quantity, status,
+                    pick(random, PAYMENTS), pick(random, PLACES), created, updated);
+        }
+
+        ThreadFacts thread(int index) {
+            SplittableRandom random = random(THREAD, index);
+            // A fifth of chats are general, not about a listing
+            if (random.nextInt(5) == 0) {
+                int sellerId = profileId(sellers.scatter(sellers.sample(random)));
+                return new ThreadFacts(otherProfile(random, sellerId), sellerId, null);
+            }
+            ProductFacts product = product(hotProducts.scatter(hotProducts.sample(random)));
+            return new ThreadFacts(otherProfile(random, product.sellerId), product.sellerId, product.id);
+        }
+
+        private int otherProfile(SplittableRandom random, int notThisId) {
+            int id = profileId(random.nextInt(settings.getProfiles()));
+            if (id == notThisId) {
+                id = settings.getProfiles() > 1
+                        ? profileId((int) ((id - profileBase) % settings.getProfiles()))
+                        : id;
+            }
+            return id;
+        }
+
+        private String[] inlineImages(DataGenSettings settings) {
+            // A small pool of distinct payloads: realistic row sizes without encoding every image
+            SplittableRandom random = random(IMAGE, -1);
+            String[] pool = new String[16];
+            for (int i = 0; i < pool.length; i++) {
+                byte[] bytes = new byte[Math.max(1, settings.getInlineImageBytes())];
+                for (int b = 0; b < bytes.length; b++) {
+                    bytes[b] = (byte) random.nextInt(256);
+                }
+                pool[i] = "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(bytes);
+            }
+            return pool;
+        }
+    }
+
+    private record ProductFacts(int id, int sellerId, BigDecimal price) {
+    }
+
+    private record OrderFacts(int id, int buyerId, int sellerId, int productId, BigDecimal total, int quantity,
+                              OrderStatus status, String payment, String pickup,
+                              LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    private record ThreadFacts(int buyerId, int sellerId, Integer productId) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.appdevg5.technominds.DataGen;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Draws ranks 0..n-1 with probability proportional to 1 / (rank + 1)^exponent: a handful of
+ * ranks get most of the draws (top sellers, hot products, long chat threads) and there is a long tail.
+ * Ranks are then scattered over the ID range by {@link #scatter}, so the hot rows are not all adjacent.
+ */
+class ZipfSampler {
+
+    private final double[] cumulative;
+    private final long stride;
+
+    ZipfSampler(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Zipf sampler needs at least one rank");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= sum;
+        }
+        stride = coprimeStride(n);
+    }
+
+    int size() {
+        return cumulative.length;
+    }
+
+    /**
+     * @return a rank, 0 being the most likely
+     */
+    int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+
+    /**
+     * Maps a rank to an index in 0..n-1 through a fixed permutation.
+     */
+    int scatter(int rank) {
+        return (int) ((rank * stride) % cumulative.length);
+    }
+
+    private static long coprimeStride(int n) {
+        long stride = 1_000_003L;
+        while (gcd(stride, n) != 1) {
+            stride += 2;
+        }
+        return stride;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+}
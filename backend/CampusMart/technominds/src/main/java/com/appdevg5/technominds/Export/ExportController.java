@@ -0,0 +1,74 @@
+package com.appdevg5.technominds.Export;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * REST Controller for streaming seller data exports.
+ * Base URL: /api/exports
+ */
+@RestController
+@RequestMapping("/api/exports")
+public class ExportController {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportController.class);
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    // GET /api/exports/sellers/{sellerId}/{dataset}?format=csv|ndjson
+    // dataset is orders, listings or reviews (received); rows are streamed as they are read
+    @GetMapping("/sellers/{sellerId}/{dataset}")
+    public ResponseEntity<?> exportSellerData(@PathVariable Integer sellerId,
+                                              @PathVariable String dataset,
+                                              @RequestParam(defaultValue = "csv") String format) {
+        ExportDataset exportDataset;
+        ExportFormat exportFormat;
+        try {
+            exportDataset = ExportDataset.fromCode(dataset);
+            exportFormat = ExportFormat.fromCode(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of(
+                            "message", e.getMessage(),
+                            "timestamp", java.time.LocalDateTime.now().toString()
+                    ));
+        }
+
+        String filename = exportDataset.getCode() + "-seller-" + sellerId + "-" + LocalDate.now()
+                + "." + exportFormat.getExtension();
+
+        StreamingResponseBody body = out -> {
+            long started = System.currentTimeMillis();
+            try {
+                long rows = exportService.export(exportDataset, sellerId, exportFormat, out);
+                log.info("Exported {} {} for seller {} in {}ms", rows, exportDataset.getCode(), sellerId,
+                        System.currentTimeMillis() - started);
+            } catch (IOException e) {
+                // Client cancelled the download; the cursor and transaction are already closed
+                log.info("Export of {} for seller {} aborted: {}", exportDataset.getCode(), sellerId, e.getMessage());
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,67 @@
+package com.appdevg5.technominds.Export;
+
+import java.util.List;
+
+/**
+ * Datasets a seller can export. Each pairs its column names with a scalar JPQL query
+ * selecting the same columns in the same order; scalar rows are never managed by the
+ * persistence context, so memory stays flat however many rows are streamed.
+ */
+public enum ExportDataset {
+
+    ORDERS("orders",
+        List.of("order_id", "created_at", "updated_at", "status", "buyer_first_name", "buyer_last_name",
+                "buyer_email", "product_id", "product_name", "quantity", "total_amount",
+                "payment_method", "pickup_location"),
+        "SELECT o.id, o.createdAt, o.updatedAt, CAST(o.status AS String), b.firstName, b.lastName, " +
+        "b.email, p.id, p.name, o.quantity, o.totalAmount, o.paymentMethod, o.pickupLocation " +
+        "FROM OrderEntity o JOIN o.buyer b JOIN o.product p " +
+        "WHERE o.seller.id = :sellerId ORDER BY o.id"),
+
+    LISTINGS("listings",
+        List.of("product_id", "created_at", "updated_at", "name", "category", "price", "stock",
+                "is_available", "trade_only", "condition", "brand_type", "view_count", "like_count"),
+        "SELECT p.id, p.createdAt, p.updatedAt, p.name, c.name, p.price, p.stock, " +
+        "p.isAvailable, p.tradeOnly, p.condition, p.brandType, p.viewCount, p.likeCount " +
+        "FROM ProductEntity p LEFT JOIN p.category c " +
+        "WHERE p.seller.id = :sellerId ORDER BY p.id"),
+
+    REVIEWS("reviews",
+        List.of("review_id", "created_at", "rating", "comment", "reviewer_first_name", "reviewer_last_name",
+                "product_id", "product_name", "order_id"),
+        "SELECT r.id, r.createdAt, r.rating, r.comment, rv.firstName, rv.lastName, " +
+        "p.id, p.name, o.id " +
+        "FROM ReviewEntity r JOIN r.reviewer rv LEFT JOIN r.product p LEFT JOIN r.order o " +
+        "WHERE r.seller.id = :sellerId ORDER BY r.id");
+
+    private final String code;
+    private final List<String> columns;
+    private final String query;
+
+    ExportDataset(String code, List<String> columns, String query) {
+        this.code = code;
+        this.columns = columns;
+        this.query = query;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public static ExportDataset fromCode(String code) {
+        for (ExportDataset dataset : values()) {
+            if (dataset.code.equalsIgnoreCase(code)) {
+                return dataset;
+            }
+        }
+        throw new IllegalArgumentException("Unknown export: " + code + " (expected orders, listings or reviews)");
+    }
+}
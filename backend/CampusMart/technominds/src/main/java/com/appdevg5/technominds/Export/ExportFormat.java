@@ -0,0 +1,35 @@
+package com.appdevg5.technominds.Export;
+
+/**
+ * Output formats for exports.
+ */
+public enum ExportFormat {
+
+    CSV("csv", "text/csv"),
+    NDJSON("ndjson", "application/x-ndjson");
+
+    private final String extension;
+    private final String contentType;
+
+    ExportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static ExportFormat fromCode(String code) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(code)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown format: " + code + " (expected csv or ndjson)");
+    }
+}
@@ -0,0 +1,121 @@
+package com.appdevg5.technominds.Export;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Streams seller exports row by row from a database cursor straight to the response.
+ * Nothing is collected into a list: only the current row and the writer buffer live in memory.
+ */
+@Service
+public class ExportService {
+
+    // Rows fetched per round trip (MySQL needs useCursorFetch=true on the JDBC URL to honour it)
+    private static final int FETCH_SIZE = 200;
+    // Push buffered rows to the client regularly so progress is visible and disconnects surface early
+    private static final int FLUSH_EVERY = 500;
+
+    private final EntityManager entityManager;
+    private final JsonMapper jsonMapper;
+
+    public ExportService(EntityManager entityManager, JsonMapper jsonMapper) {
+        this.entityManager = entityManager;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Writes every row of the dataset for the given seller to {@code out}.
+     * An IOException (e.g. the client cancelled the download) stops the export and closes the cursor.
+     *
+     * @return number of data rows written
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportDataset dataset, Integer sellerId, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        List<String> columns = dataset.getColumns();
+        long count = 0;
+
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, columns.toArray());
+        }
+
+        try (Stream<Object[]> rows = entityManager.createQuery(dataset.getQuery(), Object[].class)
+                .setParameter("sellerId", sellerId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvLine(writer, row);
+                } else {
+                    writeJsonLine(writer, columns, row);
+                }
+                if (++count % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    private void writeJsonLine(Writer writer, List<String> columns, Object[] row) throws IOException {
+        Map<String, Object> record = new LinkedHashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            record.put(columns.get(i), row[i]);
+        }
+        writer.write(jsonMapper.writeValueAsString(record));
+        writer.write('\n');
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180 quoting, plus a leading quote on text that a spreadsheet would run as a formula
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (!(value instanceof CharSequence)) {
+            return value.toString();
+        }
+
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
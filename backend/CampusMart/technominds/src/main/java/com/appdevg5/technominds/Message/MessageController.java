@@ -1,12 +1,17 @@
 package com.appdevg5.technominds.Message;
 
+import com.appdevg5.technominds.config.ChangeCounters;
+import com.appdevg5.technominds.config.ETags;
 import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.io.IOException;
@@ -28,24 +33,28 @@ import java.util.UUID;
 @RequestMapping("/api/messages")
 public class MessageController {
 
+    private static final Logger log = LoggerFactory.getLogger(MessageController.class);
+
     private final MessageService messageService;
+    private final ChangeCounters changeCounters;
     
     // Upload directory for message images
     private static final String UPLOAD_DIR = "uploads/messages/";
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
     private static final String[] ALLOWED_EXTENSIONS = {".jpg", ".jpeg", ".png", ".gif", ".webp"};
 
-    public MessageController(MessageService messageService) {
+    public MessageController(MessageService messageService, ChangeCounters changeCounters) {
         this.messageService = messageService;
+        this.changeCounters = changeCounters;
         // Create upload directory if it doesn't exist
         try {
             Path uploadPath = Paths.get(UPLOAD_DIR);
             if (!Files.exists(uploadPath)) {
                 Files.createDirectories(uploadPath);
-                System.out.println("Created upload directory: " + uploadPath.toAbsolutePath());
+                log.info("Created upload directory {}", uploadPath.toAbsolutePath());
             }
         } catch (IOException e) {
-            System.err.println("Failed to create upload directory: " + e.getMessage());
+            log.error("Failed to create upload directory", e);
         }
     }
 
@@ -56,50 +65,62 @@ public class MessageController {
         return ResponseEntity.ok(conversations);
     }
 
-    // GET /api/messages/unread-count/{userId} - Get unread message count
+    // GET /api/messages/unread-count/{userId} - Get unread message count; polled, so it honours If-None-Match
     @GetMapping("/unread-count/{userId}")
-    public ResponseEntity<Map<String, Long>> getUnreadCount(@PathVariable Integer userId) {
-        Long count = messageService.getUnreadCount(userId);
-        return ResponseEntity.ok(Map.of("unreadCount", count));
+    public ResponseEntity<Map<String, Long>> getUnreadCount(@PathVariable Integer userId, WebRequest request) {
+        String etag = ETags.weak(changeCounters.version(ChangeCounters.messages(userId)));
+        return ETags.ifNoneMatch(request, etag, () -> Map.of("unreadCount", messageService.getUnreadCount(userId)));
     }
 
     // GET /api/messages/user/{userId} - Get messages received by a specific user
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<MessageEntity>> getMessagesForUser(@PathVariable Integer userId) {
-        List<MessageEntity> messages = messageService.getMessagesReceivedBy(userId);
+    public ResponseEntity<List<MessageDTO>> getMessagesForUser(@PathVariable Integer userId) {
+        List<MessageDTO> messages = messageService.getMessagesReceivedBy(userId).stream().map(MessageDTO::new).toList();
         return ResponseEntity.ok(messages);
     }
 
     // GET /api/messages/conversation/{user1Id}/{user2Id} - Get conversation history
+    // The open conversation is polled every few seconds, so the conversation GETs answer 304 without a query when nothing changed
     @GetMapping("/conversation/{user1Id}/{user2Id}")
-    public ResponseEntity<List<MessageEntity>> getConversation(@PathVariable Integer user1Id, @PathVariable Integer user2Id) {
-        List<MessageEntity> convo = messageService.getConversation(user1Id, user2Id);
-        return ResponseEntity.ok(convo);
+    public ResponseEntity<List<MessageDTO>> getConversation(@PathVariable Integer user1Id, @PathVariable Integer user2Id,
+                                                            WebRequest request) {
+        return ETags.ifNoneMatch(request, conversationETag(user1Id),
+                () -> messageService.getConversation(user1Id, user2Id).stream().map(MessageDTO::new).toList());
     }
 
     // GET /api/messages/conversation/{user1Id}/{user2Id}/product/{productId} - Get conversation for specific product
     @GetMapping("/conversation/{user1Id}/{user2Id}/product/{productId}")
-    public ResponseEntity<List<MessageEntity>> getConversationByProduct(
+    public ResponseEntity<List<MessageDTO>> getConversationByProduct(
             @PathVariable Integer user1Id, 
             @PathVariable Integer user2Id, 
-            @PathVariable Integer productId) {
-        List<MessageEntity> convo = messageService.getConversationByProduct(user1Id, user2Id, productId);
-        return ResponseEntity.ok(convo);
+            @PathVariable Integer productId,
+            WebRequest request) {
+        return ETags.ifNoneMatch(request, conversationETag(user1Id),
+                () -> messageService.getConversationByProduct(user1Id, user2Id, productId).stream().map(MessageDTO::new).toList());
     }
 
     // GET /api/messages/conversation/{user1Id}/{user2Id}/general - Get general inquiry conversation (no product)
     @GetMapping("/conversation/{user1Id}/{user2Id}/general")
-    public ResponseEntity<List<MessageEntity>> getGeneralConversation(
+    public ResponseEntity<List<MessageDTO>> getGeneralConversation(
             @PathVariable Integer user1Id, 
-            @PathVariable Integer user2Id) {
+            @PathVariable Integer user2Id,
+            WebRequest request) {
         // Pass null as productId to get general inquiry messages
-        List<MessageEntity> convo = messageService.getConversationByProduct(user1Id, user2Id, null);
-        return ResponseEntity.ok(convo);
+        return ETags.ifNoneMatch(request, conversationETag(user1Id),
+                () -> messageService.getConversationByProduct(user1Id, user2Id, null).stream().map(MessageDTO::new).toList());
+    }
+
+    // Every write to a conversation bumps both participants, so one side's counter covers it;
+    // messages also embed both profiles and a product summary
+    private String conversationETag(Integer userId) {
+        return ETags.weak(changeCounters.version(ChangeCounters.messages(userId)),
+                changeCounters.version(ChangeCounters.PROFILES),
+                changeCounters.version(ChangeCounters.PRODUCTS));
     }
 
     // POST /api/messages - Send a new message
     @PostMapping
-    public ResponseEntity<MessageEntity> sendMessage(@Valid @RequestBody MessageEntity message) {
+    public ResponseEntity<MessageDTO> sendMessage(@Valid @RequestBody MessageEntity message) {
         MessageEntity newMessage = messageService.sendMessage(message);
 
         // Build Location header: /api/messages/{id}
@@ -108,14 +129,14 @@ public class MessageController {
                 .buildAndExpand(newMessage.getId())
                 .toUri();
 
-        return ResponseEntity.created(location).body(newMessage);
+        return ResponseEntity.created(location).body(new MessageDTO(newMessage));
     }
 
     // PATCH /api/messages/{id}/read - Mark a message as read
     @PatchMapping("/{id}/read")
-    public ResponseEntity<MessageEntity> markMessageAsRead(@PathVariable Integer id) {
+    public ResponseEntity<MessageDTO> markMessageAsRead(@PathVariable Integer id) {
         return messageService.markAsRead(id)
-                .map(ResponseEntity::ok)
+                .map(message -> ResponseEntity.ok(new MessageDTO(message)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
@@ -245,9 +266,7 @@ public class MessageController {
                     .path(uniqueFilename)
                     .toUriString();
             
-            System.out.println("Image uploaded successfully: " + uniqueFilename);
-            System.out.println("File saved to: " + filePath.toAbsolutePath());
-            System.out.println("Accessible at: " + fileUrl);
+            log.info("Image uploaded: {} ({} bytes)", filePath.toAbsolutePath(), file.getSize());
             
             return ResponseEntity.ok(Map.of(
                 "imageUrl", fileUrl,
@@ -257,14 +276,12 @@ public class MessageController {
             ));
             
         } catch (IOException e) {
-            System.err.println("Failed to upload image: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to upload image", e);
             return ResponseEntity.status(500).body(Map.of(
                 "error", "Failed to save image: " + e.getMessage()
             ));
         } catch (Exception e) {
-            System.err.println("Unexpected error during image upload: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Unexpected error during image upload", e);
             return ResponseEntity.status(500).body(Map.of(
                 "error", "Failed to upload image: " + e.getMessage()
             ));
@@ -300,14 +317,13 @@ public class MessageController {
                     .body(resource);
                     
         } catch (MalformedURLException e) {
-            System.err.println("Invalid file path: " + e.getMessage());
+            log.debug("Invalid file path: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
         } catch (IOException e) {
-            System.err.println("Error reading file: " + e.getMessage());
+            log.debug("Error reading file: {}", e.getMessage());
             return ResponseEntity.notFound().build();
         } catch (Exception e) {
-            System.err.println("Unexpected error serving image: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Unexpected error serving image", e);
             return ResponseEntity.status(500).build();
         }
     }
@@ -0,0 +1,128 @@
+package com.appdevg5.technominds.Message;
+
+import com.appdevg5.technominds.Product.ProductSummaryDTO;
+import com.appdevg5.technominds.Profile.ProfileDTO;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for Message responses
+ */
+public class MessageDTO {
+    private Integer id;
+    private ProfileDTO sender;
+    private ProfileDTO receiver;
+    private ProductSummaryDTO product;
+    private String content;
+    private String imageUrl;
+    private Boolean isRead;
+    private Boolean isDeleted;
+    private Boolean isArchived;
+    private Boolean isMuted;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public MessageDTO() {}
+
+    public MessageDTO(MessageEntity message) {
+        this.id = message.getId();
+        this.sender = message.getSender() != null ? new ProfileDTO(message.getSender()) : null;
+        this.receiver = message.getReceiver() != null ? new ProfileDTO(message.getReceiver()) : null;
+        this.product = message.getProduct() != null ? new ProductSummaryDTO(message.getProduct()) : null;
+        this.content = message.getContent();
+        this.imageUrl = message.getImageUrl();
+        this.isRead = message.getIsRead();
+        this.isDeleted = message.getIsDeleted();
+        this.isArchived = message.getIsArchived();
+        this.isMuted = message.getIsMuted();
+        this.createdAt = message.getCreatedAt();
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public ProfileDTO getSender() {
+        return sender;
+    }
+
+    public void setSender(ProfileDTO sender) {
+        this.sender = sender;
+    }
+
+    public ProfileDTO getReceiver() {
+        return receiver;
+    }
+
+    public void setReceiver(ProfileDTO receiver) {
+        this.receiver = receiver;
+    }
+
+    public ProductSummaryDTO getProduct() {
+        return product;
+    }
+
+    public void setProduct(ProductSummaryDTO product) {
+        this.product = product;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    public Boolean getIsRead() {
+        return isRead;
+    }
+
+    public void setIsRead(Boolean isRead) {
+        this.isRead = isRead;
+    }
+
+    public Boolean getIsDeleted() {
+        return isDeleted;
+    }
+
+    public void setIsDeleted(Boolean isDeleted) {
+        this.isDeleted = isDeleted;
+    }
+
+    public Boolean getIsArchived() {
+        return isArchived;
+    }
+
+    public void setIsArchived(Boolean isArchived) {
+        this.isArchived = isArchived;
+    }
+
+    public Boolean getIsMuted() {
+        return isMuted;
+    }
+
+    public void setIsMuted(Boolean isMuted) {
+        this.isMuted = isMuted;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
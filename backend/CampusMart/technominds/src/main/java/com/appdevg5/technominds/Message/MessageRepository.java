@@ -1,5 +1,6 @@
 package com.appdevg5.technominds.Message;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -7,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Message entity.
@@ -14,6 +16,12 @@ import java.util.List;
 @Repository
 public interface MessageRepository extends JpaRepository<MessageEntity, Integer> {
 
+    /**
+     * Finds a message with its sender, receiver and product loaded.
+     */
+    @EntityGraph(attributePaths = {"sender", "receiver", "product"})
+    Optional<MessageEntity> findDetailedById(Integer id);
+
     /**
      * Finds all messages sent by a specific sender.
      * Uses nested property path to match MessageEntity.sender.id
@@ -24,23 +32,27 @@ public interface MessageRepository extends JpaRepository<MessageEntity, Integer>
      * Finds all messages received by a specific receiver.
      * Uses nested property path to match MessageEntity.receiver.id
      */
+    @EntityGraph(attributePaths = {"sender", "receiver", "product"})
     List<MessageEntity> findByReceiver_Id(Integer receiverId);
 
     /**
      * Finds the conversation history between two specific users in chronological order.
      * Uses nested property path and the createdAt timestamp.
      */
+    @EntityGraph(attributePaths = {"sender", "receiver", "product"})
     List<MessageEntity> findBySender_IdAndReceiver_IdOrderByCreatedAtAsc(Integer senderId, Integer receiverId);
 
     /**
      * Finds messages between two users for a specific product.
      */
+    @EntityGraph(attributePaths = {"sender", "receiver", "product"})
     List<MessageEntity> findBySender_IdAndReceiver_IdAndProduct_IdOrderByCreatedAtAsc(
         Integer senderId, Integer receiverId, Integer productId);
     
     /**
      * Finds messages between two users with no product (general inquiries).
      */
+    @EntityGraph(attributePaths = {"sender", "receiver", "product"})
     List<MessageEntity> findBySender_IdAndReceiver_IdAndProduct_IsNullOrderByCreatedAtAsc(
         Integer senderId, Integer receiverId);
 
@@ -52,6 +64,7 @@ public interface MessageRepository extends JpaRepository<MessageEntity, Integer>
     /**
      * Find all messages where user is either sender or receiver, ordered by most recent.
      */
+    @EntityGraph(attributePaths = {"sender", "receiver", "product"})
     @Query("SELECT m FROM MessageEntity m WHERE m.sender.id = :userId OR m.receiver.id = :userId ORDER BY m.createdAt DESC")
     List<MessageEntity> findAllUserMessages(@Param("userId") Integer userId);
 
@@ -121,6 +134,7 @@ public interface MessageRepository extends JpaRepository<MessageEntity, Integer>
     /**
      * Find all conversations for a user, excluding deleted and archived messages.
      */
+    @EntityGraph(attributePaths = {"sender", "receiver", "product"})
     @Query("SELECT m FROM MessageEntity m WHERE " +
            "(m.sender.id = :userId OR m.receiver.id = :userId) " +
            "AND m.isDeleted = FALSE " +
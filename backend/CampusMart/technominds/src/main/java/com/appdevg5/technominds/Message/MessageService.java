@@ -4,7 +4,10 @@ import com.appdevg5.technominds.Profile.ProfileEntity;
 import com.appdevg5.technominds.Profile.ProfileRepository;
 import com.appdevg5.technominds.Product.ProductEntity;
 import com.appdevg5.technominds.Product.ProductRepository;
+import com.appdevg5.technominds.config.ChangeCounters;
 import com.appdevg5.technominds.service.NotificationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,30 +25,29 @@ public class MessageService {
     private final ProfileRepository profileRepository;
     private final ProductRepository productRepository;
     private final NotificationService notificationService;
+    private final ChangeCounters changeCounters;
+    private final Timer sendTimer;
 
     public MessageService(MessageRepository messageRepository, 
                          ProfileRepository profileRepository,
                          ProductRepository productRepository,
-                         NotificationService notificationService) {
+                         NotificationService notificationService,
+                         ChangeCounters changeCounters,
+                         MeterRegistry meterRegistry) {
         this.messageRepository = messageRepository;
         this.profileRepository = profileRepository;
         this.productRepository = productRepository;
         this.notificationService = notificationService;
+        this.changeCounters = changeCounters;
+        this.sendTimer = Timer.builder("messages.sent")
+                .description("Time to store a message and notify its receiver")
+                .register(meterRegistry);
     }
 
     // READ
     @Transactional(readOnly = true)
     public Optional<MessageEntity> getMessageById(Integer id) {
-        Optional<MessageEntity> message = messageRepository.findById(id);
-        // Force lazy loading
-        message.ifPresent(m -> {
-            m.getSender().getId();
-            m.getReceiver().getId();
-            if (m.getProduct() != null) {
-                m.getProduct().getId();
-            }
-        });
-        return message;
+        return messageRepository.findDetailedById(id);
     }
 
     /**
@@ -54,15 +56,7 @@ public class MessageService {
      */
     @Transactional(readOnly = true)
     public List<MessageEntity> getMessagesReceivedBy(Integer receiverId) {
-        List<MessageEntity> messages = messageRepository.findByReceiver_Id(receiverId);
-        // Force lazy loading
-        messages.forEach(m -> {
-            m.getSender().getId();
-            if (m.getProduct() != null) {
-                m.getProduct().getId();
-            }
-        });
-        return messages;
+        return messageRepository.findByReceiver_Id(receiverId);
     }
 
     /**
@@ -83,15 +77,6 @@ public class MessageService {
         conversation.addAll(sent);
         conversation.addAll(received);
 
-        // Force lazy loading
-        conversation.forEach(m -> {
-            m.getSender().getId();
-            m.getReceiver().getId();
-            if (m.getProduct() != null) {
-                m.getProduct().getId();
-            }
-        });
-
         // Sort by createdAt (createdAt corresponds to the messages.created_at column)
         conversation.sort(Comparator.comparing(MessageEntity::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())));
         return conversation;
@@ -124,15 +109,6 @@ public class MessageService {
         conversation.addAll(sent);
         conversation.addAll(received);
 
-        // Force lazy loading
-        conversation.forEach(m -> {
-            m.getSender().getId();
-            m.getReceiver().getId();
-            if (m.getProduct() != null) {
-                m.getProduct().getId();
-            }
-        });
-
         conversation.sort(Comparator.comparing(MessageEntity::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())));
         return conversation;
     }
@@ -144,15 +120,6 @@ public class MessageService {
     @Transactional(readOnly = true)
     public List<Map<String, Object>> getConversationsList(Integer userId) {
         List<MessageEntity> allMessages = messageRepository.findAllUserMessages(userId);
-        
-        // Force lazy loading
-        allMessages.forEach(m -> {
-            m.getSender().getId();
-            m.getReceiver().getId();
-            if (m.getProduct() != null) {
-                m.getProduct().getId();
-            }
-        });
 
         // Group by conversation key (other user + product)
         Map<String, List<MessageEntity>> grouped = new HashMap<>();
@@ -247,11 +214,16 @@ public class MessageService {
                 messageRepository.save(message);
             }
         }
+        messagesChanged(userId, otherUserId);
     }
 
     // CREATE
     @Transactional
     public MessageEntity sendMessage(MessageEntity message) {
+        return sendTimer.record(() -> storeAndNotify(message));
+    }
+
+    private MessageEntity storeAndNotify(MessageEntity message) {
         // Validate input
         if (message.getSender() == null || message.getSender().getId() == null) {
             throw new IllegalArgumentException("Sender information is required");
@@ -280,6 +252,7 @@ public class MessageService {
         // Ensure isRead is false on creation
         message.setIsRead(false);
         MessageEntity savedMessage = messageRepository.save(message);
+        messagesChanged(sender.getId(), receiver.getId());
         
         // Create notification for receiver
         try {
@@ -305,8 +278,9 @@ public class MessageService {
     // UPDATE (Mark as read)
     @Transactional
     public Optional<MessageEntity> markAsRead(Integer messageId) {
-        return messageRepository.findById(messageId).map(message -> {
+        return messageRepository.findDetailedById(messageId).map(message -> {
             message.setIsRead(true);
+            messagesChanged(message.getSender().getId(), message.getReceiver().getId());
             return messageRepository.save(message);
         });
     }
@@ -314,6 +288,8 @@ public class MessageService {
     // DELETE
     @Transactional
     public void deleteMessage(Integer id) {
+        messageRepository.findById(id).ifPresent(message ->
+                messagesChanged(message.getSender().getId(), message.getReceiver().getId()));
         messageRepository.deleteById(id);
     }
 
@@ -323,6 +299,7 @@ public class MessageService {
     @Transactional
     public void deleteConversation(Integer userId, Integer otherUserId, Integer productId) {
         messageRepository.softDeleteConversation(userId, otherUserId, productId);
+        messagesChanged(userId, otherUserId);
     }
 
     /**
@@ -331,6 +308,7 @@ public class MessageService {
     @Transactional
     public void archiveConversation(Integer userId, Integer otherUserId, Integer productId) {
         messageRepository.archiveConversation(userId, otherUserId, productId);
+        messagesChanged(userId, otherUserId);
     }
 
     /**
@@ -339,6 +317,12 @@ public class MessageService {
     @Transactional
     public void muteConversation(Integer userId, Integer otherUserId, Integer productId, Boolean muted) {
         messageRepository.muteConversation(userId, otherUserId, productId, muted);
+        messagesChanged(userId, otherUserId);
+    }
+
+    // Both sides poll their conversations, so a change is a change for each of them
+    private void messagesChanged(Integer userId, Integer otherUserId) {
+        changeCounters.changed(ChangeCounters.messages(userId), ChangeCounters.messages(otherUserId));
     }
 
     /**
@@ -346,15 +330,6 @@ public class MessageService {
      */
     @Transactional(readOnly = true)
     public List<MessageEntity> getActiveConversations(Integer userId) {
-        List<MessageEntity> messages = messageRepository.findActiveUserMessages(userId);
-        // Force lazy loading
-        messages.forEach(m -> {
-            m.getSender().getId();
-            m.getReceiver().getId();
-            if (m.getProduct() != null) {
-                m.getProduct().getId();
-            }
-        });
-        return messages;
+        return messageRepository.findActiveUserMessages(userId);
     }
 }
@@ -1,6 +1,12 @@
 package com.appdevg5.technominds.Order;
 
+import com.appdevg5.technominds.config.ChangeCounters;
+import com.appdevg5.technominds.config.ETags;
 import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,10 +24,14 @@ import java.util.Map;
 @RequestMapping("/api/orders")
 public class OrderController {
 
+    private static final Logger log = LoggerFactory.getLogger(OrderController.class);
+
     private final OrderService orderService;
+    private final ChangeCounters changeCounters;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, ChangeCounters changeCounters) {
         this.orderService = orderService;
+        this.changeCounters = changeCounters;
     }
 
     // GET /api/orders
@@ -34,25 +44,34 @@ public class OrderController {
         return ResponseEntity.ok(orderDTOs);
     }
 
-    // GET /api/orders/{id}
+    // GET /api/orders/{id} - 304 on a matching If-None-Match; the ETag covers the embedded names too
     @GetMapping("/{id}")
     public ResponseEntity<OrderDTO> getOrderById(@PathVariable Integer id) {
         return orderService.getOrderById(id)
-                .map(order -> ResponseEntity.ok(new OrderDTO(order)))
+                .map(order -> ETags.ok(ETags.weak(order.getUpdatedAt(), order.getVersion(),
+                                changeCounters.version(ChangeCounters.PROFILES),
+                                changeCounters.version(ChangeCounters.PRODUCTS)))
+                        .body(new OrderDTO(order)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
-    // GET /api/orders/buyer/{buyerId}
+    // GET /api/orders/buyer/{buyerId}?page=0&size=20 - paging is optional; omit it to get all orders
     @GetMapping("/buyer/{buyerId}")
-    public ResponseEntity<List<OrderDetailDTO>> getOrdersByBuyer(@PathVariable Integer buyerId) {
-        List<OrderDetailDTO> orders = orderService.getDetailedOrdersByBuyer(buyerId);
+    public ResponseEntity<List<OrderDetailDTO>> getOrdersByBuyer(
+            @PathVariable Integer buyerId,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "20") int size) {
+        List<OrderDetailDTO> orders = orderService.getDetailedOrdersByBuyer(buyerId, toPageable(page, size));
         return ResponseEntity.ok(orders);
     }
 
-    // GET /api/orders/seller/{sellerId}
+    // GET /api/orders/seller/{sellerId}?page=0&size=20 - paging is optional; omit it to get all orders
     @GetMapping("/seller/{sellerId}")
-    public ResponseEntity<List<OrderDetailDTO>> getOrdersBySeller(@PathVariable Integer sellerId) {
-        List<OrderDetailDTO> orders = orderService.getDetailedOrdersBySeller(sellerId);
+    public ResponseEntity<List<OrderDetailDTO>> getOrdersBySeller(
+            @PathVariable Integer sellerId,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "20") int size) {
+        List<OrderDetailDTO> orders = orderService.getDetailedOrdersBySeller(sellerId, toPageable(page, size));
         return ResponseEntity.ok(orders);
     }
 
@@ -70,15 +89,12 @@ public class OrderController {
     @PostMapping
     public ResponseEntity<?> createOrder(@Valid @RequestBody OrderEntity order) {
         try {
-            System.out.println("[OrderController] Received order creation request:");
-            System.out.println("  Buyer ID: " + (order.getBuyer() != null ? order.getBuyer().getId() : "null"));
-            System.out.println("  Seller ID: " + (order.getSeller() != null ? order.getSeller().getId() : "null"));
-            System.out.println("  Product ID: " + (order.getProduct() != null ? order.getProduct().getId() : "null"));
-            System.out.println("  Quantity: " + order.getQuantity());
-            System.out.println("  Total Amount: " + order.getTotalAmount());
-            System.out.println("  Payment Method: " + order.getPaymentMethod());
-            System.out.println("  Delivery Notes: " + order.getDeliveryNotes());
-            
+            log.debug("Order request: buyer={}, seller={}, product={}, quantity={}",
+                    order.getBuyer() != null ? order.getBuyer().getId() : null,
+                    order.getSeller() != null ? order.getSeller().getId() : null,
+                    order.getProduct() != null ? order.getProduct().getId() : null,
+                    order.getQuantity());
+
             OrderEntity newOrder = orderService.createOrder(order);
 
             // Build Location header: /api/orders/{id}
@@ -87,11 +103,10 @@ public class OrderController {
                     .buildAndExpand(newOrder.getId())
                     .toUri();
 
-            System.out.println("[OrderController] Order created successfully with ID: " + newOrder.getId());
             return ResponseEntity.created(location).body(new OrderDTO(newOrder));
         } catch (IllegalArgumentException e) {
             // Return 400 Bad Request for validation errors
-            System.err.println("[OrderController] Validation error: " + e.getMessage());
+            log.debug("Order rejected: {}", e.getMessage());
             return ResponseEntity
                     .status(HttpStatus.BAD_REQUEST)
                     .body(Map.of(
@@ -100,8 +115,7 @@ public class OrderController {
                     ));
         } catch (Exception e) {
             // Return 500 Internal Server Error for unexpected errors
-            System.err.println("[OrderController] Unexpected error creating order: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Unexpected error creating order", e);
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of(
@@ -113,16 +127,33 @@ public class OrderController {
     }
 
     // PATCH /api/orders/{id}/status - Update the status of an order
+    // 400 for an unknown status, 409 if the order cannot move to it from its current status
     @PatchMapping("/{id}/status")
-    public ResponseEntity<OrderDTO> updateOrderStatus(@PathVariable Integer id, @RequestBody Map<String, String> statusUpdate) {
+    public ResponseEntity<?> updateOrderStatus(@PathVariable Integer id, @RequestBody Map<String, String> statusUpdate) {
         String newStatus = statusUpdate.get("status");
         if (newStatus == null) {
             return ResponseEntity.badRequest().build();
         }
 
-        return orderService.updateOrderStatus(id, newStatus)
-                .map(order -> ResponseEntity.ok(new OrderDTO(order)))
-                .orElseGet(() -> ResponseEntity.notFound().build());
+        try {
+            return orderService.updateOrderStatus(id, newStatus)
+                    .<ResponseEntity<?>>map(order -> ResponseEntity.ok(new OrderDTO(order)))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of(
+                            "message", e.getMessage(),
+                            "timestamp", java.time.LocalDateTime.now().toString()
+                    ));
+        } catch (IllegalStateException e) {
+            return ResponseEntity
+                    .status(HttpStatus.CONFLICT)
+                    .body(Map.of(
+                            "message", e.getMessage(),
+                            "timestamp", java.time.LocalDateTime.now().toString()
+                    ));
+        }
     }
 
     // DELETE /api/orders/{id}
@@ -135,4 +166,12 @@ public class OrderController {
                 })
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
-}
\ No newline at end of file
+
+    // Paging is opt-in so existing clients that expect the full list keep working
+    private static Pageable toPageable(Integer page, int size) {
+        if (page == null) {
+            return Pageable.unpaged();
+        }
+        return PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100));
+    }
+}
@@ -22,6 +22,7 @@ public class OrderDTO {
     private String deliveryNotes;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     // Constructors
     public OrderDTO() {}
@@ -38,12 +39,13 @@ public class OrderDTO {
         this.productName = order.getProduct() != null ? order.getProduct().getName() : null;
         this.totalAmount = order.getTotalAmount();
         this.quantity = order.getQuantity();
-        this.status = order.getStatus();
+        this.status = order.getStatus() != null ? order.getStatus().getCode() : null;
         this.paymentMethod = order.getPaymentMethod();
         this.pickupLocation = order.getPickupLocation();
         this.deliveryNotes = order.getDeliveryNotes();
         this.createdAt = order.getCreatedAt();
         this.updatedAt = order.getUpdatedAt();
+        this.version = order.getVersion();
     }
 
     // Getters and Setters
@@ -166,4 +168,12 @@ public class OrderDTO {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
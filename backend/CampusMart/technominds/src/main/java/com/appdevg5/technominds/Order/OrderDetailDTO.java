@@ -51,6 +51,51 @@ public class OrderDetailDTO {
     public OrderDetailDTO() {
     }
 
+    /**
+     * Projection constructor used by the order detail queries in OrderRepository.
+     * hasReview is derived from the left-joined review id.
+     */
+    public OrderDetailDTO(Integer orderId, Integer quantity, BigDecimal totalAmount, OrderStatus status,
+                          String paymentMethod, String pickupLocation, String deliveryNotes,
+                          LocalDateTime createdAt, LocalDateTime updatedAt,
+                          Integer productId, String productName, String productDescription,
+                          BigDecimal productPrice, String productImage, String productCondition,
+                          String productCategory,
+                          Integer buyerProfileId, String buyerFirstName, String buyerLastName,
+                          String buyerEmail, String buyerPhone,
+                          Integer sellerProfileId, String sellerFirstName, String sellerLastName,
+                          String sellerEmail, String sellerPhone,
+                          Integer reviewId) {
+        this.orderId = orderId;
+        this.quantity = quantity;
+        this.totalAmount = totalAmount;
+        this.status = status != null ? status.getCode() : null;
+        this.paymentMethod = paymentMethod;
+        this.pickupLocation = pickupLocation;
+        this.deliveryNotes = deliveryNotes;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.productId = productId;
+        this.productName = productName;
+        this.productDescription = productDescription;
+        this.productPrice = productPrice;
+        this.productImage = productImage;
+        this.productCondition = productCondition;
+        this.productCategory = productCategory;
+        this.buyerProfileId = buyerProfileId;
+        this.buyerFirstName = buyerFirstName;
+        this.buyerLastName = buyerLastName;
+        this.buyerEmail = buyerEmail;
+        this.buyerPhone = buyerPhone;
+        this.sellerProfileId = sellerProfileId;
+        this.sellerFirstName = sellerFirstName;
+        this.sellerLastName = sellerLastName;
+        this.sellerEmail = sellerEmail;
+        this.sellerPhone = sellerPhone;
+        this.reviewId = reviewId;
+        this.hasReview = reviewId != null;
+    }
+
     // Getters and Setters
     public Integer getOrderId() {
         return orderId;
@@ -1,12 +1,12 @@
 package com.appdevg5.technominds.Order;
 
 import com.appdevg5.technominds.Profile.ProfileEntity;
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.math.BigDecimal;
@@ -29,19 +29,16 @@ public class OrderEntity {
     // The buyer in the transaction
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "buyer_profile_id", nullable = false)
-    @JsonIgnoreProperties({"orders", "products", "sentMessages", "receivedMessages", "tradeOffers", "reviews"})
     private ProfileEntity buyer;
 
     // The seller in the transaction
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "seller_profile_id", nullable = false)
-    @JsonIgnoreProperties({"orders", "products", "sentMessages", "receivedMessages", "tradeOffers", "reviews"})
     private ProfileEntity seller;
 
     // The product being ordered
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id", nullable = false)
-    @JsonIgnoreProperties({"seller", "orders", "reviews", "likes", "tradeOffers"})
     private com.appdevg5.technominds.Product.ProductEntity product;
 
     // Total amount for the order (matches ERD name 'total_amount')
@@ -53,10 +50,10 @@ public class OrderEntity {
     @Column(name = "quantity", nullable = false)
     private Integer quantity = 1;
 
-    // Status can be pending, confirmed, processing, ready, completed, cancelled
+    // Lifecycle status, stored as its lowercase code (see OrderStatus for allowed transitions)
     @NotNull
     @Column(name = "status", length = 50, nullable = false)
-    private String status = "pending";
+    private OrderStatus status = OrderStatus.PENDING;
 
     @Column(name = "payment_method", length = 50)
     private String paymentMethod;
@@ -75,6 +72,12 @@ public class OrderEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Optimistic lock; compareAndSetStatus bumps it as well
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // Getters and Setters
 
     public Integer getId() {
@@ -125,11 +128,11 @@ public class OrderEntity {
         this.quantity = quantity;
     }
 
-    public String getStatus() {
+    public OrderStatus getStatus() {
         return status;
     }
 
-    public void setStatus(String status) {
+    public void setStatus(OrderStatus status) {
         this.status = status;
     }
 
@@ -172,4 +175,12 @@ public class OrderEntity {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.appdevg5.technominds.Order;
+
+import com.appdevg5.technominds.service.NotificationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Sends order notifications once the order write has committed.
+ * A rolled-back order or a status change that lost the compare-and-set never notifies anyone.
+ */
+@Component
+public class OrderNotificationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderNotificationListener.class);
+
+    private final NotificationService notificationService;
+
+    public OrderNotificationListener(NotificationService notificationService) {
+        this.notificationService = notificationService;
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        try {
+            Long orderId = event.getOrderId().longValue();
+            switch (event.getStatus()) {
+                case PENDING:
+                    // Notify seller of the new order
+                    notificationService.notifyOrderPlaced(
+                        event.getSellerId(), orderId, event.getProductName(), event.getBuyerName());
+                    break;
+                case CONFIRMED:
+                    // Notify buyer when order is confirmed by seller
+                    notificationService.notifyOrderConfirmed(event.getBuyerId(), orderId, event.getProductName());
+                    break;
+                case READY_FOR_PICKUP:
+                    // Notify buyer when order is ready for pickup
+                    String pickupLocation = event.getPickupLocation() != null
+                        ? event.getPickupLocation()
+                        : "the designated location";
+                    notificationService.notifyOrderReadyForPickup(
+                        event.getBuyerId(), orderId, event.getProductName(), pickupLocation);
+                    break;
+                case COMPLETED:
+                    // Notify buyer when order is completed
+                    notificationService.notifyOrderCompleted(event.getBuyerId(), orderId, event.getProductName());
+                    break;
+                case CANCELLED:
+                    // Notify both parties when order is cancelled
+                    notificationService.notifyOrderCancelled(
+                        event.getBuyerId(), orderId, event.getProductName(), "Order cancelled");
+                    notificationService.notifyOrderCancelled(
+                        event.getSellerId(), orderId, event.getProductName(), "Order cancelled");
+                    break;
+                default:
+                    break;
+            }
+        } catch (Exception e) {
+            // Log error; the order change itself is already committed
+            log.error("Failed to create notification for order {}", event.getOrderId(), e);
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package com.appdevg5.technominds.Order;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Order entity.
@@ -27,4 +33,79 @@ public interface OrderRepository extends JpaRepository<OrderEntity, Integer> {
      * Matches OrderEntity.product.id
      */
     List<OrderEntity> findByProduct_Id(Integer productId);
-}
\ No newline at end of file
+
+    /**
+     * Shared select list for the order detail views: joins product, category, buyer and
+     * seller, projecting straight into OrderDetailDTO. The product image is the first image
+     * of the product (lowest image id), matching ProductEntity.getImageUrl(). The review is
+     * the order's newest one; reviews.order_id is not unique, so a join could repeat the order.
+     */
+    String DETAIL_PROJECTION = "SELECT new com.appdevg5.technominds.Order.OrderDetailDTO(" +
+            "o.id, o.quantity, o.totalAmount, o.status, o.paymentMethod, o.pickupLocation, " +
+            "o.deliveryNotes, o.createdAt, o.updatedAt, " +
+            "p.id, p.name, p.description, p.price, " +
+            "(SELECT i.imageUrl FROM ProductImageEntity i WHERE i.id = " +
+            "(SELECT MIN(i2.id) FROM ProductImageEntity i2 WHERE i2.product = p)), " +
+            "p.condition, c.name, " +
+            "b.id, b.firstName, b.lastName, b.email, b.phoneNumber, " +
+            "s.id, s.firstName, s.lastName, s.email, s.phoneNumber, " +
+            "(SELECT MAX(r.id) FROM ReviewEntity r WHERE r.order = o)) " +
+            "FROM OrderEntity o " +
+            "JOIN o.product p " +
+            "LEFT JOIN p.category c " +
+            "JOIN o.buyer b " +
+            "JOIN o.seller s ";
+
+    /**
+     * Detailed orders placed by a buyer, newest first, in a single query.
+     */
+    @Query(DETAIL_PROJECTION + "WHERE b.id = :buyerId ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderDetailDTO> findDetailedByBuyer(@Param("buyerId") Integer buyerId, Pageable pageable);
+
+    /**
+     * Detailed orders received by a seller, newest first, in a single query.
+     */
+    @Query(DETAIL_PROJECTION + "WHERE s.id = :sellerId ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderDetailDTO> findDetailedBySeller(@Param("sellerId") Integer sellerId, Pageable pageable);
+
+    /**
+     * Shared select for orders loaded together with their buyer, seller and product, as OrderDTO needs.
+     */
+    String WITH_PARTIES = "SELECT o FROM OrderEntity o JOIN FETCH o.buyer JOIN FETCH o.seller JOIN FETCH o.product ";
+
+    /**
+     * Loads an order together with its buyer, seller and product in one query.
+     */
+    @Query(WITH_PARTIES + "WHERE o.id = :id")
+    Optional<OrderEntity> findWithPartiesById(@Param("id") Integer id);
+
+    @Query(WITH_PARTIES)
+    List<OrderEntity> findAllWithParties();
+
+    @Query(WITH_PARTIES + "WHERE o.buyer.id = :buyerId")
+    List<OrderEntity> findWithPartiesByBuyerId(@Param("buyerId") Integer buyerId);
+
+    @Query(WITH_PARTIES + "WHERE o.seller.id = :sellerId")
+    List<OrderEntity> findWithPartiesBySellerId(@Param("sellerId") Integer sellerId);
+
+    @Query(WITH_PARTIES + "WHERE o.product.id = :productId")
+    List<OrderEntity> findWithPartiesByProductId(@Param("productId") Integer productId);
+
+    /**
+     * Reads only the current status of an order.
+     */
+    @Query("SELECT o.status FROM OrderEntity o WHERE o.id = :id")
+    Optional<OrderStatus> findStatusById(@Param("id") Integer id);
+
+    /**
+     * Compare-and-set status transition: moves the order to the target status only if its
+     * current status is one of the expected sources. No row is read or locked beforehand;
+     * returns 1 if the transition was applied, 0 if the order is missing or was in another state.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OrderEntity o SET o.status = :target, o.updatedAt = LOCAL DATETIME, o.version = o.version + 1 " +
+           "WHERE o.id = :id AND o.status IN :expected")
+    int compareAndSetStatus(@Param("id") Integer id,
+                            @Param("expected") Collection<OrderStatus> expected,
+                            @Param("target") OrderStatus target);
+}
@@ -1,17 +1,22 @@
 package com.appdevg5.technominds.Order;
 
+import com.appdevg5.technominds.Change.ChangeLogService;
 import com.appdevg5.technominds.Product.ProductEntity;
 import com.appdevg5.technominds.Product.ProductRepository;
 import com.appdevg5.technominds.Profile.ProfileEntity;
 import com.appdevg5.technominds.Profile.ProfileRepository;
-import com.appdevg5.technominds.Review.ReviewRepository;
-import com.appdevg5.technominds.service.NotificationService;
+import com.appdevg5.technominds.config.ResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Service layer for managing Order-related business logic.
@@ -19,63 +24,51 @@ import java.util.stream.Collectors;
 @Service
 public class OrderService {
 
+    private static final Logger log = LoggerFactory.getLogger(OrderService.class);
+
     private final OrderRepository orderRepository;
     private final ProfileRepository profileRepository;
     private final ProductRepository productRepository;
-    private final NotificationService notificationService;
-    private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final ResponseCache responseCache;
+    private final ChangeLogService changeLogService;
 
     public OrderService(OrderRepository orderRepository, 
                        ProfileRepository profileRepository,
                        ProductRepository productRepository,
-                       NotificationService notificationService,
-                       ReviewRepository reviewRepository) {
+                       ApplicationEventPublisher eventPublisher,
+                       MeterRegistry meterRegistry,
+                       ResponseCache responseCache,
+                       ChangeLogService changeLogService) {
         this.orderRepository = orderRepository;
         this.profileRepository = profileRepository;
         this.productRepository = productRepository;
-        this.notificationService = notificationService;
-        this.reviewRepository = reviewRepository;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.responseCache = responseCache;
+        this.changeLogService = changeLogService;
     }
 
     // READ
+    @Transactional(readOnly = true)
     public List<OrderEntity> getAllOrders() {
-        return orderRepository.findAll();
+        return orderRepository.findAllWithParties();
     }
 
     @Transactional(readOnly = true)
     public Optional<OrderEntity> getOrderById(Integer id) {
-        Optional<OrderEntity> order = orderRepository.findById(id);
-        // Force lazy loading of related entities
-        order.ifPresent(o -> {
-            o.getBuyer().getId(); // Trigger lazy load
-            o.getSeller().getId(); // Trigger lazy load
-            o.getProduct().getId(); // Trigger lazy load
-        });
-        return order;
+        return orderRepository.findWithPartiesById(id);
     }
 
     @Transactional(readOnly = true)
     public List<OrderEntity> getOrdersByBuyer(Integer buyerId) {
-        // Use repository method that matches nested property path: buyer.id
-        List<OrderEntity> orders = orderRepository.findByBuyer_Id(buyerId);
-        // Force lazy loading
-        orders.forEach(o -> {
-            o.getSeller().getId();
-            o.getProduct().getId();
-        });
-        return orders;
+        return orderRepository.findWithPartiesByBuyerId(buyerId);
     }
 
     @Transactional(readOnly = true)
     public List<OrderEntity> getOrdersBySeller(Integer sellerId) {
-        // Use repository method that matches nested property path: seller.id
-        List<OrderEntity> orders = orderRepository.findBySeller_Id(sellerId);
-        // Force lazy loading
-        orders.forEach(o -> {
-            o.getBuyer().getId();
-            o.getProduct().getId();
-        });
-        return orders;
+        return orderRepository.findWithPartiesBySellerId(sellerId);
     }
 
     /**
@@ -83,275 +76,206 @@ public class OrderService {
      */
     @Transactional(readOnly = true)
     public List<OrderEntity> getOrdersByProduct(Integer productId) {
-        List<OrderEntity> orders = orderRepository.findByProduct_Id(productId);
-        // Force lazy loading
-        orders.forEach(o -> {
-            o.getBuyer().getId();
-            o.getSeller().getId();
-        });
-        return orders;
+        return orderRepository.findWithPartiesByProductId(productId);
     }
 
     // CREATE
+    /**
+     * Places an order; the time taken is recorded as orders.placement, tagged placed or rejected.
+     */
     @Transactional
     public OrderEntity createOrder(OrderEntity order) {
-        System.out.println("[OrderService] Starting order creation...");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "rejected";
+        try {
+            OrderEntity savedOrder = placeOrder(order);
+            outcome = "placed";
+            return savedOrder;
+        } finally {
+            sample.stop(meterRegistry.timer("orders.placement", "outcome", outcome));
+        }
+    }
+
+    private OrderEntity placeOrder(OrderEntity order) {
+        log.debug("Starting order creation");
         
         // Validate buyer exists
         if (order.getBuyer() == null || order.getBuyer().getId() == null) {
-            System.err.println("[OrderService] Validation failed: Buyer is null or missing ID");
+            log.debug("Validation failed: buyer is null or missing ID");
             throw new IllegalArgumentException("Buyer is required");
         }
         
         // Validate seller exists
         if (order.getSeller() == null || order.getSeller().getId() == null) {
-            System.err.println("[OrderService] Validation failed: Seller is null or missing ID");
+            log.debug("Validation failed: seller is null or missing ID");
             throw new IllegalArgumentException("Seller is required");
         }
         
         // Validate product exists
         if (order.getProduct() == null || order.getProduct().getId() == null) {
-            System.err.println("[OrderService] Validation failed: Product is null or missing ID");
+            log.debug("Validation failed: product is null or missing ID");
             throw new IllegalArgumentException("Product is required");
         }
         
-        System.out.println("[OrderService] Basic validation passed");
+        // Validate quantity (a non-positive quantity would increase stock on reservation)
+        if (order.getQuantity() == null || order.getQuantity() < 1) {
+            log.debug("Validation failed: invalid quantity {}", order.getQuantity());
+            throw new IllegalArgumentException("Quantity must be at least 1");
+        }
+        
+        log.debug("Basic validation passed");
         
         // Prevent buying your own product
         if (order.getBuyer().getId().equals(order.getSeller().getId())) {
-            System.err.println("[OrderService] Validation failed: Buyer and seller are the same");
+            log.debug("Validation failed: buyer and seller are the same");
             throw new IllegalArgumentException("You cannot buy your own product");
         }
         
-        System.out.println("[OrderService] Loading entities from database...");
+        log.debug("Loading buyer, seller and product");
         
         // Load actual entities from database
         ProfileEntity buyer = profileRepository.findById(order.getBuyer().getId())
                 .orElseThrow(() -> {
-                    System.err.println("[OrderService] Buyer not found with ID: " + order.getBuyer().getId());
+                    log.debug("Buyer not found with ID {}", order.getBuyer().getId());
                     return new IllegalArgumentException("Buyer not found");
                 });
-        System.out.println("[OrderService] Buyer loaded: " + buyer.getFirstName() + " " + buyer.getLastName());
+        log.debug("Buyer loaded: {}", buyer.getId());
         
         ProfileEntity seller = profileRepository.findById(order.getSeller().getId())
                 .orElseThrow(() -> {
-                    System.err.println("[OrderService] Seller not found with ID: " + order.getSeller().getId());
+                    log.debug("Seller not found with ID {}", order.getSeller().getId());
                     return new IllegalArgumentException("Seller not found");
                 });
-        System.out.println("[OrderService] Seller loaded: " + seller.getFirstName() + " " + seller.getLastName());
+        log.debug("Seller loaded: {}", seller.getId());
         
         ProductEntity product = productRepository.findById(order.getProduct().getId())
                 .orElseThrow(() -> {
-                    System.err.println("[OrderService] Product not found with ID: " + order.getProduct().getId());
+                    log.debug("Product not found with ID {}", order.getProduct().getId());
                     return new IllegalArgumentException("Product not found");
                 });
-        System.out.println("[OrderService] Product loaded: " + product.getName());
+        log.debug("Product loaded: {}", product.getId());
         
         // Verify product seller matches order seller
         if (!product.getSeller().getId().equals(seller.getId())) {
-            System.err.println("[OrderService] Seller mismatch: Product seller ID " + product.getSeller().getId() + " != Order seller ID " + seller.getId());
+            log.debug("Seller mismatch: product seller ID {} != order seller ID {}", product.getSeller().getId(), seller.getId());
             throw new IllegalArgumentException("Product does not belong to the specified seller");
         }
-        System.out.println("[OrderService] Seller verification passed");
+        log.debug("Seller verification passed");
         
-        // Check if product has stock
-        if (product.getStock() != null && product.getStock() < order.getQuantity()) {
-            System.err.println("[OrderService] Insufficient stock: Available=" + product.getStock() + ", Requested=" + order.getQuantity());
+        // Reserve stock atomically: the conditional UPDATE only succeeds while enough stock
+        // remains, so concurrent checkouts of the last item cannot both pass (no row is read-locked)
+        int reserved = productRepository.decrementStock(product.getId(), order.getQuantity());
+        if (reserved == 0) {
+            log.debug("Insufficient stock: requested {}", order.getQuantity());
             throw new IllegalArgumentException("Insufficient stock available");
         }
-        System.out.println("[OrderService] Stock check passed");
+        log.debug("Stock reserved");
+        // Stock and possibly availability changed
+        responseCache.evictProduct(product.getId());
+        responseCache.evictSellerInfo(seller.getId());
+        changeLogService.upserted(ChangeLogService.PRODUCT, product.getId());
         
         // Set the loaded entities
         order.setBuyer(buyer);
         order.setSeller(seller);
         order.setProduct(product);
         
-        // Initialize status if not set
-        if (order.getStatus() == null || order.getStatus().isEmpty()) {
-            order.setStatus("pending");
-        }
-        System.out.println("[OrderService] Order status set to: " + order.getStatus());
+        // New orders always start at the beginning of the lifecycle
+        order.setStatus(OrderStatus.PENDING);
         
         // Save the order
-        System.out.println("[OrderService] Saving order to database...");
+        log.debug("Saving order");
         OrderEntity savedOrder = orderRepository.save(order);
-        System.out.println("[OrderService] Order saved successfully with ID: " + savedOrder.getId());
-        
-        // Optionally: Decrease product stock
-        if (product.getStock() != null) {
-            product.setStock(product.getStock() - order.getQuantity());
-            productRepository.save(product);
-        }
+        log.info("Order {} placed", savedOrder.getId());
+        changeLogService.upserted(ChangeLogService.ORDER, savedOrder.getId());
         
-        // Create notification for seller
-        try {
-            String buyerName = buyer.getFirstName() + " " + buyer.getLastName();
-            notificationService.notifyOrderPlaced(
-                seller.getId(), 
-                savedOrder.getId().longValue(), 
-                product.getName(), 
-                buyerName
-            );
-        } catch (Exception e) {
-            // Log error but don't fail the order creation
-            System.err.println("Failed to create notification: " + e.getMessage());
-        }
+        // Seller notification is sent by OrderNotificationListener once the order commits
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(savedOrder));
         
         return savedOrder;
     }
 
     // UPDATE (Primarily for status changes: e.g., to completed)
+    /**
+     * Moves an order to a new status through a guarded compare-and-set UPDATE.
+     * Concurrent actions (e.g. seller confirms while buyer cancels) cannot both win:
+     * the loser sees the order in a state it may not leave and gets an IllegalStateException.
+     * Requesting the status the order already has is a no-op and emits no event.
+     * Cancelling gives the reserved stock back, once, since only the winning transition restocks.
+     *
+     * @throws IllegalArgumentException if the status code is unknown
+     * @throws IllegalStateException if the transition is not allowed from the current status
+     */
     @Transactional
     public Optional<OrderEntity> updateOrderStatus(Integer id, String newStatus) {
-        return orderRepository.findById(id).map(existingOrder -> {
-            String oldStatus = existingOrder.getStatus();
-            // Business Rule: Validate the transition logic (e.g., pending -> confirmed -> processing -> ready -> completed)
-            existingOrder.setStatus(newStatus);
-            OrderEntity updatedOrder = orderRepository.save(existingOrder);
-            
-            // Create notification based on status change
-            try {
-                ProfileEntity buyer = existingOrder.getBuyer();
-                ProfileEntity seller = existingOrder.getSeller();
-                ProductEntity product = existingOrder.getProduct();
-                
-                // Notify buyer when order is confirmed by seller
-                if ("confirmed".equalsIgnoreCase(newStatus) && !"confirmed".equalsIgnoreCase(oldStatus)) {
-                    notificationService.notifyOrderConfirmed(
-                        buyer.getId(),
-                        existingOrder.getId().longValue(),
-                        product.getName()
-                    );
-                }
-                
-                // Notify buyer when order is ready for pickup
-                if ("ready_for_pickup".equalsIgnoreCase(newStatus) && !"ready_for_pickup".equalsIgnoreCase(oldStatus)) {
-                    String pickupLocation = existingOrder.getPickupLocation() != null 
-                        ? existingOrder.getPickupLocation() 
-                        : "the designated location";
-                    notificationService.notifyOrderReadyForPickup(
-                        buyer.getId(),
-                        existingOrder.getId().longValue(),
-                        product.getName(),
-                        pickupLocation
-                    );
-                }
-                
-                // Notify buyer when order is completed
-                if ("completed".equalsIgnoreCase(newStatus) && !"completed".equalsIgnoreCase(oldStatus)) {
-                    notificationService.notifyOrderCompleted(
-                        buyer.getId(),
-                        existingOrder.getId().longValue(),
-                        product.getName()
-                    );
-                }
-                
-                // Notify both parties when order is cancelled
-                if ("cancelled".equalsIgnoreCase(newStatus) && !"cancelled".equalsIgnoreCase(oldStatus)) {
-                    notificationService.notifyOrderCancelled(
-                        buyer.getId(),
-                        existingOrder.getId().longValue(),
-                        product.getName(),
-                        "Order cancelled"
-                    );
-                    notificationService.notifyOrderCancelled(
-                        seller.getId(),
-                        existingOrder.getId().longValue(),
-                        product.getName(),
-                        "Order cancelled"
-                    );
-                }
-            } catch (Exception e) {
-                // Log error but don't fail the status update
-                System.err.println("Failed to create notification: " + e.getMessage());
+        OrderStatus target = OrderStatus.fromCode(newStatus);
+
+        int applied = target.allowedSources().isEmpty()
+            ? 0
+            : orderRepository.compareAndSetStatus(id, target.allowedSources(), target);
+
+        if (applied == 0) {
+            // Find out why the transition did not apply
+            Optional<OrderStatus> current = orderRepository.findStatusById(id);
+            if (current.isEmpty()) {
+                return Optional.empty();
             }
-            
-            return updatedOrder;
-        });
+            if (current.get() != target) {
+                throw new IllegalStateException("Cannot change order status from "
+                    + current.get().getCode() + " to " + target.getCode());
+            }
+            // Already in the requested status
+            return orderRepository.findWithPartiesById(id);
+        }
+
+        changeLogService.upserted(ChangeLogService.ORDER, id);
+        Optional<OrderEntity> updatedOrder = orderRepository.findWithPartiesById(id);
+        if (target == OrderStatus.CANCELLED) {
+            updatedOrder.ifPresent(this::restock);
+        }
+        // Notifications are sent by OrderNotificationListener once this transaction commits
+        updatedOrder.ifPresent(order -> eventPublisher.publishEvent(new OrderStatusChangedEvent(order)));
+        return updatedOrder;
+    }
+
+    // Returns a cancelled order's reservation to the product
+    private void restock(OrderEntity order) {
+        Integer productId = order.getProduct().getId();
+        productRepository.incrementStock(productId, order.getQuantity());
+        log.debug("Stock returned for cancelled order {}", order.getId());
+        responseCache.evictProduct(productId);
+        responseCache.evictSellerInfo(order.getSeller().getId());
+        changeLogService.upserted(ChangeLogService.PRODUCT, productId);
     }
 
     // DELETE
     @Transactional
     public void deleteOrder(Integer id) {
         orderRepository.deleteById(id);
+        changeLogService.deleted(ChangeLogService.ORDER, id);
     }
 
-    // Convert OrderEntity to OrderDetailDTO with populated fields
-    private OrderDetailDTO convertToDetailDTO(OrderEntity order) {
-        OrderDetailDTO dto = new OrderDetailDTO();
-        
-        // Order basic info
-        dto.setOrderId(order.getId());
-        dto.setQuantity(order.getQuantity());
-        dto.setTotalAmount(order.getTotalAmount());
-        dto.setStatus(order.getStatus());
-        dto.setPaymentMethod(order.getPaymentMethod());
-        dto.setPickupLocation(order.getPickupLocation());
-        dto.setDeliveryNotes(order.getDeliveryNotes());
-        dto.setCreatedAt(order.getCreatedAt());
-        dto.setUpdatedAt(order.getUpdatedAt());
-        
-        // Product details - Force initialization of lazy-loaded entity
-        ProductEntity product = order.getProduct();
-        org.hibernate.Hibernate.initialize(product);
-        if (product.getCategory() != null) {
-            org.hibernate.Hibernate.initialize(product.getCategory());
-        }
-        dto.setProductId(product.getId());
-        dto.setProductName(product.getName());
-        dto.setProductDescription(product.getDescription());
-        dto.setProductPrice(product.getPrice());
-        dto.setProductImage(product.getImageUrl());
-        dto.setProductCondition(product.getCondition());
-        dto.setProductCategory(product.getCategory() != null ? product.getCategory().getName() : null);
-        
-        // Buyer details - Force initialization of lazy-loaded entity
-        ProfileEntity buyer = order.getBuyer();
-        org.hibernate.Hibernate.initialize(buyer);
-        dto.setBuyerProfileId(buyer.getId());
-        dto.setBuyerFirstName(buyer.getFirstName());
-        dto.setBuyerLastName(buyer.getLastName());
-        dto.setBuyerEmail(buyer.getEmail());
-        dto.setBuyerPhone(buyer.getPhoneNumber());
-        
-        // Seller details - Force initialization of lazy-loaded entity
-        ProfileEntity seller = order.getSeller();
-        org.hibernate.Hibernate.initialize(seller);
-        dto.setSellerProfileId(seller.getId());
-        dto.setSellerFirstName(seller.getFirstName());
-        dto.setSellerLastName(seller.getLastName());
-        dto.setSellerEmail(seller.getEmail());
-        dto.setSellerPhone(seller.getPhoneNumber());
-        
-        // Check if order has review
-        boolean hasReview = reviewRepository.findByOrder_Id(order.getId())
-            .stream()
-            .findFirst()
-            .map(review -> {
-                dto.setReviewId(review.getId());
-                return true;
-            })
-            .orElse(false);
-        dto.setHasReview(hasReview);
-        
-        return dto;
+    // Get detailed orders for buyer (all orders)
+    @Transactional(readOnly = true)
+    public List<OrderDetailDTO> getDetailedOrdersByBuyer(Integer buyerId) {
+        return getDetailedOrdersByBuyer(buyerId, Pageable.unpaged());
     }
 
-    // Get detailed orders for buyer
+    // Get one page of detailed orders for buyer (single query, no lazy loading)
     @Transactional(readOnly = true)
-    public List<OrderDetailDTO> getDetailedOrdersByBuyer(Integer buyerId) {
-        List<OrderEntity> orders = orderRepository.findByBuyer_Id(buyerId);
-        return orders.stream()
-            .map(this::convertToDetailDTO)
-            .collect(Collectors.toList());
+    public List<OrderDetailDTO> getDetailedOrdersByBuyer(Integer buyerId, Pageable pageable) {
+        return orderRepository.findDetailedByBuyer(buyerId, pageable);
     }
 
-    // Get detailed orders for seller
+    // Get detailed orders for seller (all orders)
     @Transactional(readOnly = true)
     public List<OrderDetailDTO> getDetailedOrdersBySeller(Integer sellerId) {
-        List<OrderEntity> orders = orderRepository.findBySeller_Id(sellerId);
-        return orders.stream()
-            .map(this::convertToDetailDTO)
-            .collect(Collectors.toList());
+        return getDetailedOrdersBySeller(sellerId, Pageable.unpaged());
+    }
+
+    // Get one page of detailed orders for seller (single query, no lazy loading)
+    @Transactional(readOnly = true)
+    public List<OrderDetailDTO> getDetailedOrdersBySeller(Integer sellerId, Pageable pageable) {
+        return orderRepository.findDetailedBySeller(sellerId, pageable);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,79 @@
+package com.appdevg5.technominds.Order;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Order lifecycle states and the transitions allowed between them:
+ * pending -> confirmed -> (processing) -> ready_for_pickup -> completed,
+ * with cancellation possible from any non-terminal state.
+ * The lowercase code is what is stored in orders.status and exchanged with the frontend.
+ */
+public enum OrderStatus {
+
+    PENDING("pending"),
+    CONFIRMED("confirmed"),
+    PROCESSING("processing"),
+    READY_FOR_PICKUP("ready_for_pickup"),
+    COMPLETED("completed"),
+    CANCELLED("cancelled");
+
+    private final String code;
+
+    OrderStatus(String code) {
+        this.code = code;
+    }
+
+    @JsonValue
+    public String getCode() {
+        return code;
+    }
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == CANCELLED;
+    }
+
+    /**
+     * Statuses from which an order may move into this status.
+     */
+    public Set<OrderStatus> allowedSources() {
+        switch (this) {
+            case CONFIRMED:
+                return EnumSet.of(PENDING);
+            case PROCESSING:
+                return EnumSet.of(CONFIRMED);
+            case READY_FOR_PICKUP:
+                return EnumSet.of(CONFIRMED, PROCESSING);
+            case COMPLETED:
+                return EnumSet.of(READY_FOR_PICKUP);
+            case CANCELLED:
+                return EnumSet.of(PENDING, CONFIRMED, PROCESSING, READY_FOR_PICKUP);
+            case PENDING:
+            default:
+                return EnumSet.noneOf(OrderStatus.class);
+        }
+    }
+
+    public boolean canTransitionTo(OrderStatus target) {
+        return target.allowedSources().contains(this);
+    }
+
+    /**
+     * Parses a status code case-insensitively (e.g. "ready_for_pickup" or "READY_FOR_PICKUP").
+     */
+    @JsonCreator
+    public static OrderStatus fromCode(String code) {
+        if (code != null) {
+            String normalized = code.trim();
+            for (OrderStatus status : values()) {
+                if (status.code.equalsIgnoreCase(normalized)) {
+                    return status;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unknown order status: " + code);
+    }
+}
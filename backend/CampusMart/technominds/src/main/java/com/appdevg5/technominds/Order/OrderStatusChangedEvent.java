@@ -0,0 +1,82 @@
+package com.appdevg5.technominds.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Published when an order is placed (status PENDING) or when a status transition
+ * has actually been applied. Listeners only ever see transitions that won the
+ * compare-and-set, so side effects fire exactly once per change.
+ */
+public class OrderStatusChangedEvent {
+
+    private final Integer orderId;
+    private final OrderStatus status;
+    private final Integer buyerId;
+    private final String buyerName;
+    private final Integer sellerId;
+    private final Integer productId;
+    private final String productName;
+    private final Integer quantity;
+    private final BigDecimal totalAmount;
+    private final String pickupLocation;
+    private final LocalDateTime orderCreatedAt;
+
+    public OrderStatusChangedEvent(OrderEntity order) {
+        this.orderId = order.getId();
+        this.status = order.getStatus();
+        this.buyerId = order.getBuyer().getId();
+        this.buyerName = order.getBuyer().getFirstName() + " " + order.getBuyer().getLastName();
+        this.sellerId = order.getSeller().getId();
+        this.productId = order.getProduct().getId();
+        this.productName = order.getProduct().getName();
+        this.quantity = order.getQuantity();
+        this.totalAmount = order.getTotalAmount();
+        this.pickupLocation = order.getPickupLocation();
+        this.orderCreatedAt = order.getCreatedAt();
+    }
+
+    public Integer getOrderId() {
+        return orderId;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public Integer getBuyerId() {
+        return buyerId;
+    }
+
+    public String getBuyerName() {
+        return buyerName;
+    }
+
+    public Integer getSellerId() {
+        return sellerId;
+    }
+
+    public Integer getProductId() {
+        return productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public String getPickupLocation() {
+        return pickupLocation;
+    }
+
+    public LocalDateTime getOrderCreatedAt() {
+        return orderCreatedAt;
+    }
+}
@@ -0,0 +1,21 @@
+package com.appdevg5.technominds.Order;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores OrderStatus as its lowercase code so existing rows in orders.status stay valid.
+ */
+@Converter(autoApply = true)
+public class OrderStatusConverter implements AttributeConverter<OrderStatus, String> {
+
+    @Override
+    public String convertToDatabaseColumn(OrderStatus status) {
+        return status != null ? status.getCode() : null;
+    }
+
+    @Override
+    public OrderStatus convertToEntityAttribute(String code) {
+        return code != null ? OrderStatus.fromCode(code) : null;
+    }
+}
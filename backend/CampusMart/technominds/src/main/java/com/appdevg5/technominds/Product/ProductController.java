@@ -1,6 +1,9 @@
 package com.appdevg5.technominds.Product;
 
 import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.config.ChangeCounters;
+import com.appdevg5.technominds.config.ETags;
+import com.appdevg5.technominds.exception.PreconditionRequiredException;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,46 +19,51 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ChangeCounters changeCounters;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, ChangeCounters changeCounters) {
         this.productService = productService;
+        this.changeCounters = changeCounters;
     }
 
     // GET /api/products - Get all listed products
     @GetMapping
-    public List<ProductEntity> getAllListedProducts() {
-        return productService.getAllProducts();
+    public List<ProductDTO> getAllListedProducts() {
+        return productService.getAllProducts().stream().map(ProductDTO::new).toList();
     }
 
-    // GET /api/products/{id}
+    // GET /api/products/{id} - 304 on a matching If-None-Match; the ETag covers the embedded seller and category
     @GetMapping("/{id}")
-    public ResponseEntity<ProductEntity> getProductById(@PathVariable Integer id) {
+    public ResponseEntity<ProductDTO> getProductById(@PathVariable Integer id) {
         return productService.getProductById(id)
-                .map(ResponseEntity::ok)
+                .map(product -> ETags.ok(ETags.weak(product.getUpdatedAt(), product.getVersion(),
+                                product.getSeller() != null ? product.getSeller().getUpdatedAt() : null,
+                                changeCounters.version(ChangeCounters.CATEGORIES)))
+                        .body(new ProductDTO(product)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     // GET /api/products/seller/{sellerId} - Get products listed by a specific seller
     @GetMapping("/seller/{sellerId}")
-    public List<ProductEntity> getProductsBySeller(
+    public List<ProductDTO> getProductsBySeller(
             @PathVariable Integer sellerId,
             @RequestParam(name = "available", required = false) Boolean available) {
-        if (available != null && available) {
-            return productService.getAvailableProductsBySeller(sellerId);
-        }
-        return productService.getProductsBySeller(sellerId);
+        List<ProductEntity> products = available != null && available
+                ? productService.getAvailableProductsBySeller(sellerId)
+                : productService.getProductsBySeller(sellerId);
+        return products.stream().map(ProductDTO::new).toList();
     }
 
     // GET /api/products/search?term={term}
     @GetMapping("/search")
-    public List<ProductEntity> searchProducts(@RequestParam(name = "term", required = false) String term) {
-        return productService.searchProducts(term);
+    public List<ProductDTO> searchProducts(@RequestParam(name = "term", required = false) String term) {
+        return productService.searchProducts(term).stream().map(ProductDTO::new).toList();
     }
 
     // POST /api/products - List a new product
     // Accepts ProductEntity in body. If only sellerId is provided as query param, it will be assigned.
     @PostMapping
-    public ResponseEntity<ProductEntity> createProduct(
+    public ResponseEntity<ProductDTO> createProduct(
             @Valid @RequestBody ProductEntity product,
             @RequestParam(name = "sellerId", required = false) Integer sellerId
     ) {
@@ -65,14 +73,18 @@ public class ProductController {
             product.setSeller(sellerRef);
         }
         ProductEntity newProduct = productService.createProduct(product);
-        return ResponseEntity.status(HttpStatus.CREATED).body(newProduct);
+        return ResponseEntity.status(HttpStatus.CREATED).body(new ProductDTO(newProduct));
     }
 
     // PUT /api/products/{id} - Update product details
     @PutMapping("/{id}")
-    public ResponseEntity<ProductEntity> updateProduct(@PathVariable Integer id, @Valid @RequestBody ProductEntity productDetails) {
+    public ResponseEntity<ProductDTO> updateProduct(@PathVariable Integer id, @Valid @RequestBody ProductEntity productDetails) {
+        // Without the version it was read at, an edit could overwrite a newer one unnoticed
+        if (productDetails.getVersion() == null) {
+            throw new PreconditionRequiredException("Send the version of the product you edited");
+        }
         return productService.updateProduct(id, productDetails)
-                .map(ResponseEntity::ok)
+                .map(product -> ResponseEntity.ok(new ProductDTO(product)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
@@ -85,11 +97,11 @@ public class ProductController {
 
     // POST /api/products/{id}/like - Toggle like for a product
     @PostMapping("/{id}/like")
-    public ResponseEntity<ProductEntity> toggleLikeProduct(
+    public ResponseEntity<ProductDTO> toggleLikeProduct(
             @PathVariable Integer id,
             @RequestParam(name = "profileId") Integer profileId) {
         return productService.toggleLike(id, profileId)
-                .map(ResponseEntity::ok)
+                .map(product -> ResponseEntity.ok(new ProductDTO(product)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
     
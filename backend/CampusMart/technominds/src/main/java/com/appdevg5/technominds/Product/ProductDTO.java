@@ -0,0 +1,214 @@
+package com.appdevg5.technominds.Product;
+
+import com.appdevg5.technominds.Category.CategoryDTO;
+import com.appdevg5.technominds.ProductImage.ProductImageDTO;
+import com.appdevg5.technominds.Profile.ProfileDTO;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object for Product responses: the listing with its seller, category and images.
+ * Built from a product fetched with those associations (ProductRepository's detailed finders).
+ */
+public class ProductDTO {
+    private Integer id;
+    private ProfileDTO seller;
+    private String name;
+    private String description;
+    private BigDecimal price;
+    private CategoryDTO category;
+    private String brandType;
+    private String condition;
+    private String contactInfo;
+    private Boolean isAvailable;
+    private Boolean tradeOnly;
+    private Integer viewCount;
+    private Integer likeCount;
+    private Integer stock;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+    private List<ProductImageDTO> images;
+    private String imageUrl;
+
+    // Constructors
+    public ProductDTO() {}
+
+    public ProductDTO(ProductEntity product) {
+        this.id = product.getId();
+        this.seller = product.getSeller() != null ? new ProfileDTO(product.getSeller()) : null;
+        this.name = product.getName();
+        this.description = product.getDescription();
+        this.price = product.getPrice();
+        this.category = product.getCategory() != null ? new CategoryDTO(product.getCategory()) : null;
+        this.brandType = product.getBrandType();
+        this.condition = product.getCondition();
+        this.contactInfo = product.getContactInfo();
+        this.isAvailable = product.getIsAvailable();
+        this.tradeOnly = product.getTradeOnly();
+        this.viewCount = product.getViewCount();
+        this.likeCount = product.getLikeCount();
+        this.stock = product.getStock();
+        this.createdAt = product.getCreatedAt();
+        this.updatedAt = product.getUpdatedAt();
+        this.version = product.getVersion();
+        this.images = product.getImages() != null
+            ? product.getImages().stream().map(ProductImageDTO::new).toList()
+            : List.of();
+        this.imageUrl = product.getImageUrl();
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public ProfileDTO getSeller() {
+        return seller;
+    }
+
+    public void setSeller(ProfileDTO seller) {
+        this.seller = seller;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public CategoryDTO getCategory() {
+        return category;
+    }
+
+    public void setCategory(CategoryDTO category) {
+        this.category = category;
+    }
+
+    public String getBrandType() {
+        return brandType;
+    }
+
+    public void setBrandType(String brandType) {
+        this.brandType = brandType;
+    }
+
+    public String getCondition() {
+        return condition;
+    }
+
+    public void setCondition(String condition) {
+        this.condition = condition;
+    }
+
+    public String getContactInfo() {
+        return contactInfo;
+    }
+
+    public void setContactInfo(String contactInfo) {
+        this.contactInfo = contactInfo;
+    }
+
+    public Boolean getIsAvailable() {
+        return isAvailable;
+    }
+
+    public void setIsAvailable(Boolean isAvailable) {
+        this.isAvailable = isAvailable;
+    }
+
+    public Boolean getTradeOnly() {
+        return tradeOnly;
+    }
+
+    public void setTradeOnly(Boolean tradeOnly) {
+        this.tradeOnly = tradeOnly;
+    }
+
+    public Integer getViewCount() {
+        return viewCount;
+    }
+
+    public void setViewCount(Integer viewCount) {
+        this.viewCount = viewCount;
+    }
+
+    public Integer getLikeCount() {
+        return likeCount;
+    }
+
+    public void setLikeCount(Integer likeCount) {
+        this.likeCount = likeCount;
+    }
+
+    public Integer getStock() {
+        return stock;
+    }
+
+    public void setStock(Integer stock) {
+        this.stock = stock;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public List<ProductImageDTO> getImages() {
+        return images;
+    }
+
+    public void setImages(List<ProductImageDTO> images) {
+        this.images = images;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+}
@@ -6,6 +6,7 @@ import com.appdevg5.technominds.Category.CategoryEntity;
 import com.appdevg5.technominds.ProductImage.ProductImageEntity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.math.BigDecimal;
@@ -78,6 +79,13 @@ public class ProductEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Optimistic lock: concurrent edits of a listing fail instead of overwriting each other.
+    // decrementStock and incrementStock bump it too, since bulk UPDATEs bypass Hibernate's versioning
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // Relationship to ProductImages
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<ProductImageEntity> images = new ArrayList<>();
@@ -217,6 +225,14 @@ public class ProductEntity {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public List<ProductImageEntity> getImages() {
         return images;
     }
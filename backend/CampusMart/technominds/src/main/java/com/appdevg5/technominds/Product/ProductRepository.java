@@ -1,8 +1,14 @@
 package com.appdevg5.technominds.Product;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for ProductEntity adjusted to match entity field names.
@@ -15,6 +21,18 @@ public interface ProductRepository extends JpaRepository<ProductEntity, Integer>
      */
     List<ProductEntity> findBySeller_Id(Integer sellerId);
 
+    long countBySeller_Id(Integer sellerId);
+
+    long countBySeller_IdAndIsAvailableTrue(Integer sellerId);
+
+    /**
+     * IDs of a seller's available products, newest first. Paging on IDs keeps the limit in SQL;
+     * the products themselves are then loaded with findDetailedByIdIn.
+     */
+    @Query("SELECT p.id FROM ProductEntity p WHERE p.seller.id = :sellerId AND p.isAvailable = true " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Integer> findAvailableIdsBySeller(@Param("sellerId") Integer sellerId, Pageable pageable);
+
     /**
      * Finds products whose name or description contains the search term (case-insensitive).
      */
@@ -29,4 +47,55 @@ public interface ProductRepository extends JpaRepository<ProductEntity, Integer>
      * Finds all products that are currently available.
      */
     List<ProductEntity> findByIsAvailableTrue();
-}
\ No newline at end of file
+
+    // The "Detailed" finders load seller, category and images with the product so that the
+    // response DTOs can be built without lazy loading after the transaction has ended.
+
+    @EntityGraph(attributePaths = {"seller", "category", "images"})
+    Optional<ProductEntity> findDetailedById(Integer id);
+
+    @EntityGraph(attributePaths = {"seller", "category", "images"})
+    List<ProductEntity> findDetailedByIsAvailableTrue();
+
+    @EntityGraph(attributePaths = {"seller", "category", "images"})
+    List<ProductEntity> findDetailedBySeller_Id(Integer sellerId);
+
+    @EntityGraph(attributePaths = {"seller", "category", "images"})
+    List<ProductEntity> findDetailedBySeller_IdAndIsAvailableTrue(Integer sellerId);
+
+    @EntityGraph(attributePaths = {"seller", "category", "images"})
+    List<ProductEntity> findDetailedByIdIn(List<Integer> ids);
+
+    @EntityGraph(attributePaths = {"seller", "category", "images"})
+    @Query("SELECT p FROM ProductEntity p")
+    List<ProductEntity> findAllDetailed();
+
+    /**
+     * Atomically reserves stock for a checkout.
+     * The guard on stock makes the decrement conditional, so concurrent buyers can never
+     * drive stock below zero. The availability flag is assigned first so it is computed
+     * from the pre-decrement stock on both standard SQL and MySQL (left-to-right) semantics.
+     * Returns the number of rows updated: 1 if the stock was reserved, 0 otherwise.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductEntity p SET " +
+           "p.isAvailable = CASE WHEN p.stock - :quantity > 0 THEN p.isAvailable ELSE FALSE END, " +
+           "p.stock = p.stock - :quantity, " +
+           "p.updatedAt = LOCAL DATETIME, " +
+           "p.version = p.version + 1 " +
+           "WHERE p.id = :productId AND p.stock >= :quantity")
+    int decrementStock(@Param("productId") Integer productId, @Param("quantity") Integer quantity);
+
+    /**
+     * Gives reserved stock back, e.g. when an order is cancelled, and lists the product again.
+     * Returns the number of rows updated: 1, or 0 if the product no longer exists.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductEntity p SET " +
+           "p.isAvailable = TRUE, " +
+           "p.stock = p.stock + :quantity, " +
+           "p.updatedAt = LOCAL DATETIME, " +
+           "p.version = p.version + 1 " +
+           "WHERE p.id = :productId")
+    int incrementStock(@Param("productId") Integer productId, @Param("quantity") Integer quantity);
+}
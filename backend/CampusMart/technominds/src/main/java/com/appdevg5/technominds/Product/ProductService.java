@@ -1,10 +1,18 @@
 package com.appdevg5.technominds.Product;
 
 import com.appdevg5.technominds.Category.CategoryRepository;
+import com.appdevg5.technominds.Change.ChangeLogService;
 import com.appdevg5.technominds.ProductImage.ProductImageEntity;
 import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.Profile.ProfileRepository;
+import com.appdevg5.technominds.config.ChangeCounters;
+import com.appdevg5.technominds.config.ResponseCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -18,46 +26,65 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final ProductLikeRepository productLikeRepository;
+    private final ProfileRepository profileRepository;
+    private final Timer searchTimer;
+    private final ResponseCache responseCache;
+    private final ChangeCounters changeCounters;
+    private final ChangeLogService changeLogService;
 
     public ProductService(ProductRepository productRepository, 
                          CategoryRepository categoryRepository,
-                         ProductLikeRepository productLikeRepository) {
+                         ProductLikeRepository productLikeRepository,
+                         ProfileRepository profileRepository,
+                         MeterRegistry meterRegistry,
+                         ResponseCache responseCache,
+                         ChangeCounters changeCounters,
+                         ChangeLogService changeLogService) {
         this.productRepository = productRepository;
         this.categoryRepository = categoryRepository;
         this.productLikeRepository = productLikeRepository;
+        this.profileRepository = profileRepository;
+        this.searchTimer = Timer.builder("products.search")
+                .description("Product search latency")
+                .register(meterRegistry);
+        this.responseCache = responseCache;
+        this.changeCounters = changeCounters;
+        this.changeLogService = changeLogService;
     }
 
     // READ
+    @Transactional(readOnly = true)
     public Optional<ProductEntity> getProductById(Integer id) {
-        return productRepository.findById(id);
+        return productRepository.findDetailedById(id);
     }
 
+    @Transactional(readOnly = true)
     public List<ProductEntity> getAllProducts() {
         // Return only available products matching the ERD column is_available
-        return productRepository.findAll().stream()
-                .filter(p -> Boolean.TRUE.equals(p.getIsAvailable()))
-                .collect(Collectors.toList());
+        return productRepository.findDetailedByIsAvailableTrue();
     }
 
+    @Transactional(readOnly = true)
     public List<ProductEntity> getProductsBySeller(Integer sellerId) {
-        return productRepository.findAll().stream()
-                .filter(p -> p.getSeller() != null && sellerId != null && sellerId.equals(p.getSeller().getId()))
-                .collect(Collectors.toList());
+        return productRepository.findDetailedBySeller_Id(sellerId);
     }
     
+    @Transactional(readOnly = true)
     public List<ProductEntity> getAvailableProductsBySeller(Integer sellerId) {
-        return productRepository.findAll().stream()
-                .filter(p -> p.getSeller() != null && sellerId != null && sellerId.equals(p.getSeller().getId()))
-                .filter(p -> Boolean.TRUE.equals(p.getIsAvailable()))
-                .collect(Collectors.toList());
+        return productRepository.findDetailedBySeller_IdAndIsAvailableTrue(sellerId);
     }
 
+    @Transactional(readOnly = true)
     public List<ProductEntity> searchProducts(String searchTerm) {
+        return searchTimer.record(() -> findMatching(searchTerm));
+    }
+
+    private List<ProductEntity> findMatching(String searchTerm) {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
             return getAllProducts();
         }
         String q = searchTerm.toLowerCase();
-        return productRepository.findAll().stream()
+        return productRepository.findAllDetailed().stream()
                 .filter(p -> (p.getName() != null && p.getName().toLowerCase().contains(q))
                         || (p.getDescription() != null && p.getDescription().toLowerCase().contains(q)))
                 .collect(Collectors.toList());
@@ -78,6 +105,13 @@ public class ProductService {
             categoryRepository.findById(product.getCategory().getId())
                 .ifPresent(product::setCategory);
         }
+
+        // An id-only seller has no version, so Hibernate cannot tell it from a new profile
+        if (product.getSeller() != null && product.getSeller().getId() != null) {
+            Integer sellerId = product.getSeller().getId();
+            product.setSeller(profileRepository.findById(sellerId)
+                .orElseThrow(() -> new IllegalArgumentException("Seller profile not found with ID: " + sellerId)));
+        }
         
         // Handle images - set the product reference for each image
         if (product.getImages() != null && !product.getImages().isEmpty()) {
@@ -86,13 +120,22 @@ public class ProductService {
             }
         }
         
-        return productRepository.save(product);
+        ProductEntity saved = productRepository.save(product);
+        if (saved.getSeller() != null) {
+            responseCache.evictSellerInfo(saved.getSeller().getId());
+        }
+        changeLogService.upserted(ChangeLogService.PRODUCT, saved.getId());
+        return saved;
     }
 
     // UPDATE
     @Transactional
     public Optional<ProductEntity> updateProduct(Integer id, ProductEntity productDetails) {
-        return productRepository.findById(id).map(existingProduct -> {
+        return productRepository.findDetailedById(id).map(existingProduct -> {
+            // A client that sends the version it read must not overwrite a newer edit
+            if (productDetails.getVersion() != null && !productDetails.getVersion().equals(existingProduct.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(ProductEntity.class, id);
+            }
             // Allow updates to fields that match the ERD and entity:
             existingProduct.setName(productDetails.getName());
             existingProduct.setDescription(productDetails.getDescription());
@@ -133,8 +176,14 @@ public class ProductService {
                     newImage.setProduct(existingProduct);
                     existingProduct.getImages().add(newImage);
                 }
+                // A collection change alone does not dirty the row, and updatedAt backs the ETag
+                existingProduct.setUpdatedAt(LocalDateTime.now());
             }
 
+            responseCache.evictProduct(id);
+            responseCache.evictSellerInfo(existingProduct.getSeller().getId());
+            changeCounters.changed(ChangeCounters.PRODUCTS);
+            changeLogService.upserted(ChangeLogService.PRODUCT, id);
             return productRepository.save(existingProduct);
         });
     }
@@ -142,6 +191,13 @@ public class ProductService {
     // DELETE (Delisting / hard delete)
     @Transactional
     public void deleteProduct(Integer id) {
+        productRepository.findById(id).ifPresent(product -> {
+            responseCache.evictProduct(id);
+            responseCache.evictSellerInfo(product.getSeller().getId());
+            changeCounters.changed(ChangeCounters.PRODUCTS);
+            changeLogService.deleted(ChangeLogService.PRODUCT, id);
+        });
+
         // First, delete all likes associated with this product to avoid foreign key constraint violation
         productLikeRepository.deleteByProductId(id);
         
@@ -157,7 +213,7 @@ public class ProductService {
      */
     @Transactional
     public Optional<ProductEntity> toggleLike(Integer productId, Integer profileId) {
-        return productRepository.findById(productId).map(product -> {
+        return productRepository.findDetailedById(productId).map(product -> {
             // Check if user has already liked this product
             Optional<ProductLikeEntity> existingLike = 
                 productLikeRepository.findByProductIdAndProfileId(productId, profileId);
@@ -167,8 +223,7 @@ public class ProductService {
                 productLikeRepository.delete(existingLike.get());
             } else {
                 // User hasn't liked yet - add the like
-                ProfileEntity profile = new ProfileEntity();
-                profile.setId(profileId);
+                ProfileEntity profile = profileRepository.getReferenceById(profileId);
                 ProductLikeEntity newLike = new ProductLikeEntity(product, profile);
                 productLikeRepository.save(newLike);
             }
@@ -176,6 +231,8 @@ public class ProductService {
             // Update product's like count based on actual likes in database
             long likeCount = productLikeRepository.countByProductId(productId);
             product.setLikeCount((int) likeCount);
+            responseCache.evictProduct(productId);
+            changeLogService.upserted(ChangeLogService.PRODUCT, productId);
             return productRepository.save(product);
         });
     }
@@ -0,0 +1,46 @@
+package com.appdevg5.technominds.Product;
+
+import java.math.BigDecimal;
+
+/**
+ * The few product fields shown next to a message or review
+ */
+public class ProductSummaryDTO {
+    private Integer id;
+    private String name;
+    private BigDecimal price;
+
+    // Constructors
+    public ProductSummaryDTO() {}
+
+    public ProductSummaryDTO(ProductEntity product) {
+        this.id = product.getId();
+        this.name = product.getName();
+        this.price = product.getPrice();
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+}
@@ -0,0 +1,44 @@
+package com.appdevg5.technominds.ProductImage;
+
+/**
+ * Data Transfer Object for a product image (URL or inline data URL)
+ */
+public class ProductImageDTO {
+    private Integer id;
+    private String imageUrl;
+    private Boolean isPrimary;
+
+    // Constructors
+    public ProductImageDTO() {}
+
+    public ProductImageDTO(ProductImageEntity image) {
+        this.id = image.getId();
+        this.imageUrl = image.getImageUrl();
+        this.isPrimary = image.getIsPrimary();
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    public Boolean getIsPrimary() {
+        return isPrimary;
+    }
+
+    public void setIsPrimary(Boolean isPrimary) {
+        this.isPrimary = isPrimary;
+    }
+}
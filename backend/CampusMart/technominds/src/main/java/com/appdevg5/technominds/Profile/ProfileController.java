@@ -1,7 +1,11 @@
 // ...existing code...
 package com.appdevg5.technominds.Profile;
 
+import com.appdevg5.technominds.config.ETags;
+import com.appdevg5.technominds.exception.PreconditionRequiredException;
 import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpHeaders;
@@ -30,26 +34,30 @@ import java.util.UUID;
 @RequestMapping("/api/profiles")
 public class ProfileController {
 
+    private static final Logger log = LoggerFactory.getLogger(ProfileController.class);
+
     private final ProfileService profileService;
+    private final StorefrontService storefrontService;
     private static final String UPLOAD_DIR = "uploads/profiles/";
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
     private static final String[] ALLOWED_EXTENSIONS = {".jpg", ".jpeg", ".png", ".gif", ".webp"};
 
-    public ProfileController(ProfileService profileService) {
+    public ProfileController(ProfileService profileService, StorefrontService storefrontService) {
         this.profileService = profileService;
+        this.storefrontService = storefrontService;
     }
 
     // GET /api/profiles
     @GetMapping
-    public List<ProfileEntity> getAllProfiles() {
-        return profileService.getAllProfiles();
+    public List<ProfileDTO> getAllProfiles() {
+        return profileService.getAllProfiles().stream().map(ProfileDTO::new).toList();
     }
 
-    // GET /api/profiles/{id}
+    // GET /api/profiles/{id} - 304 on a matching If-None-Match
     @GetMapping("/{id}")
-    public ResponseEntity<ProfileEntity> getProfileById(@PathVariable Integer id) {
+    public ResponseEntity<ProfileDTO> getProfileById(@PathVariable Integer id) {
         return profileService.getProfileById(id)
-                .map(ResponseEntity::ok)
+                .map(profile -> ETags.ok(ETags.weak(profile.getUpdatedAt(), profile.getVersion())).body(new ProfileDTO(profile)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
     
@@ -61,18 +69,32 @@ public class ProfileController {
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    // GET /api/profiles/{id}/storefront?listings=12 - Seller page in one call: profile, listing counts,
+    // newest available listings and review summary, fetched in parallel; parts that time out are listed in unavailableParts
+    @GetMapping("/{id}/storefront")
+    public ResponseEntity<StorefrontDTO> getStorefront(@PathVariable Integer id,
+                                                      @RequestParam(name = "listings", defaultValue = "12") int listings) {
+        return storefrontService.getStorefront(id, Math.max(1, Math.min(listings, 50)))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     // POST /api/profiles - Create a new profile (Initial registration)
     @PostMapping
-    public ResponseEntity<ProfileEntity> createProfile(@Valid @RequestBody ProfileEntity profile) {
+    public ResponseEntity<ProfileDTO> createProfile(@Valid @RequestBody ProfileEntity profile) {
         ProfileEntity newProfile = profileService.createProfile(profile);
-        return new ResponseEntity<>(newProfile, HttpStatus.CREATED);
+        return new ResponseEntity<>(new ProfileDTO(newProfile), HttpStatus.CREATED);
     }
 
     // PUT /api/profiles/{id} - Update profile details
     @PutMapping("/{id}")
-    public ResponseEntity<ProfileEntity> updateProfile(@PathVariable Integer id, @Valid @RequestBody ProfileEntity profileDetails) {
+    public ResponseEntity<ProfileDTO> updateProfile(@PathVariable Integer id, @Valid @RequestBody ProfileEntity profileDetails) {
+        // Without the version it was read at, an edit could overwrite a newer one unnoticed
+        if (profileDetails.getVersion() == null) {
+            throw new PreconditionRequiredException("Send the version of the profile you edited");
+        }
         return profileService.updateProfile(id, profileDetails)
-                .map(ResponseEntity::ok)
+                .map(profile -> ResponseEntity.ok(new ProfileDTO(profile)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
@@ -157,9 +179,7 @@ public class ProfileController {
                 profileService.updateProfile(id, profile);
             });
             
-            System.out.println("Profile picture uploaded successfully: " + uniqueFilename);
-            System.out.println("File saved to: " + filePath.toAbsolutePath());
-            System.out.println("Accessible at: " + fileUrl);
+            log.info("Profile picture uploaded: {} ({} bytes)", filePath.toAbsolutePath(), file.getSize());
             
             return ResponseEntity.ok(Map.of(
                 "imageUrl", fileUrl,
@@ -168,14 +188,12 @@ public class ProfileController {
             ));
             
         } catch (IOException e) {
-            System.err.println("Failed to upload profile picture: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to upload profile picture", e);
             return ResponseEntity.status(500).body(Map.of(
                 "error", "Failed to save image: " + e.getMessage()
             ));
         } catch (Exception e) {
-            System.err.println("Unexpected error during profile picture upload: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Unexpected error during profile picture upload", e);
             return ResponseEntity.status(500).body(Map.of(
                 "error", "Failed to upload image: " + e.getMessage()
             ));
@@ -211,14 +229,13 @@ public class ProfileController {
                     .body(resource);
                     
         } catch (MalformedURLException e) {
-            System.err.println("Invalid file path: " + e.getMessage());
+            log.debug("Invalid file path: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
         } catch (IOException e) {
-            System.err.println("Error reading file: " + e.getMessage());
+            log.debug("Error reading file: {}", e.getMessage());
             return ResponseEntity.notFound().build();
         } catch (Exception e) {
-            System.err.println("Unexpected error serving profile image: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Unexpected error serving profile image", e);
             return ResponseEntity.status(500).build();
         }
     }
@@ -0,0 +1,158 @@
+package com.appdevg5.technominds.Profile;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Public view of a profile, as embedded in product, message, review and trade offer responses.
+ * Rating aggregates other than sellerRating and totalReviews stay internal.
+ */
+public class ProfileDTO {
+    private Integer id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phoneNumber;
+    private String instagramHandle;
+    private String academicLevel;
+    private String bio;
+    private String profilePicture;
+    private BigDecimal sellerRating;
+    private Integer totalReviews;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+
+    // Constructors
+    public ProfileDTO() {}
+
+    public ProfileDTO(ProfileEntity profile) {
+        this.id = profile.getId();
+        this.firstName = profile.getFirstName();
+        this.lastName = profile.getLastName();
+        this.email = profile.getEmail();
+        this.phoneNumber = profile.getPhoneNumber();
+        this.instagramHandle = profile.getInstagramHandle();
+        this.academicLevel = profile.getAcademicLevel();
+        this.bio = profile.getBio();
+        this.profilePicture = profile.getProfilePicture();
+        this.sellerRating = profile.getSellerRating();
+        this.totalReviews = profile.getTotalReviews();
+        this.createdAt = profile.getCreatedAt();
+        this.updatedAt = profile.getUpdatedAt();
+        this.version = profile.getVersion();
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+
+    public String getInstagramHandle() {
+        return instagramHandle;
+    }
+
+    public void setInstagramHandle(String instagramHandle) {
+        this.instagramHandle = instagramHandle;
+    }
+
+    public String getAcademicLevel() {
+        return academicLevel;
+    }
+
+    public void setAcademicLevel(String academicLevel) {
+        this.academicLevel = academicLevel;
+    }
+
+    public String getBio() {
+        return bio;
+    }
+
+    public void setBio(String bio) {
+        this.bio = bio;
+    }
+
+    public String getProfilePicture() {
+        return profilePicture;
+    }
+
+    public void setProfilePicture(String profilePicture) {
+        this.profilePicture = profilePicture;
+    }
+
+    public BigDecimal getSellerRating() {
+        return sellerRating;
+    }
+
+    public void setSellerRating(BigDecimal sellerRating) {
+        this.sellerRating = sellerRating;
+    }
+
+    public Integer getTotalReviews() {
+        return totalReviews;
+    }
+
+    public void setTotalReviews(Integer totalReviews) {
+        this.totalReviews = totalReviews;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
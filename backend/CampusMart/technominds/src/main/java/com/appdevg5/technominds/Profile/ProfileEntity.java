@@ -1,14 +1,23 @@
 // ...existing code...
 package com.appdevg5.technominds.Profile;
 
+import com.appdevg5.technominds.config.SecondLevelCacheConfig;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
+// Second-level cached with a short TTL (hibernate-cache.profiles.ttl-seconds); rating updates are bulk
+// statements, which make Hibernate invalidate this region on commit
 @Entity
 @Table(name = "profiles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.PROFILES)
 public class ProfileEntity {
 
     @Id
@@ -47,6 +56,38 @@ public class ProfileEntity {
     @Column(name = "total_reviews")
     private Integer totalReviews = 0;
 
+    // Sum of all received ratings; with totalReviews it gives sellerRating without rereading reviews
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum = 0L;
+
+    // Rating histogram: number of received reviews per star value
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(name = "rating_1_count", nullable = false)
+    private Integer rating1Count = 0;
+
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(name = "rating_2_count", nullable = false)
+    private Integer rating2Count = 0;
+
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(name = "rating_3_count", nullable = false)
+    private Integer rating3Count = 0;
+
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(name = "rating_4_count", nullable = false)
+    private Integer rating4Count = 0;
+
+    @JsonIgnore
+    @ColumnDefault("0")
+    @Column(name = "rating_5_count", nullable = false)
+    private Integer rating5Count = 0;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -55,6 +96,12 @@ public class ProfileEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Optimistic lock; the rating bulk UPDATEs in ProfileRepository bump it as well
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // No-arg constructor
     public ProfileEntity() {}
 
@@ -150,6 +197,54 @@ public class ProfileEntity {
         this.totalReviews = totalReviews;
     }
 
+    public Long getRatingSum() {
+        return ratingSum;
+    }
+
+    public void setRatingSum(Long ratingSum) {
+        this.ratingSum = ratingSum;
+    }
+
+    public Integer getRating1Count() {
+        return rating1Count;
+    }
+
+    public void setRating1Count(Integer rating1Count) {
+        this.rating1Count = rating1Count;
+    }
+
+    public Integer getRating2Count() {
+        return rating2Count;
+    }
+
+    public void setRating2Count(Integer rating2Count) {
+        this.rating2Count = rating2Count;
+    }
+
+    public Integer getRating3Count() {
+        return rating3Count;
+    }
+
+    public void setRating3Count(Integer rating3Count) {
+        this.rating3Count = rating3Count;
+    }
+
+    public Integer getRating4Count() {
+        return rating4Count;
+    }
+
+    public void setRating4Count(Integer rating4Count) {
+        this.rating4Count = rating4Count;
+    }
+
+    public Integer getRating5Count() {
+        return rating5Count;
+    }
+
+    public void setRating5Count(Integer rating5Count) {
+        this.rating5Count = rating5Count;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -167,5 +262,13 @@ public class ProfileEntity {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
 // ...existing code...
\ No newline at end of file
@@ -1,11 +1,84 @@
 package com.appdevg5.technominds.Profile;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProfileRepository extends JpaRepository<ProfileEntity, Integer> {
 
     Optional<ProfileEntity> findByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Records a review rating change against a seller: {@code addedRating} is the new rating
+     * (0 when a review is deleted), {@code removedRating} the old one (0 when a review is created).
+     */
+    default int applyRatingChange(Integer sellerId, int addedRating, int removedRating) {
+        int countDelta = (addedRating > 0 ? 1 : 0) - (removedRating > 0 ? 1 : 0);
+        return applyRatingDelta(sellerId, addedRating - removedRating, countDelta, addedRating, removedRating);
+    }
+
+    /**
+     * Applies a rating change to a seller's running aggregates and histogram in one atomic UPDATE.
+     * sellerRating is assigned first because MySQL evaluates SET clauses left to right
+     * (later clauses would otherwise see the already-updated sum and count).
+     */
+    @Modifying
+    @Query("UPDATE ProfileEntity p SET " +
+           "p.sellerRating = CASE WHEN COALESCE(p.totalReviews, 0) + :countDelta > 0 " +
+           "THEN ROUND(CAST(p.ratingSum + :sumDelta AS BigDecimal) / (COALESCE(p.totalReviews, 0) + :countDelta), 2) " +
+           "ELSE 0 END, " +
+           "p.rating1Count = p.rating1Count + CASE WHEN :added = 1 THEN 1 ELSE 0 END - CASE WHEN :removed = 1 THEN 1 ELSE 0 END, " +
+           "p.rating2Count = p.rating2Count + CASE WHEN :added = 2 THEN 1 ELSE 0 END - CASE WHEN :removed = 2 THEN 1 ELSE 0 END, " +
+           "p.rating3Count = p.rating3Count + CASE WHEN :added = 3 THEN 1 ELSE 0 END - CASE WHEN :removed = 3 THEN 1 ELSE 0 END, " +
+           "p.rating4Count = p.rating4Count + CASE WHEN :added = 4 THEN 1 ELSE 0 END - CASE WHEN :removed = 4 THEN 1 ELSE 0 END, " +
+           "p.rating5Count = p.rating5Count + CASE WHEN :added = 5 THEN 1 ELSE 0 END - CASE WHEN :removed = 5 THEN 1 ELSE 0 END, " +
+           "p.ratingSum = p.ratingSum + :sumDelta, " +
+           "p.totalReviews = COALESCE(p.totalReviews, 0) + :countDelta, " +
+           "p.updatedAt = LOCAL DATETIME, " +
+           "p.version = p.version + 1 " +
+           "WHERE p.id = :sellerId")
+    int applyRatingDelta(@Param("sellerId") Integer sellerId,
+                         @Param("sumDelta") long sumDelta,
+                         @Param("countDelta") int countDelta,
+                         @Param("added") int addedRating,
+                         @Param("removed") int removedRating);
+
+    /**
+     * Profiles whose stored rating aggregates or histogram have drifted from the reviews table.
+     */
+    @Query("SELECT p.id FROM ProfileEntity p " +
+           "WHERE p.totalReviews IS NULL " +
+           "OR p.totalReviews <> (SELECT COUNT(r) FROM ReviewEntity r WHERE r.seller = p) " +
+           "OR p.ratingSum <> COALESCE((SELECT SUM(r.rating) FROM ReviewEntity r WHERE r.seller = p), 0) " +
+           "OR p.rating1Count <> (SELECT COUNT(r) FROM ReviewEntity r WHERE r.seller = p AND r.rating = 1) " +
+           "OR p.rating2Count <> (SELECT COUNT(r) FROM ReviewEntity r WHERE r.seller = p AND r.rating = 2) " +
+           "OR p.rating3Count <> (SELECT COUNT(r) FROM ReviewEntity r WHERE r.seller = p AND r.rating = 3) " +
+           "OR p.rating4Count <> (SELECT COUNT(r) FROM ReviewEntity r WHERE r.seller = p AND r.rating = 4) " +
+           "OR p.rating5Count <> (SELECT COUNT(r) FROM ReviewEntity r WHERE r.seller = p AND r.rating = 5)")
+    List<Integer> findIdsWithDriftedRatings();
+
+    /**
+     * Recomputes the rating aggregates and histogram from the reviews table for the given profiles
+     * (see {@link #findIdsWithDriftedRatings()}). Returns the number of profiles corrected.
+     */
+    @Modifying
+    @Query("UPDATE ProfileEntity p SET " +
+           "p.sellerRating = COALESCE((SELECT ROUND(CAST(AVG(r.rating) AS BigDecimal), 2) FROM ReviewEntity r WHERE r.seller = p), 0), " +
+           "p.rating1Count = (SELECT COUNT(r) FROM ReviewEntity r WHERE r.seller = p AND r.rating = 1), " +
+           "p.rating2Count = (SELECT COUNT(r) FROM ReviewEntity r WHERE r.seller = p AND r.rating = 2), " +
+           "p.rating3Count = (SELECT COUNT(r) FROM ReviewEntity r WHERE r.seller = p AND r.rating = 3), " +
+           "p.rating4Count = (SELECT COUNT(r) FROM ReviewEntity r WHERE r.seller = p AND r.rating = 4), " +
+           "p.rating5Count = (SELECT COUNT(r) FROM ReviewEntity r WHERE r.seller = p AND r.rating = 5), " +
+           "p.ratingSum = COALESCE((SELECT SUM(r.rating) FROM ReviewEntity r WHERE r.seller = p), 0), " +
+           "p.totalReviews = (SELECT COUNT(r) FROM ReviewEntity r WHERE r.seller = p), " +
+           "p.updatedAt = LOCAL DATETIME, " +
+           "p.version = p.version + 1 " +
+           "WHERE p.id IN :ids")
+    int reconcileRatings(@Param("ids") Collection<Integer> ids);
+}
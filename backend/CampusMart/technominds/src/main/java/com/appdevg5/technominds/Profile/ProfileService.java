@@ -1,7 +1,11 @@
 // ...existing code...
 package com.appdevg5.technominds.Profile;
 
+import com.appdevg5.technominds.Change.ChangeLogService;
 import com.appdevg5.technominds.Product.ProductRepository;
+import com.appdevg5.technominds.config.ChangeCounters;
+import com.appdevg5.technominds.config.ResponseCache;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -16,10 +20,18 @@ public class ProfileService {
 
     private final ProfileRepository profileRepository;
     private final ProductRepository productRepository;
+    private final ResponseCache responseCache;
+    private final ChangeCounters changeCounters;
+    private final ChangeLogService changeLogService;
 
-    public ProfileService(ProfileRepository profileRepository, ProductRepository productRepository) {
+    public ProfileService(ProfileRepository profileRepository, ProductRepository productRepository,
+                          ResponseCache responseCache, ChangeCounters changeCounters,
+                          ChangeLogService changeLogService) {
         this.profileRepository = profileRepository;
         this.productRepository = productRepository;
+        this.responseCache = responseCache;
+        this.changeCounters = changeCounters;
+        this.changeLogService = changeLogService;
     }
 
     // READ
@@ -35,12 +47,18 @@ public class ProfileService {
     @Transactional
     public ProfileEntity createProfile(ProfileEntity profile) {
         // DB constraints should enforce uniqueness for authUserId/email
-        return profileRepository.save(profile);
+        ProfileEntity saved = profileRepository.save(profile);
+        changeLogService.upserted(ChangeLogService.PROFILE, saved.getId());
+        return saved;
     }
 
     @Transactional
     public Optional<ProfileEntity> updateProfile(Integer id, ProfileEntity profileDetails) {
         return profileRepository.findById(id).map(existingProfile -> {
+            // Reject edits made against an older read of the profile
+            if (profileDetails.getVersion() != null && !profileDetails.getVersion().equals(existingProfile.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(ProfileEntity.class, id);
+            }
             if (profileDetails.getFirstName() != null) existingProfile.setFirstName(profileDetails.getFirstName());
             if (profileDetails.getLastName() != null) existingProfile.setLastName(profileDetails.getLastName());
             if (profileDetails.getPhoneNumber() != null) existingProfile.setPhoneNumber(profileDetails.getPhoneNumber());
@@ -48,6 +66,10 @@ public class ProfileService {
             if (profileDetails.getInstagramHandle() != null) existingProfile.setInstagramHandle(profileDetails.getInstagramHandle());
             if (profileDetails.getBio() != null) existingProfile.setBio(profileDetails.getBio());
             // Email is typically immutable
+            // Products embed their seller too, but those entries are left to expire on their short TTL
+            responseCache.evictSellerInfo(id);
+            changeCounters.changed(ChangeCounters.PROFILES);
+            changeLogService.upserted(ChangeLogService.PROFILE, id);
             return profileRepository.save(existingProfile);
         });
     }
@@ -56,6 +78,9 @@ public class ProfileService {
     @Transactional
     public void deleteProfile(Integer id) {
         profileRepository.deleteById(id);
+        responseCache.evictSellerInfo(id);
+        changeCounters.changed(ChangeCounters.PROFILES);
+        changeLogService.deleted(ChangeLogService.PROFILE, id);
     }
     
     // UTILITY: Updates the profile's total review count
@@ -64,6 +89,9 @@ public class ProfileService {
         profileRepository.findById(profileId).ifPresent(profile -> {
             profile.setTotalReviews(newTotalReviews);
             profileRepository.save(profile);
+            responseCache.evictSellerInfo(profileId);
+            changeCounters.changed(ChangeCounters.PROFILES);
+            changeLogService.upserted(ChangeLogService.PROFILE, profileId);
         });
     }
     
@@ -74,13 +102,8 @@ public class ProfileService {
     @Transactional(readOnly = true)
     public Optional<SellerInfoDTO> getSellerInfo(Integer sellerId) {
         return profileRepository.findById(sellerId).map(profile -> {
-            // Count total listings by this seller
-            long totalListings = productRepository.findBySeller_Id(sellerId).size();
-            
-            // Count available listings
-            long availableListings = productRepository.findBySeller_Id(sellerId).stream()
-                .filter(product -> product.getIsAvailable() != null && product.getIsAvailable())
-                .count();
+            long totalListings = productRepository.countBySeller_Id(sellerId);
+            long availableListings = productRepository.countBySeller_IdAndIsAvailableTrue(sellerId);
             
             return new SellerInfoDTO(
                 profile.getId(),
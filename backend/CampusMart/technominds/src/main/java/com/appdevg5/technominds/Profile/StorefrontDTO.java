@@ -0,0 +1,74 @@
+package com.appdevg5.technominds.Profile;
+
+import com.appdevg5.technominds.Product.ProductDTO;
+import com.appdevg5.technominds.Review.ReviewSummaryDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Everything a seller page shows, assembled in one call: the profile, listing counts, the
+ * newest available listings and the review summary. A part that did not finish in time is
+ * left null and named in unavailableParts, so the page can render the rest.
+ */
+public class StorefrontDTO {
+
+    private ProfileDTO profile;
+    private Long totalListings;
+    private Long availableListings;
+    private List<ProductDTO> listings;
+    private ReviewSummaryDTO reviewSummary;
+    private List<String> unavailableParts = new ArrayList<>();
+
+    // Constructors
+    public StorefrontDTO() {}
+
+    // Getters and Setters
+    public ProfileDTO getProfile() {
+        return profile;
+    }
+
+    public void setProfile(ProfileDTO profile) {
+        this.profile = profile;
+    }
+
+    public Long getTotalListings() {
+        return totalListings;
+    }
+
+    public void setTotalListings(Long totalListings) {
+        this.totalListings = totalListings;
+    }
+
+    public Long getAvailableListings() {
+        return availableListings;
+    }
+
+    public void setAvailableListings(Long availableListings) {
+        this.availableListings = availableListings;
+    }
+
+    public List<ProductDTO> getListings() {
+        return listings;
+    }
+
+    public void setListings(List<ProductDTO> listings) {
+        this.listings = listings;
+    }
+
+    public ReviewSummaryDTO getReviewSummary() {
+        return reviewSummary;
+    }
+
+    public void setReviewSummary(ReviewSummaryDTO reviewSummary) {
+        this.reviewSummary = reviewSummary;
+    }
+
+    public List<String> getUnavailableParts() {
+        return unavailableParts;
+    }
+
+    public void setUnavailableParts(List<String> unavailableParts) {
+        this.unavailableParts = unavailableParts;
+    }
+}
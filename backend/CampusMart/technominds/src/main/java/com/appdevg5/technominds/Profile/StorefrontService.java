@@ -0,0 +1,134 @@
+package com.appdevg5.technominds.Profile;
+
+import com.appdevg5.technominds.Product.ProductDTO;
+import com.appdevg5.technominds.Product.ProductEntity;
+import com.appdevg5.technominds.Product.ProductRepository;
+import com.appdevg5.technominds.Review.ReviewService;
+import com.appdevg5.technominds.Review.ReviewSummaryDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds a seller's storefront from independent parts that run at the same time, so the page
+ * costs as much as its slowest part rather than the sum. All parts share one deadline; whatever
+ * is not done by then is cancelled and reported as unavailable instead of failing the page.
+ */
+@Service
+public class StorefrontService {
+
+    private static final Logger log = LoggerFactory.getLogger(StorefrontService.class);
+
+    static final String PROFILE = "profile";
+    static final String LISTING_STATS = "listingStats";
+    static final String LISTINGS = "listings";
+    static final String REVIEW_SUMMARY = "reviewSummary";
+
+    private final ProfileRepository profileRepository;
+    private final ProductRepository productRepository;
+    private final ReviewService reviewService;
+    private final AsyncTaskExecutor executor;
+    private final long partTimeoutMillis;
+
+    public StorefrontService(ProfileRepository profileRepository,
+                             ProductRepository productRepository,
+                             ReviewService reviewService,
+                             @Qualifier("batchExecutor") AsyncTaskExecutor executor,
+                             @Value("${storefront.part-timeout-ms:2000}") long partTimeoutMillis) {
+        this.profileRepository = profileRepository;
+        this.productRepository = productRepository;
+        this.reviewService = reviewService;
+        this.executor = executor;
+        this.partTimeoutMillis = partTimeoutMillis;
+    }
+
+    /**
+     * @param listingCount how many of the newest available listings to include
+     * @return the storefront, or empty if the seller does not exist
+     */
+    public Optional<StorefrontDTO> getStorefront(Integer sellerId, int listingCount) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(partTimeoutMillis);
+
+        Future<Optional<ProfileEntity>> profile = start(() -> profileRepository.findById(sellerId));
+        Future<long[]> listingStats = start(() -> new long[] {
+                productRepository.countBySeller_Id(sellerId),
+                productRepository.countBySeller_IdAndIsAvailableTrue(sellerId)});
+        Future<List<ProductDTO>> listings = start(() -> newestAvailableListings(sellerId, listingCount));
+        Future<Optional<ReviewSummaryDTO>> reviewSummary = start(() -> reviewService.getSellerReviewSummary(sellerId));
+
+        StorefrontDTO storefront = new StorefrontDTO();
+        Optional<ProfileEntity> seller = await(PROFILE, profile, deadline, storefront);
+        if (seller != null && seller.isEmpty()) {
+            listingStats.cancel(true);
+            listings.cancel(true);
+            reviewSummary.cancel(true);
+            return Optional.empty();
+        }
+        if (seller != null) {
+            storefront.setProfile(new ProfileDTO(seller.get()));
+        }
+        long[] stats = await(LISTING_STATS, listingStats, deadline, storefront);
+        if (stats != null) {
+            storefront.setTotalListings(stats[0]);
+            storefront.setAvailableListings(stats[1]);
+        }
+        storefront.setListings(await(LISTINGS, listings, deadline, storefront));
+        Optional<ReviewSummaryDTO> summary = await(REVIEW_SUMMARY, reviewSummary, deadline, storefront);
+        if (summary != null) {
+            storefront.setReviewSummary(summary.orElse(null));
+        }
+        return Optional.of(storefront);
+    }
+
+    // Pages on IDs so the limit stays in SQL, then loads those products with their associations
+    private List<ProductDTO> newestAvailableListings(Integer sellerId, int listingCount) {
+        List<Integer> ids = productRepository.findAvailableIdsBySeller(sellerId, PageRequest.of(0, listingCount));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, ProductEntity> byId = productRepository.findDetailedByIdIn(ids).stream()
+                .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(ProductDTO::new)
+                .toList();
+    }
+
+    // Parts read from wherever the request reads: the executor carries over its replica routing
+    private <T> Future<T> start(Callable<T> part) {
+        return executor.submit(part);
+    }
+
+    // Returns null, and names the part as unavailable, if it failed or missed the deadline
+    private <T> T await(String name, Future<T> part, long deadline, StorefrontDTO storefront) {
+        try {
+            return part.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            part.cancel(true);
+            log.warn("{} timed out after {}ms", name, partTimeoutMillis);
+        } catch (ExecutionException e) {
+            log.warn("{} failed", name, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        storefront.getUnavailableParts().add(name);
+        return null;
+    }
+}
@@ -23,8 +23,8 @@ public class ReviewController {
 
     // GET /api/reviews/user/{sellerId} - Get all reviews received by a user (seller)
     @GetMapping("/user/{sellerId}")
-    public List<ReviewEntity> getReviewsReceived(@PathVariable Integer sellerId) {
-        return reviewService.getReviewsBySellerId(sellerId);
+    public List<ReviewDTO> getReviewsReceived(@PathVariable Integer sellerId) {
+        return reviewService.getReviewsBySellerId(sellerId).stream().map(ReviewDTO::new).toList();
     }
     
     // GET /api/reviews/seller/{sellerId}/detailed - Get paginated detailed reviews with reviewer info
@@ -38,17 +38,27 @@ public class ReviewController {
         return ResponseEntity.ok(reviews);
     }
 
+    // GET /api/reviews/seller/{sellerId}/summary - Rating histogram and latest reviews (cached)
+    @GetMapping("/seller/{sellerId}/summary")
+    public ResponseEntity<ReviewSummaryDTO> getReviewSummary(@PathVariable Integer sellerId) {
+        return reviewService.getSellerReviewSummary(sellerId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     // GET /api/reviews/written/{reviewerId} - Get all reviews written by a user
     @GetMapping("/written/{reviewerId}")
-    public List<ReviewEntity> getReviewsWritten(@PathVariable Integer reviewerId) {
-        return reviewService.getReviewsByReviewerId(reviewerId);
+    public List<ReviewDTO> getReviewsWritten(@PathVariable Integer reviewerId) {
+        return reviewService.getReviewsByReviewerId(reviewerId).stream().map(ReviewDTO::new).toList();
     }
 
     // GET /api/reviews/product/{productId} - Get all reviews for a specific product
     @GetMapping("/product/{productId}")
-    public ResponseEntity<List<ReviewEntity>> getReviewsByProduct(@PathVariable Integer productId) {
+    public ResponseEntity<List<ReviewDTO>> getReviewsByProduct(@PathVariable Integer productId) {
         try {
-            List<ReviewEntity> reviews = reviewService.getReviewsByProductId(productId);
+            List<ReviewDTO> reviews = reviewService.getReviewsByProductId(productId).stream()
+                    .map(ReviewDTO::new)
+                    .toList();
             return ResponseEntity.ok(reviews);
         } catch (Exception e) {
             System.err.println("Error fetching reviews for product " + productId + ": " + e.getMessage());
@@ -59,9 +69,9 @@ public class ReviewController {
 
     // GET /api/reviews/{id} - Get a specific review
     @GetMapping("/{id}")
-    public ResponseEntity<ReviewEntity> getReviewById(@PathVariable Integer id) {
+    public ResponseEntity<ReviewDTO> getReviewById(@PathVariable Integer id) {
         return reviewService.getReviewById(id)
-                .map(ResponseEntity::ok)
+                .map(review -> ResponseEntity.ok(new ReviewDTO(review)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
@@ -78,7 +88,7 @@ public class ReviewController {
             System.out.println("  Comment: " + review.getComment());
             
             ReviewEntity newReview = reviewService.createReviewWithValidation(review);
-            return new ResponseEntity<>(newReview, HttpStatus.CREATED);
+            return new ResponseEntity<>(new ReviewDTO(newReview), HttpStatus.CREATED);
         } catch (IllegalArgumentException e) {
             System.err.println("[ReviewController] Validation error: " + e.getMessage());
             return ResponseEntity.badRequest()
@@ -99,9 +109,9 @@ public class ReviewController {
 
     // PUT /api/reviews/{id} - Update an existing review (rating or comment)
     @PutMapping("/{id}")
-    public ResponseEntity<ReviewEntity> updateReview(@PathVariable Integer id, @Valid @RequestBody ReviewEntity reviewDetails) {
+    public ResponseEntity<ReviewDTO> updateReview(@PathVariable Integer id, @Valid @RequestBody ReviewEntity reviewDetails) {
         return reviewService.updateReview(id, reviewDetails)
-                .map(ResponseEntity::ok)
+                .map(review -> ResponseEntity.ok(new ReviewDTO(review)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
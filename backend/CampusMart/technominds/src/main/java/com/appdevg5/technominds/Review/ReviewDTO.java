@@ -0,0 +1,108 @@
+package com.appdevg5.technominds.Review;
+
+import com.appdevg5.technominds.Product.ProductSummaryDTO;
+import com.appdevg5.technominds.Profile.ProfileDTO;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for Review responses. The order is referenced by id only.
+ */
+public class ReviewDTO {
+    private Integer id;
+    private ProfileDTO reviewer;
+    private ProfileDTO seller;
+    private ProductSummaryDTO product;
+    private Integer orderId;
+    private Integer rating;
+    private String comment;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public ReviewDTO() {}
+
+    public ReviewDTO(ReviewEntity review) {
+        this.id = review.getId();
+        this.reviewer = review.getReviewer() != null ? new ProfileDTO(review.getReviewer()) : null;
+        this.seller = review.getSeller() != null ? new ProfileDTO(review.getSeller()) : null;
+        this.product = review.getProduct() != null ? new ProductSummaryDTO(review.getProduct()) : null;
+        this.orderId = review.getOrder() != null ? review.getOrder().getId() : null;
+        this.rating = review.getRating();
+        this.comment = review.getComment();
+        this.createdAt = review.getCreatedAt();
+        this.updatedAt = review.getUpdatedAt();
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public ProfileDTO getReviewer() {
+        return reviewer;
+    }
+
+    public void setReviewer(ProfileDTO reviewer) {
+        this.reviewer = reviewer;
+    }
+
+    public ProfileDTO getSeller() {
+        return seller;
+    }
+
+    public void setSeller(ProfileDTO seller) {
+        this.seller = seller;
+    }
+
+    public ProductSummaryDTO getProduct() {
+        return product;
+    }
+
+    public void setProduct(ProductSummaryDTO product) {
+        this.product = product;
+    }
+
+    public Integer getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Integer orderId) {
+        this.orderId = orderId;
+    }
+
+    public Integer getRating() {
+        return rating;
+    }
+
+    public void setRating(Integer rating) {
+        this.rating = rating;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -2,9 +2,15 @@ package com.appdevg5.technominds.Review;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for ReviewEntity.
@@ -12,21 +18,30 @@ import java.util.List;
 @Repository
 public interface ReviewRepository extends JpaRepository<ReviewEntity, Integer> {
 
+    /**
+     * Finds a review with its reviewer, seller and product loaded.
+     */
+    @EntityGraph(attributePaths = {"reviewer", "seller", "product"})
+    Optional<ReviewEntity> findDetailedById(Integer id);
+
     /**
      * Finds all reviews received by a specific user (reviewee / seller).
      * Matches ReviewEntity.seller -> profiles.id
      */
+    @EntityGraph(attributePaths = {"reviewer", "seller", "product"})
     List<ReviewEntity> findBySeller_IdOrderByCreatedAtDesc(Integer sellerId);
 
     /**
      * Finds all reviews written by a specific user (reviewer).
      * Matches ReviewEntity.reviewer -> profiles.id
      */
+    @EntityGraph(attributePaths = {"reviewer", "seller", "product"})
     List<ReviewEntity> findByReviewer_IdOrderByCreatedAtDesc(Integer reviewerId);
 
     /**
      * Finds reviews for a specific product (optional relation).
      */
+    @EntityGraph(attributePaths = {"reviewer", "seller", "product"})
     List<ReviewEntity> findByProduct_IdOrderByCreatedAtDesc(Integer productId);
     
     /**
@@ -37,6 +52,7 @@ public interface ReviewRepository extends JpaRepository<ReviewEntity, Integer> {
     /**
      * Finds all reviews received by a specific seller with pagination.
      */
+    @EntityGraph(attributePaths = {"reviewer", "seller", "product"})
     Page<ReviewEntity> findBySeller_Id(Integer sellerId, Pageable pageable);
     
     /**
@@ -50,4 +66,22 @@ public interface ReviewRepository extends JpaRepository<ReviewEntity, Integer> {
      * Ensures one seller-only review per buyer-seller pair.
      */
     boolean existsByReviewer_IdAndSeller_IdAndProduct_IsNull(Integer reviewerId, Integer sellerId);
-}
\ No newline at end of file
+
+    /**
+     * Loads a review with a row lock so concurrent edits of the same review apply
+     * their rating deltas one after the other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ReviewEntity r WHERE r.id = :id")
+    Optional<ReviewEntity> findForUpdateById(@Param("id") Integer id);
+
+    /**
+     * Newest reviews received by a seller, projected straight into ReviewDetailDTO
+     * (one query, no count query and no lazy loading of reviewer or product).
+     */
+    @Query("SELECT new com.appdevg5.technominds.Review.ReviewDetailDTO(" +
+           "r.id, rv.id, rv.firstName, rv.lastName, r.seller.id, p.id, p.name, r.rating, r.comment, r.createdAt) " +
+           "FROM ReviewEntity r JOIN r.reviewer rv LEFT JOIN r.product p " +
+           "WHERE r.seller.id = :sellerId ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewDetailDTO> findLatestDetailsBySeller(@Param("sellerId") Integer sellerId, Pageable pageable);
+}
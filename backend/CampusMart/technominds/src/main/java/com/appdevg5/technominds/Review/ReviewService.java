@@ -1,17 +1,32 @@
 package com.appdevg5.technominds.Review;
 
+import com.appdevg5.technominds.Change.ChangeLogService;
 import com.appdevg5.technominds.Order.OrderEntity;
 import com.appdevg5.technominds.Order.OrderRepository;
+import com.appdevg5.technominds.Order.OrderStatus;
+import com.appdevg5.technominds.Product.ProductRepository;
 import com.appdevg5.technominds.Profile.ProfileRepository;
+import com.appdevg5.technominds.config.CacheConfig;
+import com.appdevg5.technominds.config.ChangeCounters;
+import com.appdevg5.technominds.config.ResponseCache;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -20,32 +35,55 @@ import java.util.Optional;
 @Service
 public class ReviewService {
 
+    private static final Logger log = LoggerFactory.getLogger(ReviewService.class);
+
     private final ReviewRepository reviewRepository;
     private final ProfileRepository profileRepository;
     private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final CacheManager cacheManager;
+    private final ResponseCache responseCache;
+    private final ChangeCounters changeCounters;
+    private final ChangeLogService changeLogService;
+
+    // Number of reviews shown in a seller's review summary
+    private static final int SUMMARY_REVIEWS = 10;
 
-    public ReviewService(ReviewRepository reviewRepository, ProfileRepository profileRepository, OrderRepository orderRepository) {
+    public ReviewService(ReviewRepository reviewRepository, ProfileRepository profileRepository,
+                         OrderRepository orderRepository, ProductRepository productRepository,
+                         CacheManager cacheManager,
+                         ResponseCache responseCache, ChangeCounters changeCounters,
+                         ChangeLogService changeLogService) {
         this.reviewRepository = reviewRepository;
         this.profileRepository = profileRepository;
         this.orderRepository = orderRepository;
+        this.productRepository = productRepository;
+        this.cacheManager = cacheManager;
+        this.responseCache = responseCache;
+        this.changeCounters = changeCounters;
+        this.changeLogService = changeLogService;
     }
 
     // READ
+    @Transactional(readOnly = true)
     public Optional<ReviewEntity> getReviewById(Integer id) {
-        return reviewRepository.findById(id);
+        return reviewRepository.findDetailedById(id);
     }
 
     // Reviews received by a seller (previously called reviewee)
+    @Transactional(readOnly = true)
     public List<ReviewEntity> getReviewsBySellerId(Integer sellerId) {
         return reviewRepository.findBySeller_IdOrderByCreatedAtDesc(sellerId);
     }
 
     // Reviews written by a specific reviewer
+    @Transactional(readOnly = true)
     public List<ReviewEntity> getReviewsByReviewerId(Integer reviewerId) {
         return reviewRepository.findByReviewer_IdOrderByCreatedAtDesc(reviewerId);
     }
 
     // Reviews for a specific product (optional relation)
+    @Transactional(readOnly = true)
     public List<ReviewEntity> getReviewsByProductId(Integer productId) {
         return reviewRepository.findByProduct_IdOrderByCreatedAtDesc(productId);
     }
@@ -57,12 +95,19 @@ public class ReviewService {
         // 1. Verify that the Order linked (if any) is in a 'COMPLETED' state.
         // 2. Verify reviewer and seller relationship against the order.
         // 3. The DB unique constraint should prevent duplicate reviews for the same order.
-        return reviewRepository.save(review);
+        requireValidRating(review.getRating());
+        loadReferences(review);
+        ReviewEntity savedReview = reviewRepository.save(review);
+        applyRatingChange(savedReview.getSeller().getId(), savedReview.getRating(), 0);
+        return savedReview;
     }
 
     // CREATE with validation
     @Transactional
     public ReviewEntity createReviewWithValidation(ReviewEntity review) {
+        requireValidRating(review.getRating());
+        loadReferences(review);
+
         // Validation 1: If order is provided, verify it exists and is completed
         if (review.getOrder() != null) {
             Integer orderId = review.getOrder().getId();
@@ -75,8 +120,8 @@ public class ReviewService {
             OrderEntity order = orderOpt.get();
             
             // Check if order is completed
-            if (!"completed".equalsIgnoreCase(order.getStatus())) {
-                throw new IllegalArgumentException("Reviews can only be submitted for completed orders. Current status: " + order.getStatus());
+            if (order.getStatus() != OrderStatus.COMPLETED) {
+                throw new IllegalArgumentException("Reviews can only be submitted for completed orders. Current status: " + order.getStatus().getCode());
             }
             
             // Validation 2: Check if review already exists for this order
@@ -99,18 +144,20 @@ public class ReviewService {
         // Save the review
         ReviewEntity savedReview = reviewRepository.save(review);
         
-        // Auto-update seller's rating
-        updateSellerRating(review.getSeller().getId());
+        // Auto-update seller's rating and histogram (atomic increment, no rescan of the seller's reviews)
+        applyRatingChange(savedReview.getSeller().getId(), savedReview.getRating(), 0);
         
         return savedReview;
     }
 
     // READ all reviews by sellerId (reviews this seller received)
+    @Transactional(readOnly = true)
     public List<ReviewEntity> getReviewsBySeller(Integer sellerId) {
         return reviewRepository.findBySeller_IdOrderByCreatedAtDesc(sellerId);
     }
 
     // READ all reviews written by this reviewer
+    @Transactional(readOnly = true)
     public List<ReviewEntity> getReviewsWritten(Integer reviewerId) {
         return reviewRepository.findByReviewer_IdOrderByCreatedAtDesc(reviewerId);
     }
@@ -118,18 +165,35 @@ public class ReviewService {
     // UPDATE
     @Transactional
     public Optional<ReviewEntity> updateReview(Integer id, ReviewEntity reviewDetails) {
-        return reviewRepository.findById(id).map(existingReview -> {
+        int newRating = requireValidRating(reviewDetails.getRating());
+        return reviewRepository.findForUpdateById(id).map(existingReview -> {
+            // Loaded here, in the transaction, for the response
+            Hibernate.initialize(existingReview.getReviewer());
+            Hibernate.initialize(existingReview.getSeller());
+            Hibernate.initialize(existingReview.getProduct());
+            int previousRating = existingReview.getRating();
             // Only allow updating comment and rating
-            existingReview.setRating(reviewDetails.getRating());
+            existingReview.setRating(newRating);
             existingReview.setComment(reviewDetails.getComment());
-            return reviewRepository.save(existingReview);
+            ReviewEntity savedReview = reviewRepository.save(existingReview);
+
+            if (newRating != previousRating) {
+                applyRatingChange(savedReview.getSeller().getId(), newRating, previousRating);
+            } else {
+                // Comment-only edit still changes the cached latest reviews
+                evictReviewSummary(savedReview.getSeller().getId());
+            }
+            return savedReview;
         });
     }
 
     // DELETE
     @Transactional
     public void deleteReview(Integer id) {
-        reviewRepository.deleteById(id);
+        reviewRepository.findForUpdateById(id).ifPresent(review -> {
+            reviewRepository.delete(review);
+            applyRatingChange(review.getSeller().getId(), 0, review.getRating());
+        });
     }
     
     /**
@@ -159,57 +223,108 @@ public class ReviewService {
         Pageable pageable = PageRequest.of(page, size, sort);
         Page<ReviewEntity> reviewsPage = reviewRepository.findBySeller_Id(sellerId, pageable);
         
-        return reviewsPage.map(review -> {
-            // Force lazy loading of relationships
-            review.getReviewer().getId();
-            review.getSeller().getId();
-            if (review.getProduct() != null) {
-                review.getProduct().getId();
-            }
-            
-            return new ReviewDetailDTO(
-                review.getId(),
-                review.getReviewer().getId(),
-                review.getReviewer().getFirstName(),
-                review.getReviewer().getLastName(),
-                review.getSeller().getId(),
-                review.getProduct() != null ? review.getProduct().getId() : null,
-                review.getProduct() != null ? review.getProduct().getName() : null,
-                review.getRating(),
-                review.getComment(),
-                review.getCreatedAt()
-            );
-        });
+        return reviewsPage.map(review -> new ReviewDetailDTO(
+            review.getId(),
+            review.getReviewer().getId(),
+            review.getReviewer().getFirstName(),
+            review.getReviewer().getLastName(),
+            review.getSeller().getId(),
+            review.getProduct() != null ? review.getProduct().getId() : null,
+            review.getProduct() != null ? review.getProduct().getName() : null,
+            review.getRating(),
+            review.getComment(),
+            review.getCreatedAt()
+        ));
     }
     
     /**
-     * Calculate and update seller's average rating and total review count.
+     * Review section of a seller page: rating aggregates and histogram from the profile row
+     * plus the newest reviews. Cached per seller and evicted after every review write.
      */
-    private void updateSellerRating(Integer sellerId) {
-        List<ReviewEntity> allReviews = reviewRepository.findBySeller_IdOrderByCreatedAtDesc(sellerId);
-        
-        if (allReviews.isEmpty()) {
-            // No reviews, set to 0
-            profileRepository.findById(sellerId).ifPresent(profile -> {
-                profile.setSellerRating(BigDecimal.ZERO);
-                profile.setTotalReviews(0);
-                profileRepository.save(profile);
-            });
-        } else {
-            // Calculate average rating
-            double average = allReviews.stream()
-                .mapToInt(ReviewEntity::getRating)
-                .average()
-                .orElse(0.0);
-            
-            BigDecimal avgRating = BigDecimal.valueOf(average)
-                .setScale(2, RoundingMode.HALF_UP);
-            
-            profileRepository.findById(sellerId).ifPresent(profile -> {
-                profile.setSellerRating(avgRating);
-                profile.setTotalReviews(allReviews.size());
-                profileRepository.save(profile);
-            });
+    @Cacheable(cacheNames = CacheConfig.REVIEW_SUMMARIES, key = "#sellerId", unless = "#result == null")
+    @Transactional(readOnly = true)
+    public Optional<ReviewSummaryDTO> getSellerReviewSummary(Integer sellerId) {
+        return profileRepository.findById(sellerId).map(seller -> {
+            Map<Integer, Integer> ratingCounts = new LinkedHashMap<>();
+            ratingCounts.put(5, seller.getRating5Count());
+            ratingCounts.put(4, seller.getRating4Count());
+            ratingCounts.put(3, seller.getRating3Count());
+            ratingCounts.put(2, seller.getRating2Count());
+            ratingCounts.put(1, seller.getRating1Count());
+
+            List<ReviewDetailDTO> latestReviews =
+                reviewRepository.findLatestDetailsBySeller(sellerId, PageRequest.of(0, SUMMARY_REVIEWS));
+
+            return new ReviewSummaryDTO(sellerId, seller.getSellerRating(), seller.getTotalReviews(),
+                ratingCounts, latestReviews);
+        });
+    }
+
+    // Swaps the id-only references of a request body for the stored rows (which carry their version)
+    private void loadReferences(ReviewEntity review) {
+        if (review.getReviewer() != null && review.getReviewer().getId() != null) {
+            Integer reviewerId = review.getReviewer().getId();
+            review.setReviewer(profileRepository.findById(reviewerId)
+                .orElseThrow(() -> new IllegalArgumentException("Reviewer profile not found with ID: " + reviewerId)));
+        }
+        if (review.getSeller() != null && review.getSeller().getId() != null) {
+            Integer sellerId = review.getSeller().getId();
+            review.setSeller(profileRepository.findById(sellerId)
+                .orElseThrow(() -> new IllegalArgumentException("Seller profile not found with ID: " + sellerId)));
+        }
+        if (review.getProduct() != null && review.getProduct().getId() != null) {
+            Integer productId = review.getProduct().getId();
+            review.setProduct(productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("Product not found with ID: " + productId)));
+        }
+        if (review.getOrder() != null && review.getOrder().getId() != null) {
+            Integer orderId = review.getOrder().getId();
+            review.setOrder(orderRepository.findById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("Order not found with ID: " + orderId)));
+        }
+    }
+
+    // The rating aggregates keep one counter per star, so anything outside 1..5 would corrupt them
+    private static int requireValidRating(Integer rating) {
+        if (rating == null || rating < 1 || rating > 5) {
+            throw new IllegalArgumentException("Rating must be between 1 and 5");
+        }
+        return rating;
+    }
+
+    // Updates the seller's rating aggregates and drops their cached summary once the transaction commits
+    private void applyRatingChange(Integer sellerId, int addedRating, int removedRating) {
+        profileRepository.applyRatingChange(sellerId, addedRating, removedRating);
+        evictReviewSummary(sellerId);
+        responseCache.evictSellerInfo(sellerId);
+        // Profiles embedded elsewhere carry the rating
+        changeCounters.changed(ChangeCounters.PROFILES);
+        changeLogService.upserted(ChangeLogService.PROFILE, sellerId);
+    }
+
+    private void evictReviewSummary(Integer sellerId) {
+        Cache summaries = cacheManager.getCache(CacheConfig.REVIEW_SUMMARIES);
+        if (summaries != null) {
+            summaries.evict(sellerId);
+        }
+    }
+
+    /**
+     * Rebuilds seller rating aggregates from the reviews table, correcting any drift
+     * (e.g. rows edited by hand). Runs nightly and once at startup to backfill rating_sum.
+     */
+    @Scheduled(cron = "${reviews.rating-reconcile.cron:0 0 3 * * *}")
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileSellerRatings() {
+        // Found first so the corrected profiles can go to the change feed
+        List<Integer> drifted = profileRepository.findIdsWithDriftedRatings();
+        if (!drifted.isEmpty()) {
+            int corrected = profileRepository.reconcileRatings(drifted);
+            cacheManager.getCache(CacheConfig.REVIEW_SUMMARIES).clear();
+            changeCounters.changed(ChangeCounters.PROFILES);
+            drifted.forEach(id -> changeLogService.upserted(ChangeLogService.PROFILE, id));
+            log.info("Reconciled seller ratings for {} profile(s)", corrected);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package com.appdevg5.technominds.Review;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the review section of a seller page:
+ * average rating, review count, per-star histogram and the latest reviews.
+ */
+public class ReviewSummaryDTO {
+
+    private Integer sellerId;
+    private BigDecimal averageRating;
+    private Integer totalReviews;
+    // Star value (5 down to 1) -> number of reviews
+    private Map<Integer, Integer> ratingCounts;
+    private List<ReviewDetailDTO> latestReviews;
+
+    // Constructors
+    public ReviewSummaryDTO() {}
+
+    public ReviewSummaryDTO(Integer sellerId, BigDecimal averageRating, Integer totalReviews,
+                            Map<Integer, Integer> ratingCounts, List<ReviewDetailDTO> latestReviews) {
+        this.sellerId = sellerId;
+        this.averageRating = averageRating;
+        this.totalReviews = totalReviews;
+        this.ratingCounts = ratingCounts;
+        this.latestReviews = latestReviews;
+    }
+
+    // Getters and Setters
+    public Integer getSellerId() {
+        return sellerId;
+    }
+
+    public void setSellerId(Integer sellerId) {
+        this.sellerId = sellerId;
+    }
+
+    public BigDecimal getAverageRating() {
+        return averageRating;
+    }
+
+    public void setAverageRating(BigDecimal averageRating) {
+        this.averageRating = averageRating;
+    }
+
+    public Integer getTotalReviews() {
+        return totalReviews;
+    }
+
+    public void setTotalReviews(Integer totalReviews) {
+        this.totalReviews = totalReviews;
+    }
+
+    public Map<Integer, Integer> getRatingCounts() {
+        return ratingCounts;
+    }
+
+    public void setRatingCounts(Map<Integer, Integer> ratingCounts) {
+        this.ratingCounts = ratingCounts;
+    }
+
+    public List<ReviewDetailDTO> getLatestReviews() {
+        return latestReviews;
+    }
+
+    public void setLatestReviews(List<ReviewDetailDTO> latestReviews) {
+        this.latestReviews = latestReviews;
+    }
+}
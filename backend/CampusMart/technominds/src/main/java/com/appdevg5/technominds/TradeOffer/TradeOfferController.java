@@ -23,55 +23,55 @@ public class TradeOfferController {
 
     // GET /api/tradeoffers
     @GetMapping
-    public List<TradeOfferEntity> getAllTradeOffers() {
-        return tradeOfferService.getAllTradeOffers();
+    public List<TradeOfferDTO> getAllTradeOffers() {
+        return tradeOfferService.getAllTradeOffers().stream().map(TradeOfferDTO::new).toList();
     }
 
     // GET /api/tradeoffers/{id}
     @GetMapping("/{id}")
-    public ResponseEntity<TradeOfferEntity> getTradeOfferById(@PathVariable Integer id) {
+    public ResponseEntity<TradeOfferDTO> getTradeOfferById(@PathVariable Integer id) {
         return tradeOfferService.getTradeOfferById(id)
-                .map(ResponseEntity::ok)
+                .map(offer -> ResponseEntity.ok(new TradeOfferDTO(offer)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     // GET /api/tradeoffers/seller/{sellerId} - Get offers received by a seller
     @GetMapping("/seller/{sellerId}")
-    public List<TradeOfferEntity> getOffersBySeller(@PathVariable Integer sellerId) {
-        return tradeOfferService.getOffersBySeller(sellerId);
+    public List<TradeOfferDTO> getOffersBySeller(@PathVariable Integer sellerId) {
+        return tradeOfferService.getOffersBySeller(sellerId).stream().map(TradeOfferDTO::new).toList();
     }
 
     // GET /api/tradeoffers/offerer/{offererId} - Get offers made by a specific offerer (buyer)
     @GetMapping("/offerer/{offererId}")
-    public List<TradeOfferEntity> getOffersByOfferer(@PathVariable Integer offererId) {
-        return tradeOfferService.getOffersByBuyer(offererId);
+    public List<TradeOfferDTO> getOffersByOfferer(@PathVariable Integer offererId) {
+        return tradeOfferService.getOffersByBuyer(offererId).stream().map(TradeOfferDTO::new).toList();
     }
 
     // GET /api/tradeoffers/product/{productId} - Get offers for a specific product
     @GetMapping("/product/{productId}")
-    public List<TradeOfferEntity> getOffersByProduct(@PathVariable Integer productId) {
-        return tradeOfferService.getOffersByProduct(productId);
+    public List<TradeOfferDTO> getOffersByProduct(@PathVariable Integer productId) {
+        return tradeOfferService.getOffersByProduct(productId).stream().map(TradeOfferDTO::new).toList();
     }
 
     // POST /api/tradeoffers - Create a new offer
     @PostMapping
-    public ResponseEntity<TradeOfferEntity> createTradeOffer(@Valid @RequestBody TradeOfferEntity offer) {
+    public ResponseEntity<TradeOfferDTO> createTradeOffer(@Valid @RequestBody TradeOfferEntity offer) {
         // Incoming JSON should contain nested id references, e.g.:
         // { "product": { "id": 5 }, "offerer": { "id": 1 }, "offeredPrice": 50.00, "tradeDescription": "..." }
         TradeOfferEntity newOffer = tradeOfferService.createTradeOffer(offer);
-        return new ResponseEntity<>(newOffer, HttpStatus.CREATED);
+        return new ResponseEntity<>(new TradeOfferDTO(newOffer), HttpStatus.CREATED);
     }
 
     // PATCH /api/tradeoffers/{id}/status - Update the status of an offer (e.g., ACCEPTED)
     @PatchMapping("/{id}/status")
-    public ResponseEntity<TradeOfferEntity> updateOfferStatus(@PathVariable Integer id, @RequestBody Map<String, String> statusUpdate) {
+    public ResponseEntity<TradeOfferDTO> updateOfferStatus(@PathVariable Integer id, @RequestBody Map<String, String> statusUpdate) {
         String newStatus = statusUpdate.get("status");
         if (newStatus == null) {
             return ResponseEntity.badRequest().build();
         }
 
         return tradeOfferService.updateTradeOfferStatus(id, newStatus)
-                .map(ResponseEntity::ok)
+                .map(offer -> ResponseEntity.ok(new TradeOfferDTO(offer)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
@@ -0,0 +1,159 @@
+package com.appdevg5.technominds.TradeOffer;
+
+import com.appdevg5.technominds.Product.ProductDTO;
+import com.appdevg5.technominds.Profile.ProfileDTO;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for TradeOffer responses, with the full product (and its seller) the offer is for
+ */
+public class TradeOfferDTO {
+    private Integer id;
+    private ProductDTO product;
+    private ProfileDTO offerer;
+    private BigDecimal offeredPrice;
+    private String tradeDescription;
+    private String itemName;
+    private BigDecimal itemEstimatedValue;
+    private String itemCondition;
+    private String itemImageUrl;
+    private BigDecimal cashComponent;
+    private String status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+
+    // Constructors
+    public TradeOfferDTO() {}
+
+    public TradeOfferDTO(TradeOfferEntity offer) {
+        this.id = offer.getId();
+        this.product = offer.getProduct() != null ? new ProductDTO(offer.getProduct()) : null;
+        this.offerer = offer.getOfferer() != null ? new ProfileDTO(offer.getOfferer()) : null;
+        this.offeredPrice = offer.getOfferedPrice();
+        this.tradeDescription = offer.getTradeDescription();
+        this.itemName = offer.getItemName();
+        this.itemEstimatedValue = offer.getItemEstimatedValue();
+        this.itemCondition = offer.getItemCondition();
+        this.itemImageUrl = offer.getItemImageUrl();
+        this.cashComponent = offer.getCashComponent();
+        this.status = offer.getStatus();
+        this.createdAt = offer.getCreatedAt();
+        this.updatedAt = offer.getUpdatedAt();
+        this.version = offer.getVersion();
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public ProductDTO getProduct() {
+        return product;
+    }
+
+    public void setProduct(ProductDTO product) {
+        this.product = product;
+    }
+
+    public ProfileDTO getOfferer() {
+        return offerer;
+    }
+
+    public void setOfferer(ProfileDTO offerer) {
+        this.offerer = offerer;
+    }
+
+    public BigDecimal getOfferedPrice() {
+        return offeredPrice;
+    }
+
+    public void setOfferedPrice(BigDecimal offeredPrice) {
+        this.offeredPrice = offeredPrice;
+    }
+
+    public String getTradeDescription() {
+        return tradeDescription;
+    }
+
+    public void setTradeDescription(String tradeDescription) {
+        this.tradeDescription = tradeDescription;
+    }
+
+    public String getItemName() {
+        return itemName;
+    }
+
+    public void setItemName(String itemName) {
+        this.itemName = itemName;
+    }
+
+    public BigDecimal getItemEstimatedValue() {
+        return itemEstimatedValue;
+    }
+
+    public void setItemEstimatedValue(BigDecimal itemEstimatedValue) {
+        this.itemEstimatedValue = itemEstimatedValue;
+    }
+
+    public String getItemCondition() {
+        return itemCondition;
+    }
+
+    public void setItemCondition(String itemCondition) {
+        this.itemCondition = itemCondition;
+    }
+
+    public String getItemImageUrl() {
+        return itemImageUrl;
+    }
+
+    public void setItemImageUrl(String itemImageUrl) {
+        this.itemImageUrl = itemImageUrl;
+    }
+
+    public BigDecimal getCashComponent() {
+        return cashComponent;
+    }
+
+    public void setCashComponent(BigDecimal cashComponent) {
+        this.cashComponent = cashComponent;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
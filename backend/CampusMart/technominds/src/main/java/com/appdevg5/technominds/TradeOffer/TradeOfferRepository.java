@@ -1,28 +1,43 @@
 package com.appdevg5.technominds.TradeOffer;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for TradeOffer entity.
  * Method names use nested property paths that match TradeOfferEntity fields.
+ * Read finders load the offerer and the product (with its seller, category and images)
+ * that TradeOfferDTO carries.
  */
 @Repository
 public interface TradeOfferRepository extends JpaRepository<TradeOfferEntity, Integer> {
 
+    @EntityGraph(attributePaths = {"offerer", "product", "product.seller", "product.category", "product.images"})
+    Optional<TradeOfferEntity> findDetailedById(Integer id);
+
+    @EntityGraph(attributePaths = {"offerer", "product", "product.seller", "product.category", "product.images"})
+    @Query("SELECT o FROM TradeOfferEntity o")
+    List<TradeOfferEntity> findAllDetailed();
+
     /**
      * Find all offers received by a specific seller (product.seller.id = sellerId).
      */
+    @EntityGraph(attributePaths = {"offerer", "product", "product.seller", "product.category", "product.images"})
     List<TradeOfferEntity> findByProduct_Seller_Id(Integer sellerId);
 
     /**
      * Find all offers made by a specific buyer/offerer (offerer.id = offererId).
      */
+    @EntityGraph(attributePaths = {"offerer", "product", "product.seller", "product.category", "product.images"})
     List<TradeOfferEntity> findByOfferer_Id(Integer offererId);
 
     /**
      * Find all offers related to a specific product (product.id = productId).
      */
+    @EntityGraph(attributePaths = {"offerer", "product", "product.seller", "product.category", "product.images"})
     List<TradeOfferEntity> findByProduct_Id(Integer productId);
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.appdevg5.technominds.TradeOffer;
 
+import com.appdevg5.technominds.Change.ChangeLogService;
+import com.appdevg5.technominds.Product.ProductRepository;
+import com.appdevg5.technominds.Profile.ProfileRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -13,32 +16,43 @@ import java.util.Optional;
 public class TradeOfferService {
 
     private final TradeOfferRepository tradeOfferRepository;
-    // We would need ProfileService and ProductService here for robust validation
+    private final ProductRepository productRepository;
+    private final ProfileRepository profileRepository;
+    private final ChangeLogService changeLogService;
 
-    public TradeOfferService(TradeOfferRepository tradeOfferRepository) {
+    public TradeOfferService(TradeOfferRepository tradeOfferRepository, ProductRepository productRepository,
+                             ProfileRepository profileRepository, ChangeLogService changeLogService) {
         this.tradeOfferRepository = tradeOfferRepository;
+        this.productRepository = productRepository;
+        this.profileRepository = profileRepository;
+        this.changeLogService = changeLogService;
     }
 
     // READ
+    @Transactional(readOnly = true)
     public List<TradeOfferEntity> getAllTradeOffers() {
-        return tradeOfferRepository.findAll();
+        return tradeOfferRepository.findAllDetailed();
     }
 
+    @Transactional(readOnly = true)
     public Optional<TradeOfferEntity> getTradeOfferById(Integer id) {
-        return tradeOfferRepository.findById(id);
+        return tradeOfferRepository.findDetailedById(id);
     }
 
     // returns offers received by a seller (product.seller.id = sellerId)
+    @Transactional(readOnly = true)
     public List<TradeOfferEntity> getOffersBySeller(Integer sellerId) {
         return tradeOfferRepository.findByProduct_Seller_Id(sellerId);
     }
 
     // returns offers made by a buyer/offerer (offerer.id = buyerId)
+    @Transactional(readOnly = true)
     public List<TradeOfferEntity> getOffersByBuyer(Integer buyerId) {
         return tradeOfferRepository.findByOfferer_Id(buyerId);
     }
 
     // returns offers for a specific product (product.id = productId)
+    @Transactional(readOnly = true)
     public List<TradeOfferEntity> getOffersByProduct(Integer productId) {
         return tradeOfferRepository.findByProduct_Id(productId);
     }
@@ -51,6 +65,14 @@ public class TradeOfferService {
         if (offer.getProduct() == null) throw new IllegalArgumentException("Product reference is required");
         if (offer.getOfferer() == null) throw new IllegalArgumentException("Offerer (buyer) reference is required");
 
+        // The body only carries ids; load the rows they refer to
+        Integer productId = offer.getProduct().getId();
+        offer.setProduct(productRepository.findById(productId)
+            .orElseThrow(() -> new IllegalArgumentException("Product not found with ID: " + productId)));
+        Integer offererId = offer.getOfferer().getId();
+        offer.setOfferer(profileRepository.findById(offererId)
+            .orElseThrow(() -> new IllegalArgumentException("Offerer profile not found with ID: " + offererId)));
+
         // Normalize status and set default
         if (offer.getStatus() == null || offer.getStatus().trim().isEmpty()) {
             offer.setStatus("PENDING");
@@ -63,7 +85,9 @@ public class TradeOfferService {
             offer.setOfferedPrice(java.math.BigDecimal.ZERO);
         }
 
-        return tradeOfferRepository.save(offer);
+        TradeOfferEntity saved = tradeOfferRepository.save(offer);
+        changeLogService.upserted(ChangeLogService.TRADE_OFFER, saved.getId());
+        return saved;
     }
 
     // UPDATE (Primarily for status changes: ACCEPTED/REJECTED/CANCELLED)
@@ -73,9 +97,10 @@ public class TradeOfferService {
             throw new IllegalArgumentException("newStatus must be provided");
         }
         String normalized = newStatus.trim().toUpperCase();
-        return tradeOfferRepository.findById(id).map(existingOffer -> {
+        return tradeOfferRepository.findDetailedById(id).map(existingOffer -> {
             // Business Rule: Validate the transition may be added here
             existingOffer.setStatus(normalized);
+            changeLogService.upserted(ChangeLogService.TRADE_OFFER, id);
             return tradeOfferRepository.save(existingOffer);
         });
     }
@@ -84,5 +109,6 @@ public class TradeOfferService {
     @Transactional
     public void deleteTradeOffer(Integer id) {
         tradeOfferRepository.deleteById(id);
+        changeLogService.deleted(ChangeLogService.TRADE_OFFER, id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.appdevg5.technominds.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Background work: @Async listeners and @Scheduled jobs, plus the parallel parts of composed
+ * responses (POST /api/batch, seller storefronts). Tasks submitted by a request keep its replica
+ * routing (ReplicaRoutingTaskDecorator).
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncConfig.class);
+
+    /**
+     * Small dedicated pool for analytics rollups so they never compete with request threads.
+     * When the queue is full the task is dropped and logged; the nightly reconciliation fills the gap.
+     */
+    @Bean(name = "analyticsExecutor")
+    public ThreadPoolTaskExecutor analyticsExecutor(
+            @Value("${analytics.executor.threads:2}") int threads,
+            @Value("${analytics.executor.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("analytics-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler((task, pool) ->
+            log.warn("Analytics queue full, dropping rollup update"));
+        executor.setTaskDecorator(new ReplicaRoutingTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * Runs the sub-requests of POST /api/batch and the parts of a seller storefront. In the
+     * virtual-thread mode each gets a virtual thread; otherwise they share a bounded pool, and when
+     * it is busy a request runs its overflow on its own thread instead of queueing behind others.
+     */
+    @Bean(name = "batchExecutor")
+    public AsyncTaskExecutor batchExecutor(Environment environment,
+                                           @Value("${batch.executor.threads:16}") int threads) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("batch-");
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(new ReplicaRoutingTaskDecorator());
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("batch-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(new ReplicaRoutingTaskDecorator());
+        return executor;
+    }
+}
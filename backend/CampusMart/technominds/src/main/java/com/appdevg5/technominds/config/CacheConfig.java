@@ -0,0 +1,68 @@
+package com.appdevg5.technominds.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * In-process Caffeine caches.
+ * The manager is transaction-aware: puts and evictions issued inside a transaction are applied
+ * after it commits, so a reader can never re-cache data from a write that later rolls back.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // Seller review summary (rating histogram + latest reviews), keyed by seller profile id
+    public static final String REVIEW_SUMMARIES = "reviewSummaries";
+
+    // Rendered product and seller-info responses, keyed by request path (see ResponseCacheFilter)
+    public static final String RESPONSES = "responses";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${response-cache.ttl-seconds:5}") long responseTtlSeconds,
+            @Value("${response-cache.not-found-ttl-seconds:2}") long notFoundTtlSeconds) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        // Evicted on every review write; the TTL only bounds staleness from a read racing a write
+        cacheManager.registerCustomCache(REVIEW_SUMMARIES, Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMinutes(5))
+                .recordStats()
+                .build());
+        // Async so concurrent misses share one load; writes evict, the TTL bounds anything they miss
+        Duration responseTtl = Duration.ofSeconds(responseTtlSeconds);
+        Duration notFoundTtl = Duration.ofSeconds(notFoundTtlSeconds);
+        cacheManager.registerCustomCache(RESPONSES, Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfter(Expiry.creating((Object key, Object response) ->
+                        ((CachedResponse) response).isNotFound() ? notFoundTtl : responseTtl))
+                .recordStats()
+                .buildAsync());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "response-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(
+            ResponseCache responseCache,
+            @Value("${response-cache.max-wait-ms:2000}") long maxWaitMillis) {
+        FilterRegistrationBean<ResponseCacheFilter> registration =
+                new FilterRegistrationBean<>(new ResponseCacheFilter(responseCache, maxWaitMillis));
+        // After ReadYourWritesFilter, which decides whether the caller must read fresh data
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 5);
+        return registration;
+    }
+}
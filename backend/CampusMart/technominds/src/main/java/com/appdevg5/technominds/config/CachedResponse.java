@@ -0,0 +1,43 @@
+package com.appdevg5.technominds.config;
+
+import java.util.Map;
+
+/**
+ * A rendered GET response held by {@link ResponseCache}: status, content type, the caching
+ * headers (ETag and friends) and the body bytes exactly as they were written, so a hit costs
+ * neither a query nor serialization.
+ */
+public class CachedResponse {
+
+    private final int status;
+    private final String contentType;
+    private final Map<String, String> headers;
+    private final byte[] body;
+
+    public CachedResponse(int status, String contentType, Map<String, String> headers, byte[] body) {
+        this.status = status;
+        this.contentType = contentType;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public boolean isNotFound() {
+        return status == 404;
+    }
+}
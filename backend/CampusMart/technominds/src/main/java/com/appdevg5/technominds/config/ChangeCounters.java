@@ -0,0 +1,73 @@
+package com.appdevg5.technominds.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Change counters for data that is polled far more often than it changes (categories, a user's
+ * notifications and messages). A list endpoint builds its ETag from the counters it depends on,
+ * so a conditional GET can be answered with 304 before any query runs.
+ * <p>
+ * A key holds the value of one global sequence at its last change, so a key that was evicted
+ * comes back at least as new as anything handed out for it before. Versions also carry this
+ * instance's start time: after a restart, or on another instance, the tags simply do not match.
+ */
+@Component
+public class ChangeCounters {
+
+    /** Any category; embedded in product responses */
+    public static final String CATEGORIES = "categories";
+    /** Any profile's name, picture or rating; embedded in notifications, messages and orders */
+    public static final String PROFILES = "profiles";
+    /** Any product's name or price; embedded in messages and orders */
+    public static final String PRODUCTS = "products";
+
+    private final String instance = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<String, Long> counters = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .build();
+
+    public static String notifications(Integer profileId) {
+        return "notifications:" + profileId;
+    }
+
+    public static String messages(Integer profileId) {
+        return "messages:" + profileId;
+    }
+
+    /**
+     * @return a token that changes whenever {@code key} does, e.g. for {@link ETags#weak}
+     */
+    public String version(String key) {
+        return instance + "." + Long.toString(counters.get(key, k -> sequence.get()), 36);
+    }
+
+    /**
+     * Marks the keys as changed once the current transaction commits, or right away outside one.
+     * Bumping before commit would let a reader pair the new version with the old data.
+     */
+    public void changed(String... keys) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(keys);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(keys);
+            }
+        });
+    }
+
+    private void bump(String[] keys) {
+        for (String key : keys) {
+            counters.put(key, sequence.incrementAndGet());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.appdevg5.technominds.config;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET helpers. Responses carry a weak ETag and {@code Cache-Control: no-cache}, so
+ * browsers keep the body but revalidate on every poll, sending If-None-Match on their own.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * A weak ETag from whatever the representation depends on: update timestamps, versions from
+     * {@link ChangeCounters}. Nulls are allowed (e.g. a row that was never updated).
+     */
+    public static String weak(Object... parts) {
+        StringJoiner tag = new StringJoiner("-", "W/\"", "\"");
+        for (Object part : parts) {
+            tag.add(String.valueOf(part));
+        }
+        return tag.toString();
+    }
+
+    /**
+     * A 200 carrying the ETag. Spring answers 304 instead, before writing the body, when the
+     * request's If-None-Match matches.
+     */
+    public static ResponseEntity.BodyBuilder ok(String etag) {
+        return withValidators(ResponseEntity.ok(), etag);
+    }
+
+    /**
+     * Checks the ETag before building the body, so a 304 costs neither the query nor serialization.
+     * Only use this when the ETag can be computed without loading the data.
+     */
+    public static <T> ResponseEntity<T> ifNoneMatch(WebRequest request, String etag, Supplier<T> body) {
+        if (request.checkNotModified(etag)) {
+            return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), etag).build();
+        }
+        return ok(etag).body(body.get());
+    }
+
+    private static ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder, String etag) {
+        return builder.eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                // JSON and CBOR share a URL and an ETag, so caches must key on Accept too
+                .varyBy(HttpHeaders.ACCEPT);
+    }
+}
@@ -0,0 +1,89 @@
+package com.appdevg5.technominds.config;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.TokenStreamContext;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.PropertyWriter;
+import tools.jackson.databind.ser.std.SimpleBeanPropertyFilter;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The properties a client asked for with {@code ?fields=}, e.g. {@code fields=id,name,price,seller.firstName}.
+ * Paths are relative to the returned resource (or to each element of a returned list); naming an
+ * object such as {@code seller} keeps it whole.
+ */
+public final class FieldSelection {
+
+    private final Set<String> selected = new HashSet<>();
+    // Objects that lie on the way to a selected path ("seller" for "seller.firstName")
+    private final Set<String> parents = new HashSet<>();
+
+    private FieldSelection() {
+    }
+
+    /**
+     * @return the selection, or null if the parameter is missing or names no field
+     */
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        FieldSelection selection = new FieldSelection();
+        for (String field : fields.split(",")) {
+            String path = field.trim();
+            if (path.isEmpty()) {
+                continue;
+            }
+            selection.selected.add(path);
+            for (int dot = path.indexOf('.'); dot > 0; dot = path.indexOf('.', dot + 1)) {
+                selection.parents.add(path.substring(0, dot));
+            }
+        }
+        return selection.selected.isEmpty() ? null : selection;
+    }
+
+    public boolean includes(String path) {
+        if (selected.contains(path) || parents.contains(path)) {
+            return true;
+        }
+        // Anything inside an object that was selected as a whole
+        for (int dot = path.lastIndexOf('.'); dot > 0; dot = path.lastIndexOf('.', dot - 1)) {
+            if (selected.contains(path.substring(0, dot))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A property filter that decides each property as it is written, from the generator's
+     * position, so the response DTOs are serialized as they are rather than copied into maps.
+     */
+    public SimpleBeanPropertyFilter asFilter() {
+        return new SimpleBeanPropertyFilter() {
+            @Override
+            public void serializeAsProperty(Object pojo, JsonGenerator g, SerializationContext ctxt,
+                                            PropertyWriter writer) throws Exception {
+                if (includes(pathOf(g, writer.getName()))) {
+                    writer.serializeAsProperty(pojo, g, ctxt);
+                } else if (!g.canOmitProperties()) {
+                    writer.serializeAsOmittedProperty(pojo, g, ctxt);
+                }
+            }
+        };
+    }
+
+    // The generator is inside the object that owns the property; its enclosing objects name the path
+    private static String pathOf(JsonGenerator g, String name) {
+        String path = name;
+        for (TokenStreamContext ctx = g.streamWriteContext().getParent(); ctx != null && !ctx.inRoot();
+                ctx = ctx.getParent()) {
+            if (ctx.inObject()) {
+                path = ctx.currentName() + "." + path;
+            }
+        }
+        return path;
+    }
+}
@@ -0,0 +1,69 @@
+package com.appdevg5.technominds.config;
+
+import com.appdevg5.technominds.Order.OrderDTO;
+import com.appdevg5.technominds.Order.OrderDetailDTO;
+import com.appdevg5.technominds.Product.ProductDTO;
+import com.appdevg5.technominds.Profile.ProfileDTO;
+import com.appdevg5.technominds.Profile.SellerInfoDTO;
+import org.springframework.boot.jackson.autoconfigure.CborMapperBuilderCustomizer;
+import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.cfg.MapperConfig;
+import tools.jackson.databind.introspect.Annotated;
+import tools.jackson.databind.introspect.AnnotatedClass;
+import tools.jackson.databind.introspect.NopAnnotationIntrospector;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.FilterProvider;
+import tools.jackson.databind.ser.std.SimpleBeanPropertyFilter;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+
+import java.util.Set;
+
+/**
+ * Sets up the JSON and CBOR mappers used for responses so that product, order and profile
+ * DTOs go through the {@link #FIELDS_FILTER} property filter. By default it writes every
+ * property; {@link SparseFieldsetAdvice} swaps in the client's {@code ?fields=} selection.
+ */
+@Configuration
+public class JacksonConfig {
+
+    public static final String FIELDS_FILTER = "fields";
+
+    private static final Set<Class<?>> FILTERABLE = Set.of(
+            ProductDTO.class, OrderDTO.class, OrderDetailDTO.class, ProfileDTO.class, SellerInfoDTO.class);
+
+    private static final FilterProvider ALL_FIELDS =
+            new SimpleFilterProvider().addFilter(FIELDS_FILTER, SimpleBeanPropertyFilter.serializeAll());
+
+    @Bean
+    public JsonMapperBuilderCustomizer sparseFieldsetJsonCustomizer() {
+        return builder -> builder.addModule(new SparseFieldsetModule()).filterProvider(ALL_FIELDS);
+    }
+
+    @Bean
+    public CborMapperBuilderCustomizer sparseFieldsetCborCustomizer() {
+        return builder -> builder.addModule(new SparseFieldsetModule()).filterProvider(ALL_FIELDS);
+    }
+
+    // Assigns the filter by type, so the DTOs need no annotation and stay usable with plain mappers
+    static class SparseFieldsetModule extends SimpleModule {
+
+        SparseFieldsetModule() {
+            super("sparse-fieldsets");
+        }
+
+        @Override
+        public void setupModule(SetupContext context) {
+            super.setupModule(context);
+            context.insertAnnotationIntrospector(new NopAnnotationIntrospector() {
+                @Override
+                public Object findFilterId(MapperConfig<?> config, Annotated ann) {
+                    return ann instanceof AnnotatedClass annotatedClass && FILTERABLE.contains(annotatedClass.getRawType())
+                            ? FIELDS_FILTER
+                            : null;
+                }
+            });
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.appdevg5.technominds.config;
 
+import com.appdevg5.technominds.Auth.TokenRevocationList;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -16,10 +19,14 @@ import java.io.IOException;
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthFilter.class);
 
-    public JwtAuthFilter(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
+    private final JwtTokenVerifier tokenVerifier;
+    private final TokenRevocationList revocationList;
+
+    public JwtAuthFilter(JwtTokenVerifier tokenVerifier, TokenRevocationList revocationList) {
+        this.tokenVerifier = tokenVerifier;
+        this.revocationList = revocationList;
     }
 
     @Override
@@ -33,19 +40,20 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             String token = authHeader.substring(7);
             
             try {
-                if (jwtUtil.validateToken(token)) {
+                // One verification per token (cached afterwards); null means invalid or expired
+                VerifiedToken verified = tokenVerifier.verify(token);
+                // Revocation is checked on every request (also for cached tokens); in-memory unless the Bloom filter hits
+                if (verified != null && !revocationList.isRevoked(verified.getTokenId())) {
                     // Token is valid - add user info to request attributes
-                    Integer userId = jwtUtil.extractUserId(token);
-                    String email = jwtUtil.extractEmail(token);
-                    Integer profileId = jwtUtil.extractProfileId(token);
-                    
-                    request.setAttribute("userId", userId);
-                    request.setAttribute("email", email);
-                    request.setAttribute("profileId", profileId);
+                    request.setAttribute("userId", verified.getUserId());
+                    request.setAttribute("email", verified.getEmail());
+                    request.setAttribute("profileId", verified.getProfileId());
+                    request.setAttribute("tokenId", verified.getTokenId());
+                    request.setAttribute("tokenExpiresAt", verified.getExpiresAt());
                 }
             } catch (Exception e) {
                 // Invalid token - continue without authentication
-                System.err.println("JWT validation error: " + e.getMessage());
+                log.debug("JWT validation error: {}", e.getMessage());
             }
         }
         
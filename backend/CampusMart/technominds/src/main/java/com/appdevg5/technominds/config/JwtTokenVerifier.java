@@ -0,0 +1,108 @@
+package com.appdevg5.technominds.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Verifies bearer tokens with a cache of already-verified identities.
+ * The first request with a token pays for one HMAC verification; later requests with the
+ * same token cost a SHA-256 of the token and a cache lookup. Entries never outlive the
+ * token's own expiry, and raw tokens are never kept in memory (the key is their hash).
+ * Publishes jwt.verification (full HMAC verifications) and the jwt.verified cache hit rate.
+ */
+@Component
+public class JwtTokenVerifier implements MeterBinder {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokens;
+    private volatile Timer verificationTimer;
+
+    public JwtTokenVerifier(JwtUtil jwtUtil,
+                            @Value("${jwt.verified-cache.max-size:10000}") long maxSize,
+                            @Value("${jwt.verified-cache.max-ttl-seconds:900}") long maxTtlSeconds) {
+        this.jwtUtil = jwtUtil;
+        long maxTtlNanos = Duration.ofSeconds(maxTtlSeconds).toNanos();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<ByteBuffer, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, VerifiedToken token, long currentTime) {
+                        long untilExpiry = Duration.between(Instant.now(), token.getExpiresAt()).toNanos();
+                        return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedTokens, "jwt.verified");
+        verificationTimer = Timer.builder("jwt.verification")
+                .description("Signature verifications of tokens not yet in the verified cache")
+                .register(registry);
+    }
+
+    /**
+     * @return the token's identity, or null if it is invalid or expired
+     */
+    public VerifiedToken verify(String token) {
+        ByteBuffer key = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            if (!cached.isExpired(Instant.now())) {
+                return cached;
+            }
+            verifiedTokens.invalidate(key);
+            return null;
+        }
+
+        // Invalid tokens are not cached, so garbage tokens cannot crowd out real sessions
+        Timer timer = verificationTimer;
+        VerifiedToken verified = timer != null ? timer.record(() -> jwtUtil.verify(token)) : jwtUtil.verify(token);
+        if (verified != null) {
+            verifiedTokens.put(key, verified);
+        }
+        return verified;
+    }
+
+    /**
+     * Drops a token from the cache so its next use is verified again (e.g. after it is revoked).
+     */
+    public void invalidate(String token) {
+        verifiedTokens.invalidate(hash(token));
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
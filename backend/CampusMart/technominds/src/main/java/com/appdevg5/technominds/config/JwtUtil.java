@@ -1,6 +1,8 @@
 package com.appdevg5.technominds.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,22 +13,27 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final Long expiration;
 
-    @Value("${jwt.expiration}")
-    private Long expiration;
+    // Built once: deriving the HMAC key and the parser per call was repeated on every request
+    private final SecretKey signingKey;
+    private final JwtParser parser;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.expiration}") Long expiration) {
+        this.expiration = expiration;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
     }
 
     /**
-     * Generate JWT token for a user
+     * Generate a short-lived access token for a user.
+     * Each token carries a unique ID (jti) so it can be revoked on logout or password change.
      * @param userId User ID
      * @param email User email
      * @param profileId Profile ID
@@ -43,22 +50,48 @@ public class JwtUtil {
 
         return Jwts.builder()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(userId.toString())
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verify a token once and return its identity.
+     * The signature and expiry are checked in the same parse (an expired token throws).
+     * @return the verified identity, or null if the token is malformed, forged or expired
+     */
+    public VerifiedToken verify(String token) {
+        try {
+            Claims claims = extractAllClaims(token);
+            if (claims.getExpiration() == null) {
+                return null;
+            }
+            return new VerifiedToken(
+                    claims.get("userId", Integer.class),
+                    claims.get("email", String.class),
+                    claims.get("profileId", Integer.class),
+                    claims.getId(),
+                    claims.getExpiration().toInstant());
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return access token lifetime in milliseconds
+     */
+    public long getExpirationMillis() {
+        return expiration;
+    }
+
     /**
      * Extract all claims from JWT token
      */
     public Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
@@ -98,14 +131,9 @@ public class JwtUtil {
     }
 
     /**
-     * Validate token
+     * Validate token (single parse: the parser already rejects expired tokens)
      */
     public boolean validateToken(String token) {
-        try {
-            extractAllClaims(token);
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
-        }
+        return verify(token) != null;
     }
 }
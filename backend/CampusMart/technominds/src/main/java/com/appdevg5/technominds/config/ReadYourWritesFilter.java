@@ -0,0 +1,56 @@
+package com.appdevg5.technominds.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Read-your-writes for the replica split. A request that writes (any non-GET/HEAD/OPTIONS)
+ * reads from the primary for its whole duration, and so does everything the same caller
+ * sends for the next few seconds, until the replica has had time to catch up.
+ * Callers are identified by user ID when authenticated, otherwise by client address.
+ * Runs after JwtAuthFilter so the user ID is known.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(Duration stickiness) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(stickiness)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean writing = !SAFE_METHODS.contains(request.getMethod());
+        String caller = callerKey(request);
+        ReplicaRoutingDataSource.requirePrimary(writing || recentWriters.getIfPresent(caller) != null);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.requirePrimary(false);
+            if (writing) {
+                recentWriters.put(caller, Boolean.TRUE);
+            }
+        }
+    }
+
+    private static String callerKey(HttpServletRequest request) {
+        Object userId = request.getAttribute("userId");
+        return userId != null ? "user:" + userId : "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,25 @@
+package com.appdevg5.technominds.config;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Carries the submitting thread's replica routing over to the executor thread, so work a request
+ * hands off to a pool reads from the primary whenever the request itself has to. Restores the
+ * thread's own routing afterwards, since a busy pool may run the task on the submitting thread.
+ */
+public class ReplicaRoutingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        boolean primaryRequired = ReplicaRoutingDataSource.isPrimaryRequired();
+        return () -> {
+            boolean previouslyRequired = ReplicaRoutingDataSource.isPrimaryRequired();
+            ReplicaRoutingDataSource.requirePrimary(primaryRequired);
+            try {
+                runnable.run();
+            } finally {
+                ReplicaRoutingDataSource.requirePrimary(previouslyRequired);
+            }
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.appdevg5.technominds.config;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * SQL statements run on behalf of one HTTP request: how many, how long they took in total,
+ * and how often each statement shape repeated. Bound to the request thread by SqlAccountingFilter
+ * and filled in by StatementAccountingDataSource; work on other threads is not counted.
+ */
+public class RequestSqlStats {
+
+    /** Request attribute holding the finished stats, for tests and later filters */
+    public static final String ATTRIBUTE = RequestSqlStats.class.getName();
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern SELECT_LIST = Pattern.compile("(?is)^select\\s.+?\\sfrom\\s");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_SHAPE_LENGTH = 300;
+
+    private int statementCount;
+    private long elapsedNanos;
+    private final Map<String, Integer> shapes = new HashMap<>();
+
+    static RequestSqlStats start() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the stats of the request running on this thread, or null outside a request
+     */
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    void record(String sql, long nanos) {
+        statementCount++;
+        elapsedNanos += nanos;
+        if (sql != null) {
+            shapes.merge(shapeOf(sql), 1, Integer::sum);
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getElapsedMillis() {
+        return elapsedNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return the statement shape run most often, or null if nothing ran
+     */
+    public Map.Entry<String, Integer> getMostRepeated() {
+        return shapes.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+    }
+
+    /**
+     * Value for the Server-Timing response header, e.g. {@code db;dur=3.2;desc="4 statements"}
+     */
+    public String toServerTiming() {
+        return String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d statements\"",
+                getElapsedMillis(), statementCount);
+    }
+
+    /**
+     * Literals become '?' and IN lists collapse, so the same query with different values has one shape.
+     * The column list is dropped to keep the table and the WHERE clause readable in a log line.
+     */
+    static String shapeOf(String sql) {
+        String shape = SELECT_LIST.matcher(sql.trim()).replaceFirst("select ... from ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?...)");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape;
+    }
+}
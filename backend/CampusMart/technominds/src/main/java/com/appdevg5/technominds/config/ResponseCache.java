@@ -0,0 +1,67 @@
+package com.appdevg5.technominds.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of rendered responses for the hottest public reads, keyed by request path
+ * (see ResponseCacheFilter). Services evict an entry when they change what it shows; inside a
+ * transaction the eviction waits for the commit. Evicting earlier would let a miss in between
+ * reload the old row and keep it for the whole TTL.
+ */
+@Component
+public class ResponseCache {
+
+    private final Cache cache;
+
+    public ResponseCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache(CacheConfig.RESPONSES);
+    }
+
+    public static String productKey(Integer productId) {
+        return "/api/products/" + productId;
+    }
+
+    public static String sellerInfoKey(Integer profileId) {
+        return "/api/profiles/" + profileId + "/seller-info";
+    }
+
+    // GET /api/products/{id}
+    public void evictProduct(Integer productId) {
+        evictAfterCommit(productKey(productId));
+    }
+
+    // GET /api/profiles/{id}/seller-info, which also shows listing counts and the rating
+    public void evictSellerInfo(Integer profileId) {
+        evictAfterCommit(sellerInfoKey(profileId));
+    }
+
+    // evictIfPresent is immediate even on a transaction-aware cache, which defers plain evict()
+    private void evictAfterCommit(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.evictIfPresent(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.evictIfPresent(key);
+            }
+        });
+    }
+
+    /**
+     * The cached response for the key, or the one being loaded right now. Only the first caller's
+     * loader runs; everyone else arriving before it completes gets the same future. A future that
+     * completes exceptionally is dropped, so nothing is cached.
+     */
+    CompletableFuture<CachedResponse> retrieve(String key, Supplier<CompletableFuture<CachedResponse>> loader) {
+        return cache.retrieve(key, loader);
+    }
+}
@@ -0,0 +1,203 @@
+package com.appdevg5.technominds.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * Serves GET /api/products/{id} and /api/profiles/{id}/seller-info from {@link ResponseCache}.
+ * Concurrent misses for the same path are coalesced: one request runs the controller, the rest
+ * wait for its bytes, so a stampede on a viral listing costs one read per TTL. 200s and 404s are
+ * cached; any other outcome is not, and the waiters then run the request themselves.
+ * <p>
+ * Only the plain JSON representation is cached. Requests with a query string (?fields=) or that
+ * want CBOR pass through, as do callers whose reads must see their own recent writes.
+ * The X-Cache header says what happened: MISS, HIT or COALESCED.
+ * <p>
+ * The controller's ETag is cached with the body, and If-None-Match is answered here: the
+ * request that loads the entry always renders the full body, and any client already holding
+ * that version gets a 304.
+ */
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    static final String X_CACHE = "X-Cache";
+
+    private static final Pattern CACHEABLE_PATHS = Pattern.compile("/api/products/\\d+|/api/profiles/\\d+/seller-info");
+
+    // Set by the controller and needed on every copy of the response
+    private static final List<String> REPLAYED_HEADERS =
+            List.of(HttpHeaders.ETAG, HttpHeaders.CACHE_CONTROL, HttpHeaders.VARY);
+
+    private final ResponseCache responseCache;
+    private final long maxWaitMillis;
+
+    public ResponseCacheFilter(ResponseCache responseCache, long maxWaitMillis) {
+        this.responseCache = responseCache;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod())
+                || request.getQueryString() != null
+                || !CACHEABLE_PATHS.matcher(pathOf(request)).matches()
+                || !acceptsJson(request.getHeader("Accept"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (ReplicaRoutingDataSource.isPrimaryRequired()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AtomicBoolean loading = new AtomicBoolean();
+        CompletableFuture<CachedResponse> load = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> cached = responseCache.retrieve(pathOf(request), () -> {
+            loading.set(true);
+            return load;
+        });
+
+        if (loading.get()) {
+            render(request, response, filterChain, load);
+            return;
+        }
+
+        boolean hit = cached.isDone();
+        CachedResponse cachedResponse;
+        try {
+            cachedResponse = cached.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // The load was not cacheable or is taking too long: answer this one ourselves
+            filterChain.doFilter(request, response);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException("Interrupted while waiting for a cached response", e);
+        }
+        response.setHeader(X_CACHE, hit ? "HIT" : "COALESCED");
+        write(request, response, cachedResponse);
+    }
+
+    private void render(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                        CompletableFuture<CachedResponse> load) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            // A 304 would leave nothing to cache, so the controller always renders the body
+            filterChain.doFilter(new UnconditionalRequest(request), wrapper);
+        } catch (ServletException | IOException | RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        }
+        int status = wrapper.getStatus();
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : REPLAYED_HEADERS) {
+            if (wrapper.getHeader(name) != null) {
+                headers.put(name, wrapper.getHeader(name));
+            }
+        }
+        CachedResponse rendered = new CachedResponse(status, wrapper.getContentType(), headers, wrapper.getContentAsByteArray());
+        if (status == HttpServletResponse.SC_OK || status == HttpServletResponse.SC_NOT_FOUND) {
+            load.complete(rendered);
+        } else {
+            load.completeExceptionally(new IllegalStateException("Status " + status + " is not cached"));
+        }
+        wrapper.setHeader(X_CACHE, "MISS");
+        if (notModified(request, response, rendered)) {
+            // The buffered body is dropped
+            return;
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private static void write(HttpServletRequest request, HttpServletResponse response,
+                              CachedResponse cached) throws IOException {
+        cached.getHeaders().forEach(response::setHeader);
+        if (notModified(request, response, cached)) {
+            return;
+        }
+        response.setStatus(cached.getStatus());
+        if (cached.getContentType() != null) {
+            response.setContentType(cached.getContentType());
+        }
+        response.setContentLength(cached.getBody().length);
+        response.getOutputStream().write(cached.getBody());
+    }
+
+    // Sets the 304 when the client's If-None-Match matches the cached ETag
+    private static boolean notModified(HttpServletRequest request, HttpServletResponse response, CachedResponse cached) {
+        String etag = cached.getHeaders().get(HttpHeaders.ETAG);
+        return cached.getStatus() == HttpServletResponse.SC_OK && etag != null
+                && new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static boolean acceptsJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        // The cached bytes are JSON, so the client's first choice must be something JSON satisfies
+        try {
+            MediaType preferred = MediaType.parseMediaTypes(accept).stream()
+                    .max(Comparator.comparingDouble(MediaType::getQualityValue))
+                    .orElse(MediaType.ALL);
+            return preferred.isCompatibleWith(MediaType.APPLICATION_JSON);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * The request without If-None-Match, for the one render that fills the cache.
+     */
+    private static class UnconditionalRequest extends HttpServletRequestWrapper {
+
+        UnconditionalRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            List<String> names = Collections.list(super.getHeaderNames());
+            names.removeIf(HttpHeaders.IF_NONE_MATCH::equalsIgnoreCase);
+            return Collections.enumeration(names);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.appdevg5.technominds.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache regions (JCache API, Caffeine underneath).
+ * Every region is declared here with its own size and TTL; Hibernate is set to fail on
+ * any region not listed, so an entity cannot silently end up in an unbounded cache.
+ * Hit/miss counts are published per region through Hibernate statistics and Micrometer.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String CATEGORIES = "categories";
+    public static final String PROFILES = "profiles";
+
+    // Hibernate's built-in regions for the query cache
+    static final String QUERY_RESULTS = "default-query-results-region";
+    static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${hibernate-cache.categories.ttl-seconds:3600}") long categoriesTtl,
+            @Value("${hibernate-cache.profiles.ttl-seconds:60}") long profilesTtl,
+            @Value("${hibernate-cache.profiles.max-entries:10000}") long profilesMax,
+            @Value("${hibernate-cache.query-results.ttl-seconds:600}") long queryResultsTtl) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // A private manager per application context, so test contexts in one JVM do not share regions
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("campusmart-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        cacheManager.createCache(CATEGORIES, region(1_000, categoriesTtl));
+        cacheManager.createCache(PROFILES, region(profilesMax, profilesTtl));
+        cacheManager.createCache(QUERY_RESULTS, region(1_000, queryResultsTtl));
+        // Must never evict entries: a lost timestamp could let a stale query result be served
+        cacheManager.createCache(UPDATE_TIMESTAMPS, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maxEntries, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(OptionalLong.of(Duration.ofSeconds(ttlSeconds).toNanos()));
+        return configuration;
+    }
+}
@@ -0,0 +1,55 @@
+package com.appdevg5.technominds.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractJacksonHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import tools.jackson.databind.ser.FilterProvider;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+
+import java.util.Map;
+
+/**
+ * Applies {@code ?fields=id,name,price} to product, order and profile responses, in JSON or CBOR.
+ * The selection is handed to the Jackson converter as a filter hint, so it takes effect while the
+ * body is being written; nothing is copied or rebuilt beforehand.
+ */
+@ControllerAdvice
+public class SparseFieldsetAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String FIELDS_PARAM = "fields";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJacksonHttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        return body;
+    }
+
+    @Override
+    public Map<String, Object> determineWriteHints(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                                   Class<? extends HttpMessageConverter<?>> selectedConverterType) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        FieldSelection selection = FieldSelection.parse(request.getParameter(FIELDS_PARAM));
+        if (selection == null) {
+            return null;
+        }
+        FilterProvider filters = new SimpleFilterProvider().addFilter(JacksonConfig.FIELDS_FILTER, selection.asFilter());
+        return Map.of(FilterProvider.class.getName(), filters);
+    }
+}
@@ -0,0 +1,58 @@
+package com.appdevg5.technominds.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL accounting (diagnostics.sql-accounting.enabled, on by default).
+ * Wraps the application's "dataSource" bean, the one JPA and JdbcTemplate use, so each statement
+ * is counted once even when it sits in front of a routing proxy or several pools.
+ */
+@Configuration
+@ConditionalOnProperty(name = "diagnostics.sql-accounting.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlAccountingConfig {
+
+    @Bean
+    public static StatementAccountingPostProcessor statementAccountingDataSourcePostProcessor() {
+        return new StatementAccountingPostProcessor();
+    }
+
+    /**
+     * Ordered last so it wraps whatever the other post-processors made of the bean (the Hikari pool
+     * must still be visible to the virtual-thread connection limiter, for one).
+     */
+    static class StatementAccountingPostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                return new StatementAccountingDataSource(dataSource);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlAccountingFilter> sqlAccountingFilter(
+            MeterRegistry meterRegistry,
+            @Value("${diagnostics.sql-accounting.statement-budget:20}") int statementBudget) {
+        FilterRegistrationBean<SqlAccountingFilter> registration =
+                new FilterRegistrationBean<>(new SqlAccountingFilter(meterRegistry, statementBudget));
+        // Outermost, so SQL run by the security chain is counted too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
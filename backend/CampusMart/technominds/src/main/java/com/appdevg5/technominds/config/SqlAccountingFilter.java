@@ -0,0 +1,86 @@
+package com.appdevg5.technominds.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accounts for the SQL each request runs. The totals go out as a Server-Timing header
+ * (written by ServerTimingResponseAdvice just before the body, or here if no body was written),
+ * into the request.sql.statements / request.sql.time metrics tagged by controller method,
+ * and into a warning naming the most repeated statement when a request goes over its
+ * statement budget, which is what an N+1 loop looks like.
+ */
+public class SqlAccountingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlAccountingFilter.class);
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    public SqlAccountingFilter(MeterRegistry meterRegistry, int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStats.stop();
+            request.setAttribute(RequestSqlStats.ATTRIBUTE, stats);
+            if (!response.isCommitted() && !response.containsHeader(SERVER_TIMING)) {
+                response.setHeader(SERVER_TIMING, stats.toServerTiming());
+            }
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestSqlStats stats) {
+        String handler = handlerName(request);
+        DistributionSummary.builder("request.sql.statements")
+                .description("SQL statements executed per HTTP request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        Timer.builder("request.sql.time")
+                .description("Time spent executing SQL per HTTP request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(stats.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getStatementCount() > statementBudget) {
+            Map.Entry<String, Integer> repeated = stats.getMostRepeated();
+            log.warn("{} {} ({}) ran {} statements, budget is {}; most repeated ({}x): {}",
+                    request.getMethod(), request.getRequestURI(), handler, stats.getStatementCount(),
+                    statementBudget, repeated.getValue(), repeated.getKey());
+        }
+    }
+
+    private static String handlerName(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return "none";
+    }
+}
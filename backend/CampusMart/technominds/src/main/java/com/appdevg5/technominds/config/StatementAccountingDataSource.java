@@ -0,0 +1,93 @@
+package com.appdevg5.technominds.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Counts and times the statements executed through this data source into the current
+ * request's RequestSqlStats. Connections handed out outside a request (scheduled jobs,
+ * async work) are returned untouched, so background work pays nothing.
+ * Inside a request the connection and its statements are thin JDK proxies.
+ */
+public class StatementAccountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    public StatementAccountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return accounted(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return accounted(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection accounted(Connection target) {
+        if (RequestSqlStats.current() == null) {
+            return target;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            Object result = invoke(method, target, args);
+                            if (STATEMENT_FACTORIES.contains(method.getName()) && result instanceof Statement statement) {
+                                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                                return accounted(statement, method.getReturnType(), sql);
+                            }
+                            return result;
+                    }
+                });
+    }
+
+    private static Object accounted(Statement target, Class<?> statementType, String preparedSql) {
+        return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {statementType},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (name.equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if (!name.startsWith("execute")) {
+                        return invoke(method, target, args);
+                    }
+                    long start = System.nanoTime();
+                    try {
+                        return invoke(method, target, args);
+                    } finally {
+                        RequestSqlStats stats = RequestSqlStats.current();
+                        if (stats != null) {
+                            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                            stats.record(sql, System.nanoTime() - start);
+                        }
+                    }
+                });
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
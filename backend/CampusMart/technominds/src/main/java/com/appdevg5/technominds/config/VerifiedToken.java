@@ -0,0 +1,51 @@
+package com.appdevg5.technominds.config;
+
+import java.time.Instant;
+
+/**
+ * Identity taken from a JWT whose signature and expiry have been checked.
+ * Immutable, so one instance can be shared by every request presenting the same token.
+ */
+public class VerifiedToken {
+
+    private final Integer userId;
+    private final String email;
+    private final Integer profileId;
+    private final String tokenId;
+    private final Instant expiresAt;
+
+    public VerifiedToken(Integer userId, String email, Integer profileId, String tokenId, Instant expiresAt) {
+        this.userId = userId;
+        this.email = email;
+        this.profileId = profileId;
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+
+    public Integer getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Integer getProfileId() {
+        return profileId;
+    }
+
+    /**
+     * @return the token's jti claim (null for tokens issued before token IDs were added)
+     */
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,79 @@
+package com.appdevg5.technominds.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Extras for the virtual-thread mode (spring.threads.virtual.enabled=true on a Java 21+ runtime).
+ * Spring Boot itself moves Tomcat request handling, @Async (applicationTaskExecutor) and
+ * @Scheduled jobs onto virtual threads; this adds the pieces that mode needs:
+ * a database concurrency limit and pinning diagnostics.
+ * The dedicated analytics and password-hashing pools stay on platform threads on purpose:
+ * they are bounded by design and hashing is CPU work.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    /**
+     * Wraps each Hikari pool so at most its maximum-pool-size connections (or db.concurrency-limit.permits)
+     * are in use, with everyone else parked on a semaphore. Routing proxies are left alone; the pools behind them are limited.
+     * Runs before any other data source post-processor, which would otherwise hide the pool behind its own wrapper.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "db.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public static ConcurrencyLimitingPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment) {
+        Integer permitsOverride = environment.getProperty("db.concurrency-limit.permits", Integer.class);
+        Long timeoutOverride = environment.getProperty("db.concurrency-limit.acquire-timeout-ms", Long.class);
+
+        return new ConcurrencyLimitingPostProcessor(permitsOverride, timeoutOverride);
+    }
+
+    static class ConcurrencyLimitingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Integer permitsOverride;
+        private final Long timeoutOverride;
+
+        ConcurrencyLimitingPostProcessor(Integer permitsOverride, Long timeoutOverride) {
+            this.permitsOverride = permitsOverride;
+            this.timeoutOverride = timeoutOverride;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource pool) {
+                int permits = permitsOverride != null ? permitsOverride : pool.getMaximumPoolSize();
+                long timeoutMillis = timeoutOverride != null ? timeoutOverride : pool.getConnectionTimeout();
+                log.info("Limiting '{}' to {} concurrent connections", beanName, permits);
+                return new ConcurrencyLimitingDataSource(pool, permits, timeoutMillis);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    @Bean(destroyMethod = "close", initMethod = "start")
+    @ConditionalOnProperty(name = "diagnostics.virtual-thread-pinning.enabled", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${diagnostics.virtual-thread-pinning.threshold-ms:20}") long thresholdMillis) {
+        return new VirtualThreadPinningMonitor(Duration.ofMillis(thresholdMillis));
+    }
+}
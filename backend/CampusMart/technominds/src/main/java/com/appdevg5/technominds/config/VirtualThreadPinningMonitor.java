@@ -0,0 +1,92 @@
+package com.appdevg5.technominds.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams JFR jdk.VirtualThreadPinned events in-process and reports where virtual threads
+ * block while pinned to their carrier (typically blocking I/O inside a synchronized block).
+ * The first pin at each call site is logged with its stack; later ones are only counted.
+ */
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.appdevg5.technominds";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Duration threshold;
+    private final Map<String, LongAdder> pinsBySite = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    public void start() {
+        try {
+            stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::record);
+            stream.startAsync();
+            log.info("Reporting virtual thread pins longer than {}ms", threshold.toMillis());
+        } catch (RuntimeException e) {
+            log.warn("JFR streaming unavailable: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return pins seen so far, keyed by the innermost application frame
+     */
+    public Map<String, Long> getPinCounts() {
+        Map<String, Long> counts = new ConcurrentHashMap<>();
+        pinsBySite.forEach((site, count) -> counts.put(site, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public void close() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void record(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        String site = callSite(frames);
+        LongAdder count = pinsBySite.computeIfAbsent(site, key -> new LongAdder());
+        count.increment();
+        if (count.sum() > 1) {
+            return;
+        }
+
+        StringBuilder message = new StringBuilder("Virtual thread pinned for ")
+                .append(event.getDuration().toMillis()).append("ms at ").append(site);
+        frames.stream().limit(LOGGED_FRAMES).forEach(frame -> message.append("\n\tat ").append(describe(frame)));
+        log.warn("{}", message);
+    }
+
+    private static String callSite(List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(APP_PACKAGE))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(VirtualThreadPinningMonitor::describe)
+                .orElse("unknown");
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
@@ -1,13 +1,31 @@
 package com.appdevg5.technominds.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tools.jackson.dataformat.cbor.CBORMapper;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final CBORMapper cborMapper;
+
+    public WebConfig(CBORMapper cborMapper) {
+        this.cborMapper = cborMapper;
+    }
+
+    /**
+     * Clients that send Accept: application/cbor get the same responses in CBOR, which is
+     * smaller and cheaper to write than JSON. JSON stays the default for everyone else.
+     */
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        builder.withCborConverter(new JacksonCborHttpMessageConverter(cborMapper));
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // Serve uploaded images from /uploads/** URL pattern
@@ -1,11 +1,13 @@
 package com.appdevg5.technominds.controller;
 
-import com.appdevg5.technominds.entity.NotificationEntity;
 import com.appdevg5.technominds.Notification.NotificationDTO;
+import com.appdevg5.technominds.config.ChangeCounters;
+import com.appdevg5.technominds.config.ETags;
 import com.appdevg5.technominds.service.NotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,47 +18,49 @@ public class NotificationController {
     @Autowired
     private NotificationService notificationService;
     
+    @Autowired
+    private ChangeCounters changeCounters;
+    
     /**
-     * Get all notifications for a user
+     * Get all notifications for a user.
+     * The GETs below are polled, so a matching If-None-Match gets a 304 without a query.
      */
     @GetMapping("/profile/{profileId}")
     public ResponseEntity<List<NotificationDTO>> getNotificationsByProfile(
             @PathVariable Integer profileId,
-            @RequestParam(required = false) String type) {
+            @RequestParam(required = false) String type,
+            WebRequest request) {
         
-        List<NotificationDTO> notifications;
-        if (type != null && !type.isEmpty()) {
-            notifications = notificationService.getNotificationsByType(profileId, type);
-        } else {
-            notifications = notificationService.getNotificationsByProfile(profileId);
-        }
-        return ResponseEntity.ok(notifications);
+        return ETags.ifNoneMatch(request, etag(profileId), () -> {
+            if (type != null && !type.isEmpty()) {
+                return notificationService.getNotificationsByType(profileId, type);
+            }
+            return notificationService.getNotificationsByProfile(profileId);
+        });
     }
     
     /**
      * Get unread notifications for a user
      */
     @GetMapping("/profile/{profileId}/unread")
-    public ResponseEntity<List<NotificationDTO>> getUnreadNotifications(@PathVariable Integer profileId) {
-        List<NotificationDTO> notifications = notificationService.getUnreadNotifications(profileId);
-        return ResponseEntity.ok(notifications);
+    public ResponseEntity<List<NotificationDTO>> getUnreadNotifications(@PathVariable Integer profileId, WebRequest request) {
+        return ETags.ifNoneMatch(request, etag(profileId), () -> notificationService.getUnreadNotifications(profileId));
     }
     
     /**
      * Get unread notification count
      */
     @GetMapping("/profile/{profileId}/unread/count")
-    public ResponseEntity<Integer> getUnreadCount(@PathVariable Integer profileId) {
-        Integer count = notificationService.getUnreadCount(profileId);
-        return ResponseEntity.ok(count);
+    public ResponseEntity<Integer> getUnreadCount(@PathVariable Integer profileId, WebRequest request) {
+        return ETags.ifNoneMatch(request, etag(profileId), () -> notificationService.getUnreadCount(profileId));
     }
     
     /**
      * Mark a notification as read
      */
     @PatchMapping("/{notificationId}/read")
-    public ResponseEntity<NotificationEntity> markAsRead(@PathVariable Long notificationId) {
-        NotificationEntity notification = notificationService.markAsRead(notificationId);
+    public ResponseEntity<NotificationDTO> markAsRead(@PathVariable Long notificationId) {
+        NotificationDTO notification = notificationService.markAsRead(notificationId);
         return ResponseEntity.ok(notification);
     }
     
@@ -86,4 +90,10 @@ public class NotificationController {
         notificationService.deleteAllNotifications(profileId);
         return ResponseEntity.noContent().build();
     }
+    
+    // Notifications embed the recipient's name, so profile changes count too
+    private String etag(Integer profileId) {
+        return ETags.weak(changeCounters.version(ChangeCounters.notifications(profileId)),
+                changeCounters.version(ChangeCounters.PROFILES));
+    }
 }
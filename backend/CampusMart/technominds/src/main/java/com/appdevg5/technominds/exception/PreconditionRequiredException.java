@@ -0,0 +1,12 @@
+package com.appdevg5.technominds.exception;
+
+/**
+ * Thrown when a write to a versioned record arrives without the version the client read,
+ * so it could silently overwrite a newer edit. Mapped to 428 Precondition Required.
+ */
+public class PreconditionRequiredException extends RuntimeException {
+
+    public PreconditionRequiredException(String message) {
+        super(message);
+    }
+}
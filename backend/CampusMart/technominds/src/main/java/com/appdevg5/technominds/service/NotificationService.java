@@ -5,6 +5,8 @@ import com.appdevg5.technominds.Notification.NotificationDTO;
 import com.appdevg5.technominds.Profile.ProfileEntity;
 import com.appdevg5.technominds.repository.NotificationRepository;
 import com.appdevg5.technominds.Profile.ProfileRepository;
+import com.appdevg5.technominds.config.ChangeCounters;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +23,12 @@ public class NotificationService {
     @Autowired
     private ProfileRepository profileRepository;
     
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private ChangeCounters changeCounters;
+    
     /**
      * Create a notification for a user
      */
@@ -29,7 +37,10 @@ public class NotificationService {
             .orElseThrow(() -> new IllegalArgumentException("Profile not found with id: " + profileId));
         
         NotificationEntity notification = new NotificationEntity(profile, type, title, message, relatedId, relatedType);
-        return notificationRepository.save(notification);
+        NotificationEntity saved = notificationRepository.save(notification);
+        changeCounters.changed(ChangeCounters.notifications(profileId));
+        meterRegistry.counter("notifications.created", "type", type).increment();
+        return saved;
     }
     
     /**
@@ -72,12 +83,13 @@ public class NotificationService {
     /**
      * Mark a notification as read
      */
-    public NotificationEntity markAsRead(Long notificationId) {
+    public NotificationDTO markAsRead(Long notificationId) {
         NotificationEntity notification = notificationRepository.findById(notificationId)
             .orElseThrow(() -> new IllegalArgumentException("Notification not found with id: " + notificationId));
         
         notification.setIsRead(true);
-        return notificationRepository.save(notification);
+        changeCounters.changed(ChangeCounters.notifications(notification.getProfile().getId()));
+        return convertToDTO(notificationRepository.save(notification));
     }
     
     /**
@@ -87,12 +99,15 @@ public class NotificationService {
         List<NotificationEntity> notifications = notificationRepository.findByProfileIdAndIsReadOrderByCreatedAtDesc(profileId, false);
         notifications.forEach(n -> n.setIsRead(true));
         notificationRepository.saveAll(notifications);
+        changeCounters.changed(ChangeCounters.notifications(profileId));
     }
     
     /**
      * Delete a notification
      */
     public void deleteNotification(Long notificationId) {
+        notificationRepository.findById(notificationId).ifPresent(notification ->
+                changeCounters.changed(ChangeCounters.notifications(notification.getProfile().getId())));
         notificationRepository.deleteById(notificationId);
     }
     
@@ -102,6 +117,7 @@ public class NotificationService {
     @Transactional
     public void deleteAllNotifications(Integer profileId) {
         notificationRepository.deleteAllByProfileId(profileId);
+        changeCounters.changed(ChangeCounters.notifications(profileId));
     }
     
     /**
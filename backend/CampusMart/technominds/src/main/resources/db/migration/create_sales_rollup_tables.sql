@@ -0,0 +1,39 @@
+-- Seller sales rollups (one row per seller and day the orders were placed)
+CREATE TABLE IF NOT EXISTS seller_sales_daily (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    seller_profile_id INT NOT NULL,
+    sales_date DATE NOT NULL,
+    orders_placed INT NOT NULL DEFAULT 0,
+    orders_completed INT NOT NULL DEFAULT 0,
+    orders_cancelled INT NOT NULL DEFAULT 0,
+    revenue DECIMAL(12,2) NOT NULL DEFAULT 0,
+    updated_at DATETIME,
+    CONSTRAINT uk_seller_sales_daily UNIQUE (seller_profile_id, sales_date)
+);
+
+-- Completed sales per seller, day and product (top products ranking)
+CREATE TABLE IF NOT EXISTS seller_product_sales_daily (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    seller_profile_id INT NOT NULL,
+    sales_date DATE NOT NULL,
+    product_id INT NOT NULL,
+    units_sold INT NOT NULL DEFAULT 0,
+    revenue DECIMAL(12,2) NOT NULL DEFAULT 0,
+    updated_at DATETIME,
+    CONSTRAINT uk_seller_product_sales_daily UNIQUE (seller_profile_id, sales_date, product_id)
+);
+
+-- Order statuses already counted in the rollups, so a late event is not added twice after a rebuild
+CREATE TABLE IF NOT EXISTS sales_rollup_applied_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    order_id INT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    sales_date DATE NOT NULL,
+    applied_at DATETIME,
+    CONSTRAINT uk_sales_rollup_applied_events UNIQUE (order_id, status)
+);
+
+CREATE INDEX idx_sales_rollup_applied_events_date ON sales_rollup_applied_events(sales_date);
+
+-- The nightly rebuild groups orders by seller and placement day
+CREATE INDEX idx_orders_created_seller ON orders(created_at, seller_profile_id);
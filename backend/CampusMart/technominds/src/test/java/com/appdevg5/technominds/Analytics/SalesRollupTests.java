@@ -0,0 +1,134 @@
+package com.appdevg5.technominds.Analytics;
+
+import com.appdevg5.technominds.Order.OrderEntity;
+import com.appdevg5.technominds.Order.OrderRepository;
+import com.appdevg5.technominds.Order.OrderService;
+import com.appdevg5.technominds.Order.OrderStatusChangedEvent;
+import com.appdevg5.technominds.Product.ProductEntity;
+import com.appdevg5.technominds.Product.ProductRepository;
+import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.Profile.ProfileRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static com.appdevg5.technominds.TestProfiles.profile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Drives orders through their lifecycle and checks that the incrementally maintained
+ * rollups match a full rebuild from the orders table.
+ */
+@SpringBootTest
+class SalesRollupTests {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Test
+    void incrementalRollupsMatchReconciliation() {
+        ProfileEntity seller = profileRepository.save(profile("rollup-seller"));
+        ProfileEntity buyer = profileRepository.save(profile("rollup-buyer"));
+        ProductEntity notebook = productRepository.save(product(seller, "Notebook", "45.00"));
+        ProductEntity calculator = productRepository.save(product(seller, "Scientific Calculator", "900.00"));
+
+        Integer first = orderService.createOrder(order(buyer, seller, notebook, 2, "90.00")).getId();
+        Integer second = orderService.createOrder(order(buyer, seller, calculator, 1, "900.00")).getId();
+        Integer third = orderService.createOrder(order(buyer, seller, notebook, 1, "45.00")).getId();
+
+        complete(first);
+        complete(second);
+        orderService.updateOrderStatus(third, "cancelled");
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            SellerSalesReportDTO report = salesRollupService.getSellerReport(seller.getId(), SalesPeriod.DAY);
+            assertThat(report.getOrdersPlaced()).isEqualTo(3);
+            assertThat(report.getOrdersCompleted()).isEqualTo(2);
+            assertThat(report.getOrdersCancelled()).isEqualTo(1);
+        });
+
+        SellerSalesReportDTO incremental = salesRollupService.getSellerReport(seller.getId(), SalesPeriod.WEEK);
+        assertThat(incremental.getRevenue()).isEqualByComparingTo("990.00");
+        assertThat(incremental.getAverageOrderValue()).isEqualByComparingTo("495.00");
+        assertThat(incremental.getCancellationRate()).isEqualByComparingTo("0.3333");
+        assertThat(incremental.getTopProducts()).extracting(TopProductDTO::getProductName)
+                .containsExactly("Scientific Calculator", "Notebook");
+        assertThat(incremental.getTopProducts().get(1).getUnitsSold()).isEqualTo(2L);
+
+        salesRollupService.reconcile(LocalDate.now().minusDays(1));
+
+        SellerSalesReportDTO rebuilt = salesRollupService.getSellerReport(seller.getId(), SalesPeriod.WEEK);
+        assertThat(rebuilt.getOrdersPlaced()).isEqualTo(incremental.getOrdersPlaced());
+        assertThat(rebuilt.getOrdersCompleted()).isEqualTo(incremental.getOrdersCompleted());
+        assertThat(rebuilt.getOrdersCancelled()).isEqualTo(incremental.getOrdersCancelled());
+        assertThat(rebuilt.getRevenue()).isEqualByComparingTo(incremental.getRevenue());
+        assertThat(rebuilt.getTopProducts()).extracting(TopProductDTO::getUnitsSold)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void eventsAlreadyCountedByARebuildAreNotAddedAgain() {
+        ProfileEntity seller = profileRepository.save(profile("replay-seller"));
+        ProfileEntity buyer = profileRepository.save(profile("replay-buyer"));
+        ProductEntity ruler = productRepository.save(product(seller, "Steel Ruler", "60.00"));
+        Integer id = orderService.createOrder(order(buyer, seller, ruler, 1, "60.00")).getId();
+        complete(id);
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(salesRollupService.getSellerReport(seller.getId(), SalesPeriod.DAY).getOrdersCompleted())
+                        .isEqualTo(1));
+
+        salesRollupService.reconcile(LocalDate.now().minusDays(1));
+        // Delivered again, as if the increment had still been queued while the rebuild ran
+        OrderEntity completed = orderRepository.findWithPartiesById(id).orElseThrow();
+        salesRollupService.apply(new OrderStatusChangedEvent(completed));
+
+        SellerSalesReportDTO report = salesRollupService.getSellerReport(seller.getId(), SalesPeriod.DAY);
+        assertThat(report.getOrdersPlaced()).isEqualTo(1);
+        assertThat(report.getOrdersCompleted()).isEqualTo(1);
+        assertThat(report.getRevenue()).isEqualByComparingTo("60.00");
+    }
+
+    private void complete(Integer orderId) {
+        orderService.updateOrderStatus(orderId, "confirmed");
+        orderService.updateOrderStatus(orderId, "ready_for_pickup");
+        orderService.updateOrderStatus(orderId, "completed");
+    }
+
+    private static ProductEntity product(ProfileEntity seller, String name, String price) {
+        ProductEntity product = new ProductEntity();
+        product.setSeller(seller);
+        product.setName(name);
+        product.setDescription(name + " for sale");
+        product.setPrice(new BigDecimal(price));
+        product.setStock(10);
+        return product;
+    }
+
+    private static OrderEntity order(ProfileEntity buyer, ProfileEntity seller, ProductEntity product,
+                                     int quantity, String total) {
+        OrderEntity order = new OrderEntity();
+        order.setBuyer(buyer);
+        order.setSeller(seller);
+        order.setProduct(product);
+        order.setQuantity(quantity);
+        order.setTotalAmount(new BigDecimal(total));
+        return order;
+    }
+}
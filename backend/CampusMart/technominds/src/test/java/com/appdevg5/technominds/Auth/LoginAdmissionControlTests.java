@@ -0,0 +1,116 @@
+package com.appdevg5.technominds.Auth;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Checks that repeated bad logins are refused before hashing and that a saturated
+ * hashing pool rejects new work immediately instead of queueing it.
+ */
+@SpringBootTest
+class LoginAdmissionControlTests {
+
+    @Autowired
+    private AuthService authService;
+
+    @Test
+    void repeatedFailuresLockTheAccountBeforeHashing() {
+        authService.register(registration("throttled@cit.edu", "correct-horse"));
+        assertThat(authService.login(login("throttled@cit.edu", "correct-horse"), "10.0.0.1")).containsKey("token");
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> authService.login(login("throttled@cit.edu", "wrong-guess"), "10.0.0.2"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        // Even the right password is refused once the account is over its limit
+        assertThatThrownBy(() -> authService.login(login("Throttled@cit.edu", "correct-horse"), "10.0.0.3"))
+                .isInstanceOf(AuthThrottledException.class);
+    }
+
+    @Test
+    void oneAddressSprayingManyAccountsIsRefused() {
+        LoginThrottle throttle = new LoginThrottle(5, 3, 900, 1000);
+        throttle.recordFailure("a@cit.edu", "10.0.1.1");
+        throttle.recordFailure("b@cit.edu", "10.0.1.1");
+        throttle.recordFailure("c@cit.edu", "10.0.1.1");
+
+        assertThatThrownBy(() -> throttle.checkAllowed("d@cit.edu", "10.0.1.1"))
+                .isInstanceOf(AuthThrottledException.class);
+        throttle.checkAllowed("d@cit.edu", "10.0.1.2");
+    }
+
+    @Test
+    void saturatedHashingPoolRejectsImmediately() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger started = new AtomicInteger();
+        PasswordHashingService hashing = new PasswordHashingService(blockingEncoder(release, started), 1, 1, 10_000);
+        try {
+            // One task running, one queued: the pool and queue are now full
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hashing.encode("first"));
+            await().atMost(5, TimeUnit.SECONDS).until(() -> started.get() == 1);
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hashing.encode("second"));
+            await().atMost(5, TimeUnit.SECONDS).until(() -> hashing.getQueueDepth() == 1);
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> hashing.encode("third")).isInstanceOf(AuthThrottledException.class);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash:first");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:second");
+        } finally {
+            release.countDown();
+            hashing.shutdown();
+        }
+    }
+
+    private static PasswordEncoder blockingEncoder(CountDownLatch release, AtomicInteger started) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.incrementAndGet();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encodedPassword.equals(encode(rawPassword));
+            }
+        };
+    }
+
+    private static RegisterRequest registration(String email, String password) {
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail(email);
+        request.setPassword(password);
+        request.setFirstName("Test");
+        request.setLastName("User");
+        request.setPhoneNumber("09170000000");
+        request.setAcademicLevel("College");
+        return request;
+    }
+
+    private static LoginRequest login(String email, String password) {
+        LoginRequest request = new LoginRequest();
+        request.setEmail(email);
+        request.setPassword(password);
+        return request;
+    }
+}
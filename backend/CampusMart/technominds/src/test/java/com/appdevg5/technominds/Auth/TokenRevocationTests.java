@@ -0,0 +1,104 @@
+package com.appdevg5.technominds.Auth;
+
+import com.appdevg5.technominds.config.JwtUtil;
+import com.appdevg5.technominds.config.VerifiedToken;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks refresh token rotation and reuse detection, and that revoked access tokens
+ * are seen by this instance immediately and by another instance after an incremental sync.
+ */
+@SpringBootTest
+class TokenRevocationTests {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Test
+    void refreshRotatesAndReuseRevokesTheFamily() {
+        Map<String, Object> login = register("rotating@cit.edu");
+        String first = (String) login.get("refreshToken");
+        assertThat(login.get("expiresIn")).isEqualTo(jwtUtil.getExpirationMillis() / 1000);
+
+        Map<String, Object> refreshed = authService.refresh(first);
+        String second = (String) refreshed.get("refreshToken");
+        assertThat(second).isNotEqualTo(first);
+        assertThat(jwtUtil.verify((String) refreshed.get("token"))).isNotNull();
+
+        // Replaying the rotated token is treated as theft: the live token dies with it
+        assertThatThrownBy(() -> authService.refresh(first)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> authService.refresh(second)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void logoutRevokesAccessAndRefreshTokens() {
+        Map<String, Object> login = register("leaving@cit.edu");
+        VerifiedToken access = jwtUtil.verify((String) login.get("token"));
+        assertThat(revocationList.isRevoked(access.getTokenId())).isFalse();
+
+        authService.logout(access.getTokenId(), access.getExpiresAt(), (String) login.get("refreshToken"));
+
+        assertThat(revocationList.isRevoked(access.getTokenId())).isTrue();
+        assertThatThrownBy(() -> authService.refresh((String) login.get("refreshToken")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void otherInstancesPickUpRevocationsIncrementally() {
+        TokenRevocationList otherInstance = new TokenRevocationList(revokedTokenRepository, 1000, 0.01, 60);
+        otherInstance.rebuild();
+
+        VerifiedToken access = jwtUtil.verify(jwtUtil.generateToken(1, "synced@cit.edu", 1));
+        revocationList.revoke(access.getTokenId(), access.getExpiresAt());
+        assertThat(otherInstance.isRevoked(access.getTokenId())).isFalse();
+
+        otherInstance.syncRecent();
+        assertThat(otherInstance.isRevoked(access.getTokenId())).isTrue();
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegativesAndFewFalsePositives() {
+        TokenIdBloomFilter filter = new TokenIdBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            String tokenId = "revoked-" + i;
+            filter.put(tokenId);
+            assertThat(filter.mightContain(tokenId)).isTrue();
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    private Map<String, Object> register(String email) {
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail(email);
+        request.setPassword("long-enough-password");
+        request.setFirstName("Token");
+        request.setLastName("Holder");
+        request.setPhoneNumber("09170000000");
+        request.setAcademicLevel("College");
+        return authService.register(request);
+    }
+}
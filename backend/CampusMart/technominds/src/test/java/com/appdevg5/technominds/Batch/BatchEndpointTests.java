@@ -0,0 +1,114 @@
+package com.appdevg5.technominds.Batch;
+
+import com.appdevg5.technominds.Category.CategoryRepository;
+import com.appdevg5.technominds.Product.ProductEntity;
+import com.appdevg5.technominds.Product.ProductRepository;
+import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.Profile.ProfileRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.appdevg5.technominds.TestProfiles.profile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * POST /api/batch against a running server, since sub-requests go through the real DispatcherServlet.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:batch;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "batch.max-requests=8"
+})
+class BatchEndpointTests {
+
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void productPageIsComposedInOneCall() throws Exception {
+        ProfileEntity seller = profileRepository.save(profile("batch-seller"));
+
+        ProductEntity product = new ProductEntity();
+        product.setSeller(seller);
+        product.setCategory(categoryRepository.findById(2).orElseThrow());
+        product.setName("Batch lab gown");
+        product.setDescription("Medium, worn twice");
+        product.setPrice(new BigDecimal("300.00"));
+        product = productRepository.save(product);
+
+        HttpResponse<String> response = post(Map.of("requests", List.of(
+                Map.of("id", "product", "path", "/api/products/" + product.getId() + "?fields=id,name"),
+                Map.of("id", "seller", "path", "/api/profiles/" + seller.getId() + "/seller-info"),
+                Map.of("id", "reviews", "path", "/api/reviews/user/" + seller.getId()),
+                Map.of("id", "liked", "path", "/api/products/" + product.getId() + "/liked?profileId=" + seller.getId()),
+                Map.of("id", "offers", "path", "/api/trade-offers/product/" + product.getId()),
+                Map.of("id", "missing", "path", "/api/products/999999"),
+                Map.of("id", "nested", "path", "/api/batch"),
+                Map.of("id", "write", "method", "DELETE", "path", "/api/products/" + product.getId()))));
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        JsonNode responses = jsonMapper.readTree(response.body()).path("responses");
+        assertThat(responses.size()).isEqualTo(8);
+
+        JsonNode productEntry = responses.get(0);
+        assertThat(productEntry.path("id").asString()).isEqualTo("product");
+        assertThat(productEntry.path("status").asInt()).isEqualTo(200);
+        assertThat(productEntry.path("body").path("name").asString()).isEqualTo("Batch lab gown");
+        assertThat(productEntry.path("body").has("price")).isFalse();
+
+        assertThat(responses.get(1).path("body").path("firstName").asString()).isEqualTo("batch-seller");
+        assertThat(responses.get(2).path("status").asInt()).isEqualTo(200);
+        assertThat(responses.get(2).path("body").isArray()).isTrue();
+        assertThat(responses.get(3).path("body").asBoolean(true)).isFalse();
+        assertThat(responses.get(4).path("body").isArray()).isTrue();
+        assertThat(responses.get(5).path("status").asInt()).isEqualTo(404);
+        assertThat(responses.get(6).path("status").asInt()).isEqualTo(400);
+        assertThat(responses.get(7).path("status").asInt()).isEqualTo(405);
+        assertThat(productRepository.existsById(product.getId())).isTrue();
+    }
+
+    @Test
+    void oversizedAndEmptyBatchesAreRejected() throws Exception {
+        List<Map<String, String>> requests = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            requests.add(Map.of("path", "/api/categories"));
+        }
+        HttpResponse<String> tooMany = post(Map.of("requests", requests));
+        assertThat(tooMany.statusCode()).isEqualTo(400);
+        assertThat(jsonMapper.readTree(tooMany.body()).path("error").asString()).contains("at most 8");
+
+        assertThat(post(Map.of("requests", List.of())).statusCode()).isEqualTo(400);
+    }
+
+    private HttpResponse<String> post(Object body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(body)))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,93 @@
+package com.appdevg5.technominds.Batch;
+
+import com.appdevg5.technominds.Product.ProductService;
+import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.Profile.ProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+
+import static com.appdevg5.technominds.TestProfiles.profile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Batch sub-requests run on the batch executor, away from the request thread that
+ * ReadYourWritesFilter marked. The "replica" here shadows the products table with an empty one,
+ * like a replica that has not caught up yet, so a listing is only found if the read went to the primary.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:batch_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "datasource.replica.enabled=true",
+    "datasource.replica.url=jdbc:h2:mem:batch_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;"
+        + "SCHEMA=replica;SCHEMA_SEARCH_PATH=replica,public"
+})
+class BatchReadYourWritesTests {
+
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @BeforeEach
+    void createLaggingReplica() {
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        primary.execute("CREATE SCHEMA IF NOT EXISTS replica");
+        primary.execute("CREATE TABLE IF NOT EXISTS replica.products AS SELECT * FROM public.products WHERE 1 = 0");
+    }
+
+    @Test
+    void batchGetAfterAWriteReadsFromThePrimary() throws Exception {
+        ProfileEntity seller = profileRepository.save(profile("batch-replica-seller"));
+
+        HttpResponse<String> created = send("/api/products?sellerId=" + seller.getId(), Map.of(
+                "name", "Replica drafting table",
+                "description", "Folds flat",
+                "price", 450.00,
+                "category", Map.of("id", 2)));
+        assertThat(created.statusCode()).isEqualTo(201);
+        int productId = jsonMapper.readTree(created.body()).path("id").asInt();
+        // Read outside the request: the replica has not seen the listing
+        assertThat(productService.getProductById(productId)).isEmpty();
+
+        HttpResponse<String> batch = send("/api/batch", Map.of("requests", List.of(
+                Map.of("id", "product", "path", "/api/products/" + productId))));
+
+        assertThat(batch.statusCode()).isEqualTo(200);
+        JsonNode product = jsonMapper.readTree(batch.body()).path("responses").get(0);
+        assertThat(product.path("status").asInt()).isEqualTo(200);
+        assertThat(product.path("body").path("name").asString()).isEqualTo("Replica drafting table");
+    }
+
+    private HttpResponse<String> send(String path, Object body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(body)))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,51 @@
+package com.appdevg5.technominds.Batch;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.DispatcherServlet;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plain unit test for the batch deadline: a sub-request that misses it is reported as 504
+ * and its thread is interrupted rather than left running.
+ */
+class BatchTimeoutTests {
+
+    @Test
+    void timedOutSubRequestsAreInterrupted() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        DispatcherServlet slowServlet = new DispatcherServlet() {
+            @Override
+            public void service(ServletRequest request, ServletResponse response) {
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+            }
+        };
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+        try {
+            BatchService batchService = new BatchService(slowServlet, executor, JsonMapper.builder().build(), 20, 100);
+
+            List<BatchItemResponse> responses = batchService.execute(
+                    List.of(new BatchRequest.Item("slow", "/api/categories")), new MockHttpServletRequest());
+
+            assertThat(responses).singleElement().extracting(BatchItemResponse::getStatus).isEqualTo(504);
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.appdevg5.technominds.Category;
+
+import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.Profile.ProfileRepository;
+import com.appdevg5.technominds.config.SecondLevelCacheConfig;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that categories and profiles are served from the second-level cache,
+ * that the category list comes from the query cache, and that writes invalidate both.
+ */
+@SpringBootTest
+class SecondLevelCacheTests {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void clearStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void categoryListIsServedFromTheQueryCacheUntilACategoryChanges() {
+        CategoryEntity books = categoryService.createCategory(category("L2 Books"));
+        categoryService.getAllCategories();
+
+        statistics.clear();
+        assertThat(categoryService.getAllCategories()).extracting(CategoryEntity::getName).contains("L2 Books");
+        assertThat(categoryService.getCategoryById(books.getId())).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        CategoryEntity rename = new CategoryEntity();
+        rename.setName("L2 Textbooks");
+        categoryService.updateCategory(books.getId(), rename);
+
+        statistics.clear();
+        assertThat(categoryService.getAllCategories()).extracting(CategoryEntity::getName)
+                .contains("L2 Textbooks").doesNotContain("L2 Books");
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(1);
+
+        categoryService.deleteCategory(books.getId());
+        assertThat(categoryService.getCategoryById(books.getId())).isEmpty();
+    }
+
+    @Test
+    void profilesAreReadFromTheCacheAndRefreshedAfterAnUpdate() {
+        ProfileEntity profile = new ProfileEntity();
+        profile.setFirstName("Cached");
+        profile.setLastName("Seller");
+        profile.setEmail("cached-seller@cit.edu");
+        profile.setPhoneNumber("09170000000");
+        profile.setAcademicLevel("College");
+        profile = profileRepository.save(profile);
+        // Identity inserts are not cached, so the first read loads the row and fills the region
+        profileRepository.findById(profile.getId());
+
+        statistics.clear();
+        profileRepository.findById(profile.getId());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.PROFILES).getHitCount())
+                .isEqualTo(1);
+
+        profile.setFirstName("Renamed");
+        profileRepository.save(profile);
+        assertThat(profileRepository.findById(profile.getId()).orElseThrow().getFirstName()).isEqualTo("Renamed");
+    }
+
+    private static CategoryEntity category(String name) {
+        CategoryEntity category = new CategoryEntity();
+        category.setName(name);
+        return category;
+    }
+}
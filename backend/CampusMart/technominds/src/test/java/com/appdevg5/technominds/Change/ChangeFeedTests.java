@@ -0,0 +1,225 @@
+package com.appdevg5.technominds.Change;
+
+import com.appdevg5.technominds.Category.CategoryRepository;
+import com.appdevg5.technominds.Product.ProductEntity;
+import com.appdevg5.technominds.Product.ProductRepository;
+import com.appdevg5.technominds.Product.ProductService;
+import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.Profile.ProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.appdevg5.technominds.TestProfiles.uniqueProfile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Optimistic locking on versioned entities and the GET /api/changes feed. The feed's stable lag
+ * is turned off so writes show up immediately; that needs a context of its own, and with it its
+ * own H2 database.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:changes;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "changes.stable-lag-ms=0"
+})
+@AutoConfigureMockMvc
+class ChangeFeedTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ProfileEntity seller;
+
+    @BeforeEach
+    void createSeller() {
+        seller = profileRepository.save(uniqueProfile("feed-seller"));
+    }
+
+    @Test
+    void staleVersionIsRejectedWithConflict() throws Exception {
+        ProductEntity product = productService.createProduct(listing("Versioned calculator"));
+        String path = "/api/products/" + product.getId();
+        mockMvc.perform(get(path)).andExpect(jsonPath("$.version").value(0));
+
+        mockMvc.perform(put(path).contentType(MediaType.APPLICATION_JSON).content(update("Calculator, barely used", 0)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1));
+
+        long head = head();
+        mockMvc.perform(put(path).contentType(MediaType.APPLICATION_JSON).content(update("Calculator, lost the race", 0)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Conflict"));
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getName()).isEqualTo("Calculator, barely used");
+        // The rejected write left nothing in the feed
+        assertThat(changeLogService.feed(head, 100).getChanges()).isEmpty();
+    }
+
+    @Test
+    void editsWithoutAVersionAreRefused() throws Exception {
+        ProductEntity product = productService.createProduct(listing("Unversioned calculator"));
+        mockMvc.perform(put("/api/products/" + product.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Calculator, blind overwrite\",\"description\":\"Used for one semester\",\"price\":120.00,\"category\":{\"id\":2}}"))
+                .andExpect(status().isPreconditionRequired());
+        mockMvc.perform(put("/api/profiles/" + seller.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"firstName\":\"Blind\"}"))
+                .andExpect(status().isPreconditionRequired());
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getName()).isEqualTo("Unversioned calculator");
+        assertThat(profileRepository.findById(seller.getId()).orElseThrow().getFirstName()).isNotEqualTo("Blind");
+    }
+
+    @Test
+    void concurrentEditsOfTheSameVersionCannotBothSucceed() throws Exception {
+        String path = "/api/profiles/" + seller.getId();
+        long version = profileRepository.findById(seller.getId()).orElseThrow().getVersion();
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> edits = new ArrayList<>();
+            for (String firstName : List.of("First", "Second")) {
+                edits.add(pool.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(put(path).contentType(MediaType.APPLICATION_JSON)
+                                    .content("{\"firstName\":\"" + firstName + "\",\"version\":" + version + "}"))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            start.countDown();
+            List<Integer> statuses = new ArrayList<>();
+            for (Future<Integer> edit : edits) {
+                statuses.add(edit.get(30, TimeUnit.SECONDS));
+            }
+            assertThat(statuses).containsExactlyInAnyOrder(200, 409);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(profileRepository.findById(seller.getId()).orElseThrow().getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void bulkStockUpdateBumpsTheVersion() {
+        ProductEntity product = productService.createProduct(listing("Versioned lab gown"));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                assertThat(productRepository.decrementStock(product.getId(), 1)).isEqualTo(1));
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getVersion())
+                .isEqualTo(product.getVersion() + 1);
+    }
+
+    @Test
+    void feedListsCommittedWritesInOrderAndPages() {
+        long head = head();
+        ProductEntity product = productService.createProduct(listing("Feed drawing set"));
+        productService.toggleLike(product.getId(), seller.getId());
+        productService.deleteProduct(product.getId());
+
+        ChangeFeedDTO all = changeLogService.feed(head, 100);
+        assertThat(all.getChanges())
+                .extracting(ChangeDTO::getEntityType, ChangeDTO::getEntityId, ChangeDTO::getOperation)
+                .containsExactly(
+                        tuple(ChangeLogService.PRODUCT, product.getId(), ChangeLogService.UPSERT),
+                        tuple(ChangeLogService.PRODUCT, product.getId(), ChangeLogService.UPSERT),
+                        tuple(ChangeLogService.PRODUCT, product.getId(), ChangeLogService.DELETE));
+        assertThat(all.isMore()).isFalse();
+        assertThat(all.getNext()).isEqualTo(all.getChanges().get(2).getSeq());
+
+        // Paging: pass next back as since
+        ChangeFeedDTO first = changeLogService.feed(head, 2);
+        assertThat(first.getChanges()).hasSize(2);
+        assertThat(first.isMore()).isTrue();
+        ChangeFeedDTO rest = changeLogService.feed(first.getNext(), 2);
+        assertThat(rest.getChanges()).extracting(ChangeDTO::getOperation).containsExactly(ChangeLogService.DELETE);
+        assertThat(rest.isMore()).isFalse();
+        assertThat(changeLogService.feed(rest.getNext(), 2).getChanges()).isEmpty();
+    }
+
+    @Test
+    void writesInOneTransactionAreRecordedOnce() throws Exception {
+        long head = head();
+        ProductEntity product = new TransactionTemplate(transactionManager).execute(status -> {
+            ProductEntity created = productService.createProduct(listing("Feed T-square"));
+            productService.toggleLike(created.getId(), seller.getId());
+            return created;
+        });
+
+        mockMvc.perform(get("/api/changes").param("since", String.valueOf(head)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(1))
+                .andExpect(jsonPath("$.changes[0].entityType").value(ChangeLogService.PRODUCT))
+                .andExpect(jsonPath("$.changes[0].entityId").value(product.getId()))
+                .andExpect(jsonPath("$.more").value(false));
+    }
+
+    @Test
+    void newestChangesAreHeldBackForTheStableLag() {
+        long head = head();
+        productService.createProduct(listing("Feed protractor"));
+
+        ChangeFeedDTO lagging = new ChangeLogService(changeLogRepository, 60_000).feed(head, 100);
+        assertThat(lagging.getChanges()).isEmpty();
+        assertThat(lagging.getNext()).isEqualTo(head);
+        assertThat(lagging.isMore()).isFalse();
+    }
+
+    private long head() {
+        List<ChangeLogEntity> latest = changeLogRepository.findAll();
+        return latest.stream().mapToLong(ChangeLogEntity::getId).max().orElse(0);
+    }
+
+    private ProductEntity listing(String name) {
+        ProductEntity product = new ProductEntity();
+        product.setSeller(seller);
+        product.setCategory(categoryRepository.findById(2).orElseThrow());
+        product.setName(name);
+        product.setDescription("Used for one semester");
+        product.setPrice(new BigDecimal("120.00"));
+        return product;
+    }
+
+    private static String update(String name, long version) {
+        return "{\"name\":\"" + name + "\",\"description\":\"Used for one semester\",\"price\":120.00,"
+                + "\"category\":{\"id\":2},\"version\":" + version + "}";
+    }
+}
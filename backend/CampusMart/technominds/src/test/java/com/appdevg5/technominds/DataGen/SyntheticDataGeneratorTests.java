@@ -0,0 +1,99 @@
+package com.appdevg5.technominds.DataGen;
+
+import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.Profile.ProfileRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs a tiny load on its own H2 database: row counts, referential sanity, reproducibility
+ * for a given seed, and that the app can keep inserting after the explicit IDs.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:datagen;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+})
+class SyntheticDataGeneratorTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Test
+    void loadsConsistentReproducibleData() {
+        DataGenSettings settings = new DataGenSettings();
+        settings.setSeed(7);
+        settings.setProfiles(200);
+        settings.setProducts(1_000);
+        settings.setMessages(5_000);
+        settings.setNotifications(500);
+        settings.setOrders(800);
+        settings.setInlineImageRate(0.05);
+        settings.setInlineImageBytes(512);
+        settings.setRowsPerStatement(64);
+        settings.setThreads(3);
+
+        long profileBase = max("profiles", "profile_id");
+        long productBase = max("products", "product_id");
+        Map<String, Long> counts = new SyntheticDataGenerator(jdbcTemplate, "{noop}campusmart").generate(settings);
+
+        assertThat(counts.get("profiles")).isEqualTo(200);
+        assertThat(counts.get("users")).isEqualTo(200);
+        assertThat(counts.get("products")).isEqualTo(1_000);
+        assertThat(counts.get("product_images")).isBetween(1_000L, 3_000L);
+        assertThat(counts.get("orders")).isEqualTo(800);
+        assertThat(counts.get("messages")).isEqualTo(5_000);
+        assertThat(counts.get("notifications")).isEqualTo(500);
+        assertThat(counts.get("reviews")).isPositive().isLessThan(800);
+
+        assertThat(count("SELECT COUNT(*) FROM orders o LEFT JOIN products p ON p.product_id = o.product_id "
+                + "WHERE p.product_id IS NULL OR p.seller_profile_id <> o.seller_profile_id")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM orders WHERE buyer_profile_id = seller_profile_id")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM reviews r JOIN orders o ON o.order_id = r.order_id "
+                + "WHERE o.status <> 'completed' OR r.reviewer_id <> o.buyer_profile_id")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM messages WHERE sender_id = receiver_id")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM product_images WHERE image_url LIKE 'data:image/%'")).isPositive();
+
+        // Power-law sellers: the busiest tenth of sellers list well over a tenth of products
+        List<Long> perSeller = jdbcTemplate.queryForList("SELECT COUNT(*) FROM products WHERE product_id > ? "
+                + "GROUP BY seller_profile_id ORDER BY COUNT(*) DESC", Long.class, productBase);
+        assertThat(perSeller.subList(0, 20).stream().mapToLong(Long::longValue).sum()).isGreaterThan(300);
+
+        // Same seed again: identical rows, shifted past the first load's IDs
+        List<Long> firstSellers = sellerOffsets(productBase, profileBase);
+        long secondProfileBase = max("profiles", "profile_id");
+        long secondProductBase = max("products", "product_id");
+        new SyntheticDataGenerator(jdbcTemplate, "{noop}campusmart").generate(settings);
+        assertThat(sellerOffsets(secondProductBase, secondProfileBase)).isEqualTo(firstSellers);
+
+        ProfileEntity profile = new ProfileEntity();
+        profile.setFirstName("After");
+        profile.setLastName("Load");
+        profile.setEmail("after.load@cit.edu");
+        profile.setPhoneNumber("09170000000");
+        profile.setAcademicLevel("College");
+        assertThat(profileRepository.save(profile).getId()).isGreaterThan((int) max("profiles", "profile_id") - 1);
+    }
+
+    private List<Long> sellerOffsets(long productBase, long profileBase) {
+        return jdbcTemplate.queryForList("SELECT seller_profile_id - ? FROM products WHERE product_id > ? "
+                + "AND product_id <= ? ORDER BY product_id", Long.class, profileBase, productBase, productBase + 1_000);
+    }
+
+    private long max(String table, String column) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + column + ") FROM " + table, Long.class);
+        return max != null ? max : 0;
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
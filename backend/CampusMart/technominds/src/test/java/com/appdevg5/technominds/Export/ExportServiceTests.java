@@ -0,0 +1,128 @@
+package com.appdevg5.technominds.Export;
+
+import com.appdevg5.technominds.Order.OrderEntity;
+import com.appdevg5.technominds.Order.OrderRepository;
+import com.appdevg5.technominds.Order.OrderStatus;
+import com.appdevg5.technominds.Product.ProductEntity;
+import com.appdevg5.technominds.Product.ProductRepository;
+import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.Profile.ProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.appdevg5.technominds.TestProfiles.uniqueProfile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Exports a seller's orders in both formats and checks the streamed output.
+ */
+@SpringBootTest
+class ExportServiceTests {
+
+    private static final int ORDERS = 1200;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private ProfileEntity seller;
+
+    @BeforeEach
+    void seedOrders() {
+        seller = profileRepository.save(uniqueProfile("export-seller"));
+        ProfileEntity buyer = profileRepository.save(uniqueProfile("export-buyer"));
+
+        ProductEntity product = new ProductEntity();
+        product.setSeller(seller);
+        product.setName("Drafting Table, \"Large\"");
+        product.setDescription("Wooden");
+        product.setPrice(new BigDecimal("1500.00"));
+        product.setStock(ORDERS);
+        product = productRepository.save(product);
+
+        List<OrderEntity> orders = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            OrderEntity order = new OrderEntity();
+            order.setSeller(seller);
+            order.setBuyer(buyer);
+            order.setProduct(product);
+            order.setQuantity(1);
+            order.setTotalAmount(new BigDecimal("1500.00"));
+            order.setStatus(i % 2 == 0 ? OrderStatus.COMPLETED : OrderStatus.PENDING);
+            order.setPickupLocation("=HYPERLINK(\"x\")");
+            orders.add(order);
+        }
+        orderRepository.saveAll(orders);
+    }
+
+    @Test
+    void streamsCsvWithHeaderAndEscaping() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.export(ExportDataset.ORDERS, seller.getId(), ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(rows).isEqualTo(ORDERS);
+        assertThat(lines).hasSize(ORDERS + 1);
+        assertThat(lines[0]).startsWith("order_id,created_at,updated_at,status,");
+        assertThat(lines[1])
+                .contains(",completed,")
+                .contains(",\"Drafting Table, \"\"Large\"\"\",")
+                .contains(",1500.00,")
+                .endsWith(",\"'=HYPERLINK(\"\"x\"\")\"");
+    }
+
+    @Test
+    void streamsOneJsonObjectPerLine() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(ExportDataset.ORDERS, seller.getId(), ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(ORDERS);
+        JsonNode second = jsonMapper.readTree(lines[1]);
+        assertThat(second.get("status").asString()).isEqualTo("pending");
+        assertThat(second.get("product_name").asString()).isEqualTo("Drafting Table, \"Large\"");
+        assertThat(second.get("total_amount").decimalValue()).isEqualByComparingTo("1500.00");
+    }
+
+    @Test
+    void stopsWhenClientDisconnects() {
+        // Accepts the first chunk, then fails like a closed socket
+        OutputStream disconnecting = new OutputStream() {
+            private int written;
+
+            @Override
+            public void write(int b) throws IOException {
+                if (++written > 16 * 1024) {
+                    throw new IOException("Broken pipe");
+                }
+            }
+        };
+
+        assertThatThrownBy(() -> exportService.export(ExportDataset.ORDERS, seller.getId(), ExportFormat.CSV, disconnecting))
+                .isInstanceOf(IOException.class);
+    }
+}
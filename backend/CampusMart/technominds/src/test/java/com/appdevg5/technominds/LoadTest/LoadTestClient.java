@@ -0,0 +1,122 @@
+package com.appdevg5.technominds.LoadTest;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP calls for journey steps. Each call is timed into its step's {@link StepStats}, along with
+ * the SQL statement count the server reports in its Server-Timing header.
+ */
+class LoadTestClient {
+
+    private static final Pattern STATEMENTS = Pattern.compile("desc=\"(\\d+) statements\"");
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final String baseUrl;
+    private final Map<String, StepStats> steps = new LinkedHashMap<>();
+
+    LoadTestClient(String baseUrl, List<String> stepNames) {
+        this.baseUrl = baseUrl;
+        for (String name : stepNames) {
+            steps.put(name, new StepStats(name));
+        }
+    }
+
+    JsonNode get(String step, String path) {
+        return send(step, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET());
+    }
+
+    /**
+     * GET whose body is read but not kept, for large listings the journey does not look into.
+     *
+     * @return whether the call succeeded
+     */
+    boolean fetch(String step, String path) {
+        HttpResponse<Void> response = exchange(step, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET(),
+                HttpResponse.BodyHandlers.discarding());
+        return response != null && response.statusCode() < 400;
+    }
+
+    JsonNode post(String step, String path, Object body) {
+        return send(step, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(body))));
+    }
+
+    JsonNode patch(String step, String path, Object body) {
+        return send(step, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(body))));
+    }
+
+    Map<String, StepStats> getSteps() {
+        return steps;
+    }
+
+    void reset() {
+        steps.values().forEach(StepStats::reset);
+    }
+
+    /**
+     * @return the parsed body, or null if the call failed (non-2xx status or I/O error)
+     */
+    private JsonNode send(String step, HttpRequest.Builder request) {
+        HttpResponse<String> response = exchange(step, request, HttpResponse.BodyHandlers.ofString());
+        if (response == null || response.statusCode() >= 400 || response.body().isEmpty()) {
+            return null;
+        }
+        return parse(response.body());
+    }
+
+    private <T> HttpResponse<T> exchange(String step, HttpRequest.Builder request, HttpResponse.BodyHandler<T> body) {
+        StepStats stats = steps.get(step);
+        if (stats == null) {
+            throw new IllegalArgumentException("Unknown journey step: " + step);
+        }
+        long started = System.nanoTime();
+        try {
+            HttpResponse<T> response = httpClient.send(request.timeout(Duration.ofSeconds(30)).build(), body);
+            stats.record(System.nanoTime() - started, response.statusCode() >= 400, statementCount(response));
+            return response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stats.record(System.nanoTime() - started, true, -1);
+            return null;
+        } catch (IOException e) {
+            stats.record(System.nanoTime() - started, true, -1);
+            return null;
+        }
+    }
+
+    private JsonNode parse(String body) {
+        try {
+            return jsonMapper.readTree(body);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static int statementCount(HttpResponse<?> response) {
+        return response.headers().firstValue("Server-Timing")
+                .map(STATEMENTS::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> Integer.parseInt(matcher.group(1)))
+                .orElse(-1);
+    }
+}
@@ -0,0 +1,188 @@
+package com.appdevg5.technominds.LoadTest;
+
+import com.appdevg5.technominds.DataGen.DataGenSettings;
+import com.appdevg5.technominds.DataGen.SyntheticDataGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.JsonNode;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test: boots the whole app on a random port against an embedded H2 database
+ * (MySQL mode), fills it with synthetic data and drives buyer journeys over HTTP through the real
+ * controllers on an open arrival model. Reports latency percentiles, error rates and SQL statement
+ * counts per journey step.
+ *
+ * Excluded from the normal build. Run with
+ *
+ *   mvn -P loadtest test -Dloadtest.rate=20 -Dloadtest.duration-seconds=120
+ *
+ * Tunables (system properties): loadtest.rate (journeys/s), loadtest.duration-seconds,
+ * loadtest.warmup-seconds, loadtest.max-in-flight, loadtest.max-error-rate, loadtest.seed and the
+ * dataset size: loadtest.profiles, loadtest.products, loadtest.messages, loadtest.notifications, loadtest.orders.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "spring.datasource.hikari.maximum-pool-size=20",
+    "logging.level.com.appdevg5.technominds=WARN"
+})
+class MarketplaceJourneyLoadTests {
+
+    private static final List<String> STEPS = List.of("browse", "search", "view-product", "message-seller",
+            "place-order", "seller-updates-order", "poll-notifications", "leave-review");
+    private static final String[] SEARCH_TERMS = {
+        "calculator", "uniform", "textbook", "charger", "backpack", "lamp", "headphones", "reviewer"
+    };
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final StepStats journeys = new StepStats("whole journey");
+    private LoadTestClient client;
+    private int firstProfileId;
+    private int lastProfileId;
+
+    @Test
+    void buyerJourneysUnderOpenModelLoad() throws InterruptedException {
+        long seed = Long.getLong("loadtest.seed", 42);
+        seedDatabase(seed);
+        client = new LoadTestClient("http://localhost:" + port, STEPS);
+
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "2"));
+        int maxInFlight = Integer.getInteger("loadtest.max-in-flight", 50);
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 15));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60));
+
+        new OpenModelDriver(rate, maxInFlight, seed).run(warmup, this::journey);
+        client.reset();
+        journeys.reset();
+
+        OpenModelDriver driver = new OpenModelDriver(rate, maxInFlight, seed + 1);
+        driver.run(duration, this::journey);
+        report(rate, duration, driver);
+
+        double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+        assertThat(journeys.getCount()).isPositive();
+        for (StepStats step : client.getSteps().values()) {
+            assertThat(step.getErrorRate()).as("error rate of " + step.getName()).isLessThanOrEqualTo(maxErrorRate);
+        }
+    }
+
+    /**
+     * Browse, search, open a listing, ask the seller about it, buy it, let the seller take the order
+     * through to pickup, check notifications and review the seller. A failed step ends the journey.
+     */
+    private void journey(long scheduledNanos, SplittableRandom random) {
+        try {
+            client.fetch("browse", "/api/products");
+
+            String term = SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)];
+            JsonNode results = client.get("search", "/api/products/search?term=" + term);
+            if (results == null || results.isEmpty()) {
+                return;
+            }
+            int productId = results.get(random.nextInt(results.size())).path("id").asInt();
+
+            JsonNode product = client.get("view-product", "/api/products/" + productId);
+            if (product == null) {
+                return;
+            }
+            int sellerId = product.path("seller").path("id").asInt();
+            int buyerId = buyerOtherThan(sellerId, random);
+
+            if (client.post("message-seller", "/api/messages", Map.of(
+                    "sender", Map.of("id", buyerId),
+                    "receiver", Map.of("id", sellerId),
+                    "product", Map.of("id", productId),
+                    "content", "Hi, is this still available?")) == null) {
+                return;
+            }
+
+            JsonNode order = client.post("place-order", "/api/orders", Map.of(
+                    "buyer", Map.of("id", buyerId),
+                    "seller", Map.of("id", sellerId),
+                    "product", Map.of("id", productId),
+                    "quantity", 1,
+                    "totalAmount", product.path("price").asDouble(),
+                    "paymentMethod", "Cash",
+                    "pickupLocation", "Main Library"));
+            if (order == null) {
+                return;
+            }
+            int orderId = order.path("id").asInt();
+
+            for (String status : List.of("confirmed", "ready_for_pickup", "completed")) {
+                if (client.patch("seller-updates-order", "/api/orders/" + orderId + "/status",
+                        Map.of("status", status)) == null) {
+                    return;
+                }
+            }
+
+            client.get("poll-notifications", "/api/notifications/profile/" + sellerId + "/unread/count");
+            client.get("poll-notifications", "/api/notifications/profile/" + buyerId);
+
+            client.post("leave-review", "/api/reviews", Map.of(
+                    "reviewer", Map.of("id", buyerId),
+                    "seller", Map.of("id", sellerId),
+                    "product", Map.of("id", productId),
+                    "order", Map.of("id", orderId),
+                    "rating", 4 + random.nextInt(2),
+                    "comment", "Smooth meetup, thanks!"));
+        } finally {
+            // Measured from the scheduled arrival, so time spent queued behind slow journeys counts
+            journeys.record(System.nanoTime() - scheduledNanos, false, -1);
+        }
+    }
+
+    private void seedDatabase(long seed) {
+        firstProfileId = maxProfileId() + 1;
+        DataGenSettings settings = new DataGenSettings();
+        settings.setSeed(seed);
+        settings.setProfiles(Integer.getInteger("loadtest.profiles", 300));
+        settings.setProducts(Integer.getInteger("loadtest.products", 1_000));
+        settings.setMessages(Long.getLong("loadtest.messages", 10_000));
+        settings.setNotifications(Long.getLong("loadtest.notifications", 2_000));
+        settings.setOrders(Integer.getInteger("loadtest.orders", 1_000));
+        new SyntheticDataGenerator(jdbcTemplate, "{noop}campusmart").generate(settings);
+        lastProfileId = maxProfileId();
+
+        // Journeys keep buying the popular listings; keep them in stock so the test measures
+        // the order path rather than "Insufficient stock" rejections
+        jdbcTemplate.update("UPDATE products SET stock = 1000000, is_available = TRUE");
+    }
+
+    private int buyerOtherThan(int sellerId, SplittableRandom random) {
+        int buyerId = firstProfileId + random.nextInt(lastProfileId - firstProfileId + 1);
+        return buyerId != sellerId ? buyerId : (buyerId == lastProfileId ? firstProfileId : buyerId + 1);
+    }
+
+    private int maxProfileId() {
+        Integer max = jdbcTemplate.queryForObject("SELECT MAX(profile_id) FROM profiles", Integer.class);
+        return max != null ? max : 0;
+    }
+
+    private void report(double rate, Duration duration, OpenModelDriver driver) {
+        StringBuilder report = new StringBuilder()
+                .append("\n[LoadTest] ").append(rate).append(" journeys/s for ").append(duration.toSeconds())
+                .append("s: ").append(driver.getStarted()).append(" started, ")
+                .append(driver.getDropped()).append(" dropped (max in flight reached)\n")
+                .append(StepStats.header()).append('\n');
+        client.getSteps().values().forEach(step -> report.append(step.row()).append('\n'));
+        report.append(journeys.row()).append('\n');
+        System.out.println(report);
+    }
+}
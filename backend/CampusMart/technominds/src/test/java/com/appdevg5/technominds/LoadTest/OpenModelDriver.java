@@ -0,0 +1,96 @@
+package com.appdevg5.technominds.LoadTest;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Starts journeys on an open model: arrivals follow a Poisson process at a fixed rate whether or not
+ * earlier journeys have finished, the way real users show up. A slow server therefore builds a queue
+ * (and its latency shows it) instead of quietly lowering the offered load, as closed loops do.
+ *
+ * Journeys get their scheduled arrival time, so they can measure from when the user "clicked"
+ * rather than from when a worker got round to it. Arrivals beyond maxInFlight are counted as dropped.
+ */
+class OpenModelDriver {
+
+    interface Journey {
+        void run(long scheduledNanos, SplittableRandom random);
+    }
+
+    private final double arrivalsPerSecond;
+    private final int maxInFlight;
+    private final SplittableRandom arrivals;
+    private final AtomicInteger journeyIds = new AtomicInteger();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    OpenModelDriver(double arrivalsPerSecond, int maxInFlight, long seed) {
+        if (arrivalsPerSecond <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive");
+        }
+        this.arrivalsPerSecond = arrivalsPerSecond;
+        this.maxInFlight = maxInFlight;
+        this.arrivals = new SplittableRandom(seed);
+    }
+
+    /**
+     * Offers load for the given duration, then waits (up to a minute) for journeys in flight to finish.
+     */
+    void run(Duration duration, Journey journey) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        ExecutorService workers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "journey-" + journeyIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            long start = System.nanoTime();
+            long end = start + duration.toNanos();
+            long next = start;
+            while (true) {
+                // Exponential inter-arrival times give a Poisson arrival process
+                next += (long) (-Math.log(1 - arrivals.nextDouble()) / arrivalsPerSecond * 1_000_000_000L);
+                if (next >= end) {
+                    break;
+                }
+                long wait;
+                while ((wait = next - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (!inFlight.tryAcquire()) {
+                    dropped.increment();
+                    continue;
+                }
+                long scheduled = next;
+                SplittableRandom random = arrivals.split();
+                started.increment();
+                workers.execute(() -> {
+                    try {
+                        journey.run(scheduled, random);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            workers.shutdown();
+            workers.awaitTermination(1, TimeUnit.MINUTES);
+            workers.shutdownNow();
+        }
+    }
+
+    long getStarted() {
+        return started.sum();
+    }
+
+    long getDropped() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,81 @@
+package com.appdevg5.technominds.LoadTest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency, error and SQL statement figures for one journey step, safe to record from many threads.
+ * Latencies are kept in microseconds with three significant digits.
+ */
+class StepStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final String name;
+    private final Histogram latencyMicros = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final Histogram statements = new ConcurrentHistogram(100_000, 3);
+    private final LongAdder errors = new LongAdder();
+
+    StepStats(String name) {
+        this.name = name;
+    }
+
+    void record(long latencyNanos, boolean failed, int statementCount) {
+        latencyMicros.recordValue(Math.min(MAX_LATENCY_MICROS, Math.max(0, latencyNanos / 1000)));
+        if (failed) {
+            errors.increment();
+        }
+        if (statementCount >= 0) {
+            statements.recordValue(Math.min(100_000, statementCount));
+        }
+    }
+
+    void reset() {
+        latencyMicros.reset();
+        statements.reset();
+        errors.reset();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    long getCount() {
+        return latencyMicros.getTotalCount();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    double getErrorRate() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) getErrors() / count;
+    }
+
+    /**
+     * @param percentile e.g. 99.9
+     */
+    double getLatencyMillis(double percentile) {
+        return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    static String header() {
+        return String.format(Locale.ROOT, "%-22s %8s %7s %9s %9s %9s %9s %9s %7s %7s %7s",
+                "step", "count", "err%", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms",
+                "sql avg", "sql p99", "sql max");
+    }
+
+    String row() {
+        return String.format(Locale.ROOT, "%-22s %8d %6.2f%% %9.1f %9.1f %9.1f %9.1f %9.1f %7.1f %7d %7d",
+                name, getCount(), getErrorRate() * 100,
+                getLatencyMillis(50), getLatencyMillis(90), getLatencyMillis(99), getLatencyMillis(99.9),
+                latencyMicros.getMaxValue() / 1000.0,
+                statements.getTotalCount() == 0 ? 0 : statements.getMean(),
+                statements.getValueAtPercentile(99), statements.getMaxValue());
+    }
+}
@@ -0,0 +1,112 @@
+package com.appdevg5.technominds.Order;
+
+import com.appdevg5.technominds.Product.ProductEntity;
+import com.appdevg5.technominds.Product.ProductRepository;
+import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.Profile.ProfileRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.appdevg5.technominds.TestProfiles.profile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hammers a single limited-stock product from many threads and verifies that
+ * checkout never sells more units than were in stock.
+ */
+@SpringBootTest
+class OrderCheckoutConcurrencyTests {
+
+    private static final int STOCK = 5;
+    private static final int BUYERS = 16;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Test
+    void concurrentCheckoutsNeverOversell() throws Exception {
+        ProfileEntity seller = profileRepository.save(profile("seller"));
+        List<ProfileEntity> buyers = new ArrayList<>();
+        for (int i = 0; i < BUYERS; i++) {
+            buyers.add(profileRepository.save(profile("buyer" + i)));
+        }
+
+        ProductEntity product = new ProductEntity();
+        product.setSeller(seller);
+        product.setName("Calculus Textbook");
+        product.setDescription("Buyback drop");
+        product.setPrice(new BigDecimal("250.00"));
+        product.setStock(STOCK);
+        product = productRepository.save(product);
+        Integer productId = product.getId();
+
+        ExecutorService pool = Executors.newFixedThreadPool(BUYERS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (ProfileEntity buyer : buyers) {
+            futures.add(pool.submit(() -> {
+                startGate.await();
+                try {
+                    orderService.createOrder(order(buyer, seller, productId));
+                    succeeded.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        ProductEntity reloaded = productRepository.findById(productId).orElseThrow();
+        assertThat(succeeded.get()).isEqualTo(STOCK);
+        assertThat(rejected.get()).isEqualTo(BUYERS - STOCK);
+        assertThat(reloaded.getStock()).isZero();
+        assertThat(reloaded.getIsAvailable()).isFalse();
+        assertThat(orderRepository.findByProduct_Id(productId)).hasSize(STOCK);
+    }
+
+    private static OrderEntity order(ProfileEntity buyer, ProfileEntity seller, Integer productId) {
+        ProfileEntity buyerRef = new ProfileEntity();
+        buyerRef.setId(buyer.getId());
+        ProfileEntity sellerRef = new ProfileEntity();
+        sellerRef.setId(seller.getId());
+        ProductEntity productRef = new ProductEntity();
+        productRef.setId(productId);
+
+        OrderEntity order = new OrderEntity();
+        order.setBuyer(buyerRef);
+        order.setSeller(sellerRef);
+        order.setProduct(productRef);
+        order.setQuantity(1);
+        order.setTotalAmount(new BigDecimal("250.00"));
+        return order;
+    }
+}
@@ -0,0 +1,130 @@
+package com.appdevg5.technominds.Order;
+
+import com.appdevg5.technominds.Category.CategoryEntity;
+import com.appdevg5.technominds.Category.CategoryRepository;
+import com.appdevg5.technominds.Product.ProductEntity;
+import com.appdevg5.technominds.Product.ProductRepository;
+import com.appdevg5.technominds.ProductImage.ProductImageEntity;
+import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.Profile.ProfileRepository;
+import com.appdevg5.technominds.Review.ReviewEntity;
+import com.appdevg5.technominds.Review.ReviewRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.appdevg5.technominds.TestProfiles.profile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the order detail views against N+1 regressions: however many orders a
+ * seller has, the detail list must be served by exactly one SQL statement.
+ */
+@SpringBootTest
+class OrderDetailQueryCountTests {
+
+    private static final int ORDERS = 12;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void detailedOrdersBySellerUseASingleStatement() {
+        ProfileEntity seller = profileRepository.save(profile("query-seller"));
+        ProfileEntity buyer = profileRepository.save(profile("query-buyer"));
+        CategoryEntity category = categoryRepository.findById(2).orElseThrow();
+        Integer twiceReviewedOrderId = null;
+        Integer newestReviewId = null;
+
+        for (int i = 0; i < ORDERS; i++) {
+            ProductEntity product = new ProductEntity();
+            product.setSeller(seller);
+            product.setCategory(category);
+            product.setName("Reviewer " + i);
+            product.setDescription("Board exam reviewer");
+            product.setPrice(new BigDecimal("120.00"));
+            ProductImageEntity image = new ProductImageEntity();
+            image.setImageUrl("data:image/png;base64,img" + i);
+            product.addImage(image);
+            product = productRepository.save(product);
+
+            OrderEntity order = new OrderEntity();
+            order.setBuyer(buyer);
+            order.setSeller(seller);
+            order.setProduct(product);
+            order.setTotalAmount(new BigDecimal("120.00"));
+            order.setStatus(OrderStatus.COMPLETED);
+            order = orderRepository.save(order);
+
+            if (i % 2 == 0) {
+                review(buyer, seller, product, order);
+            }
+            if (i == 0) {
+                // reviews.order_id is not unique; a second review must not repeat the order
+                twiceReviewedOrderId = order.getId();
+                newestReviewId = review(buyer, seller, product, order).getId();
+            }
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<OrderDetailDTO> orders = orderService.getDetailedOrdersBySeller(seller.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(orders).hasSize(ORDERS);
+        assertThat(orders).filteredOn(OrderDetailDTO::isHasReview).hasSize(ORDERS / 2)
+                .allSatisfy(dto -> assertThat(dto.getReviewId()).isNotNull());
+        assertThat(orders).extracting(OrderDetailDTO::getOrderId).doesNotHaveDuplicates();
+        Integer reviewedTwice = twiceReviewedOrderId;
+        assertThat(orders).filteredOn(dto -> dto.getOrderId().equals(reviewedTwice))
+                .singleElement().extracting(OrderDetailDTO::getReviewId).isEqualTo(newestReviewId);
+        assertThat(orders).allSatisfy(dto -> {
+            assertThat(dto.getProductCategory()).isEqualTo("Books");
+            assertThat(dto.getProductImage()).startsWith("data:image/png;base64,img");
+            assertThat(dto.getBuyerEmail()).isEqualTo("query-buyer@cit.edu");
+            assertThat(dto.getSellerProfileId()).isEqualTo(seller.getId());
+        });
+
+        statistics.clear();
+        List<OrderDetailDTO> firstPage = orderService.getDetailedOrdersByBuyer(buyer.getId(), PageRequest.of(0, 5));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(firstPage).hasSize(5);
+    }
+
+    private ReviewEntity review(ProfileEntity buyer, ProfileEntity seller, ProductEntity product, OrderEntity order) {
+        ReviewEntity review = new ReviewEntity();
+        review.setReviewer(buyer);
+        review.setSeller(seller);
+        review.setProduct(product);
+        review.setOrder(order);
+        review.setRating(5);
+        return reviewRepository.save(review);
+    }
+}
@@ -0,0 +1,152 @@
+package com.appdevg5.technominds.Order;
+
+import com.appdevg5.technominds.Product.ProductEntity;
+import com.appdevg5.technominds.Product.ProductRepository;
+import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.Profile.ProfileRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.appdevg5.technominds.TestProfiles.profile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies the order state machine: illegal transitions are rejected and
+ * racing seller/buyer actions on the same order never overwrite each other.
+ */
+@SpringBootTest
+class OrderStatusTransitionTests {
+
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Test
+    void followsLifecycleAndRejectsIllegalTransitions() {
+        OrderEntity order = newOrder("lifecycle");
+        Integer id = order.getId();
+
+        assertThatThrownBy(() -> orderService.updateOrderStatus(id, "completed"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> orderService.updateOrderStatus(id, "shipped"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(orderService.updateOrderStatus(id, "confirmed")).isPresent();
+        // Repeating the current status is a no-op rather than a conflict
+        assertThat(orderService.updateOrderStatus(id, "confirmed")).isPresent();
+        assertThat(orderService.updateOrderStatus(id, "ready_for_pickup")).isPresent();
+        assertThat(orderService.updateOrderStatus(id, "completed")).isPresent();
+
+        assertThatThrownBy(() -> orderService.updateOrderStatus(id, "cancelled"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(orderRepository.findStatusById(id)).contains(OrderStatus.COMPLETED);
+        assertThat(orderService.updateOrderStatus(-1, "confirmed")).isEmpty();
+    }
+
+    @Test
+    void cancellingReturnsTheReservedStockOnce() {
+        OrderEntity placed = newOrder("restock");
+        ProductEntity product = placed.getProduct();
+        OrderEntity order = new OrderEntity();
+        order.setSeller(placed.getSeller());
+        order.setBuyer(placed.getBuyer());
+        order.setProduct(product);
+        order.setQuantity(1);
+        order.setTotalAmount(new BigDecimal("350.00"));
+        Integer id = orderService.createOrder(order).getId();
+
+        ProductEntity reserved = productRepository.findById(product.getId()).orElseThrow();
+        assertThat(reserved.getStock()).isZero();
+        assertThat(reserved.getIsAvailable()).isFalse();
+
+        orderService.updateOrderStatus(id, "cancelled");
+        // Repeating the cancel is a no-op and must not restock again
+        orderService.updateOrderStatus(id, "cancelled");
+
+        ProductEntity restocked = productRepository.findById(product.getId()).orElseThrow();
+        assertThat(restocked.getStock()).isEqualTo(1);
+        assertThat(restocked.getIsAvailable()).isTrue();
+    }
+
+    @Test
+    void concurrentConfirmAndCancelNeverConfirmACancelledOrder() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                Integer id = newOrder("race" + round).getId();
+                CountDownLatch startGate = new CountDownLatch(1);
+
+                Future<Boolean> confirm = pool.submit(attempt(startGate, id, "confirmed"));
+                Future<Boolean> cancel = pool.submit(attempt(startGate, id, "cancelled"));
+                startGate.countDown();
+
+                boolean confirmed = confirm.get(30, TimeUnit.SECONDS);
+                boolean cancelled = cancel.get(30, TimeUnit.SECONDS);
+                OrderStatus finalStatus = orderRepository.findStatusById(id).orElseThrow();
+
+                // Cancel may legitimately follow a confirm, but a cancelled order can never be confirmed
+                assertThat(cancelled || confirmed).isTrue();
+                if (confirmed && !cancelled) {
+                    assertThat(finalStatus).isEqualTo(OrderStatus.CONFIRMED);
+                } else {
+                    assertThat(finalStatus).isEqualTo(OrderStatus.CANCELLED);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private Callable<Boolean> attempt(CountDownLatch startGate, Integer id, String status) {
+        return () -> {
+            startGate.await();
+            try {
+                orderService.updateOrderStatus(id, status);
+                return true;
+            } catch (IllegalStateException e) {
+                return false;
+            }
+        };
+    }
+
+    private OrderEntity newOrder(String tag) {
+        List<ProfileEntity> parties = profileRepository.saveAll(List.of(profile(tag + "-seller"), profile(tag + "-buyer")));
+
+        ProductEntity product = new ProductEntity();
+        product.setSeller(parties.get(0));
+        product.setName("Lab Gown " + tag);
+        product.setDescription("Size M");
+        product.setPrice(new BigDecimal("350.00"));
+        product.setStock(1);
+        product = productRepository.save(product);
+
+        OrderEntity order = new OrderEntity();
+        order.setSeller(parties.get(0));
+        order.setBuyer(parties.get(1));
+        order.setProduct(product);
+        order.setQuantity(1);
+        order.setTotalAmount(new BigDecimal("350.00"));
+        return orderRepository.save(order);
+    }
+}
@@ -0,0 +1,114 @@
+package com.appdevg5.technominds.Profile;
+
+import com.appdevg5.technominds.Category.CategoryRepository;
+import com.appdevg5.technominds.Product.ProductEntity;
+import com.appdevg5.technominds.Product.ProductRepository;
+import com.appdevg5.technominds.Review.ReviewService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static com.appdevg5.technominds.TestProfiles.profile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /api/profiles/{id}/storefront, and how it copes with a part that is too slow.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class StorefrontTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    @Qualifier("batchExecutor")
+    private AsyncTaskExecutor executor;
+
+    @Test
+    void storefrontHasEveryPartOfTheSellerPage() throws Exception {
+        ProfileEntity seller = profileRepository.save(profile("storefront-seller"));
+        ProductEntity older = productRepository.save(product(seller, "Storefront rice cooker", true));
+        productRepository.save(product(seller, "Storefront desk fan", false));
+        ProductEntity newer = productRepository.save(product(seller, "Storefront kettle", true));
+
+        mockMvc.perform(get("/api/profiles/" + seller.getId() + "/storefront"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.profile.firstName").value("storefront-seller"))
+                .andExpect(jsonPath("$.totalListings").value(3))
+                .andExpect(jsonPath("$.availableListings").value(2))
+                .andExpect(jsonPath("$.listings.length()").value(2))
+                .andExpect(jsonPath("$.listings[0].id").value(newer.getId()))
+                .andExpect(jsonPath("$.listings[1].id").value(older.getId()))
+                .andExpect(jsonPath("$.listings[0].seller.lastName").value("Tester"))
+                .andExpect(jsonPath("$.reviewSummary.sellerId").value(seller.getId()))
+                .andExpect(jsonPath("$.unavailableParts").isEmpty());
+
+        mockMvc.perform(get("/api/profiles/" + seller.getId() + "/storefront").param("listings", "1"))
+                .andExpect(jsonPath("$.listings.length()").value(1));
+
+        mockMvc.perform(get("/api/profiles/" + seller.getId() + "/seller-info"))
+                .andExpect(jsonPath("$.totalListings").value(3))
+                .andExpect(jsonPath("$.availableListings").value(2));
+
+        mockMvc.perform(get("/api/profiles/999999/storefront"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void slowPartIsLeftOutInsteadOfHoldingUpThePage() {
+        ProfileEntity seller = profileRepository.save(profile("storefront-slow"));
+        productRepository.save(product(seller, "Storefront slow lamp", true));
+
+        ReviewService slowReviews = mock(ReviewService.class);
+        when(slowReviews.getSellerReviewSummary(anyInt())).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return Optional.empty();
+        });
+        StorefrontService storefrontService =
+                new StorefrontService(profileRepository, productRepository, slowReviews, executor, 1_000);
+
+        long started = System.nanoTime();
+        StorefrontDTO storefront = storefrontService.getStorefront(seller.getId(), 12).orElseThrow();
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertThat(storefront.getProfile().getFirstName()).isEqualTo("storefront-slow");
+        assertThat(storefront.getListings()).hasSize(1);
+        assertThat(storefront.getReviewSummary()).isNull();
+        assertThat(storefront.getUnavailableParts()).containsExactly(StorefrontService.REVIEW_SUMMARY);
+        assertThat(elapsedMillis).isLessThan(3_000);
+    }
+
+    private ProductEntity product(ProfileEntity seller, String name, boolean available) {
+        ProductEntity product = new ProductEntity();
+        product.setSeller(seller);
+        product.setCategory(categoryRepository.findById(2).orElseThrow());
+        product.setName(name);
+        product.setDescription(name + ", lightly used");
+        product.setPrice(new BigDecimal("450.00"));
+        product.setIsAvailable(available);
+        return product;
+    }
+}
@@ -0,0 +1,80 @@
+package com.appdevg5.technominds.Review;
+
+import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.Profile.ProfileRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static com.appdevg5.technominds.TestProfiles.profile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the seller review summary: histogram counts, a cache hit costing no SQL,
+ * and eviction after review writes.
+ */
+@SpringBootTest
+class ReviewSummaryCacheTests {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void summaryIsCachedAndEvictedOnReviewWrites() {
+        ProfileEntity seller = profileRepository.save(profile("summary-seller"));
+        ProfileEntity buyer = profileRepository.save(profile("summary-buyer"));
+        reviewService.createReviewWithValidation(review(buyer, seller, 5));
+        ReviewEntity four = reviewService.createReviewWithValidation(review(buyer, seller, 4));
+        reviewService.createReviewWithValidation(review(buyer, seller, 5));
+
+        ReviewSummaryDTO summary = reviewService.getSellerReviewSummary(seller.getId()).orElseThrow();
+        assertThat(summary.getTotalReviews()).isEqualTo(3);
+        assertThat(summary.getRatingCounts()).containsExactly(
+                entry(5, 2), entry(4, 1), entry(3, 0), entry(2, 0), entry(1, 0));
+        assertThat(summary.getLatestReviews()).hasSize(3);
+        assertThat(summary.getLatestReviews().get(0).getReviewerFirstName()).isEqualTo("summary-buyer");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        reviewService.getSellerReviewSummary(seller.getId());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        ReviewEntity edit = new ReviewEntity();
+        edit.setRating(1);
+        edit.setComment("Item broke");
+        reviewService.updateReview(four.getId(), edit);
+
+        ReviewSummaryDTO refreshed = reviewService.getSellerReviewSummary(seller.getId()).orElseThrow();
+        assertThat(refreshed.getRatingCounts()).containsExactly(
+                entry(5, 2), entry(4, 0), entry(3, 0), entry(2, 0), entry(1, 1));
+        assertThat(refreshed.getAverageRating()).isEqualByComparingTo("3.67");
+        assertThat(refreshed.getLatestReviews()).extracting(ReviewDetailDTO::getComment).contains("Item broke");
+    }
+
+    @Test
+    void unknownSellerHasNoSummary() {
+        assertThat(reviewService.getSellerReviewSummary(-1)).isEmpty();
+    }
+
+    private static java.util.Map.Entry<Integer, Integer> entry(int stars, int count) {
+        return java.util.Map.entry(stars, count);
+    }
+
+    private static ReviewEntity review(ProfileEntity reviewer, ProfileEntity seller, int rating) {
+        ReviewEntity review = new ReviewEntity();
+        review.setReviewer(reviewer);
+        review.setSeller(seller);
+        review.setRating(rating);
+        review.setComment("Rated " + rating);
+        return review;
+    }
+}
@@ -0,0 +1,147 @@
+package com.appdevg5.technominds.Review;
+
+import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.Profile.ProfileRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.appdevg5.technominds.TestProfiles.profile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that seller rating aggregates follow review creates, edits and deletes,
+ * survive concurrent reviews, and are restored by the reconciliation job.
+ */
+@SpringBootTest
+class SellerRatingAggregationTests {
+
+    private static final int CONCURRENT_REVIEWS = 20;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Test
+    void aggregatesFollowCreateUpdateAndDelete() {
+        ProfileEntity seller = profileRepository.save(profile("rated-seller"));
+        ProfileEntity buyer = profileRepository.save(profile("rating-buyer"));
+
+        ReviewEntity five = reviewService.createReviewWithValidation(review(buyer, seller, 5));
+        ReviewEntity four = reviewService.createReviewWithValidation(review(buyer, seller, 4));
+        ReviewEntity three = reviewService.createReviewWithValidation(review(buyer, seller, 3));
+        assertRating(seller, 3, 12L, "4.00");
+
+        ReviewEntity edit = new ReviewEntity();
+        edit.setRating(5);
+        edit.setComment("Changed my mind");
+        reviewService.updateReview(three.getId(), edit);
+        assertRating(seller, 3, 14L, "4.67");
+        ProfileEntity histogram = profileRepository.findById(seller.getId()).orElseThrow();
+        assertThat(histogram.getRating5Count()).isEqualTo(2);
+        assertThat(histogram.getRating4Count()).isEqualTo(1);
+        assertThat(histogram.getRating3Count()).isZero();
+
+        reviewService.deleteReview(four.getId());
+        assertRating(seller, 2, 10L, "5.00");
+
+        reviewService.deleteReview(five.getId());
+        reviewService.deleteReview(three.getId());
+        assertRating(seller, 0, 0L, "0.00");
+    }
+
+    @Test
+    void ratingsOutsideOneToFiveAreRejectedBeforeTouchingAggregates() {
+        ProfileEntity seller = profileRepository.save(profile("strict-seller"));
+        ProfileEntity buyer = profileRepository.save(profile("strict-buyer"));
+        ReviewEntity four = reviewService.createReviewWithValidation(review(buyer, seller, 4));
+
+        assertThatThrownBy(() -> reviewService.createReviewWithValidation(review(buyer, seller, 0)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reviewService.createReview(review(buyer, seller, 6)))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        ReviewEntity noRating = new ReviewEntity();
+        noRating.setComment("Forgot the stars");
+        assertThatThrownBy(() -> reviewService.updateReview(four.getId(), noRating))
+            .isInstanceOf(IllegalArgumentException.class);
+        ReviewEntity tooHigh = new ReviewEntity();
+        tooHigh.setRating(9);
+        assertThatThrownBy(() -> reviewService.updateReview(four.getId(), tooHigh))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        assertRating(seller, 1, 4L, "4.00");
+        assertThat(reviewService.getReviewById(four.getId()).orElseThrow().getRating()).isEqualTo(4);
+    }
+
+    @Test
+    void concurrentReviewsAreAllCounted() throws Exception {
+        ProfileEntity seller = profileRepository.save(profile("busy-seller"));
+        ProfileEntity buyer = profileRepository.save(profile("busy-buyer"));
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REVIEWS; i++) {
+            int rating = i % 5 + 1;
+            futures.add(pool.submit(() -> {
+                startGate.await();
+                reviewService.createReviewWithValidation(review(buyer, seller, rating));
+                return null;
+            }));
+        }
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        // Ratings 1..5 four times each: sum 60, average 3.00
+        assertRating(seller, CONCURRENT_REVIEWS, 60L, "3.00");
+    }
+
+    @Test
+    void reconciliationRepairsDrift() {
+        ProfileEntity seller = profileRepository.save(profile("drifted-seller"));
+        ProfileEntity buyer = profileRepository.save(profile("drift-buyer"));
+        reviewService.createReviewWithValidation(review(buyer, seller, 2));
+        reviewService.createReviewWithValidation(review(buyer, seller, 5));
+
+        ProfileEntity drifted = profileRepository.findById(seller.getId()).orElseThrow();
+        drifted.setTotalReviews(99);
+        drifted.setRatingSum(0L);
+        drifted.setRating2Count(0);
+        profileRepository.save(drifted);
+
+        reviewService.reconcileSellerRatings();
+        assertRating(seller, 2, 7L, "3.50");
+        assertThat(profileRepository.findById(seller.getId()).orElseThrow().getRating2Count()).isEqualTo(1);
+    }
+
+    private void assertRating(ProfileEntity seller, int totalReviews, long ratingSum, String average) {
+        ProfileEntity reloaded = profileRepository.findById(seller.getId()).orElseThrow();
+        assertThat(reloaded.getTotalReviews()).isEqualTo(totalReviews);
+        assertThat(reloaded.getRatingSum()).isEqualTo(ratingSum);
+        assertThat(reloaded.getSellerRating()).isEqualByComparingTo(average);
+    }
+
+    private static ReviewEntity review(ProfileEntity reviewer, ProfileEntity seller, int rating) {
+        ReviewEntity review = new ReviewEntity();
+        review.setReviewer(reviewer);
+        review.setSeller(seller);
+        review.setRating(rating);
+        review.setComment("Rated " + rating);
+        return review;
+    }
+}
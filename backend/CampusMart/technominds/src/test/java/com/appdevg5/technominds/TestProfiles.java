@@ -0,0 +1,41 @@
+package com.appdevg5.technominds;
+
+import com.appdevg5.technominds.Profile.ProfileEntity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Profile fixtures shared by the tests. Only the email has to be unique; the other required
+ * columns get fixed values.
+ */
+public final class TestProfiles {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private TestProfiles() {
+    }
+
+    /**
+     * An unsaved profile with email {@code <name>@cit.edu}, so the name must not be reused within a test database.
+     */
+    public static ProfileEntity profile(String name) {
+        return profile(name, name + "@cit.edu");
+    }
+
+    /**
+     * An unsaved profile whose email carries a sequence number, for fixtures created before every test.
+     */
+    public static ProfileEntity uniqueProfile(String name) {
+        return profile(name, name + "-" + SEQUENCE.incrementAndGet() + "@cit.edu");
+    }
+
+    private static ProfileEntity profile(String firstName, String email) {
+        ProfileEntity profile = new ProfileEntity();
+        profile.setFirstName(firstName);
+        profile.setLastName("Tester");
+        profile.setEmail(email);
+        profile.setPhoneNumber("09123456789");
+        profile.setAcademicLevel("3rd Year");
+        return profile;
+    }
+}
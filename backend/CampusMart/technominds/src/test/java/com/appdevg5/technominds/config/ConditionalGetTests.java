@@ -0,0 +1,176 @@
+package com.appdevg5.technominds.config;
+
+import com.appdevg5.technominds.Category.CategoryEntity;
+import com.appdevg5.technominds.Category.CategoryRepository;
+import com.appdevg5.technominds.Category.CategoryService;
+import com.appdevg5.technominds.Message.MessageEntity;
+import com.appdevg5.technominds.Message.MessageService;
+import com.appdevg5.technominds.Product.ProductEntity;
+import com.appdevg5.technominds.Product.ProductRepository;
+import com.appdevg5.technominds.Product.ProductService;
+import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.Profile.ProfileRepository;
+import com.appdevg5.technominds.Profile.ProfileService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+
+import static com.appdevg5.technominds.TestProfiles.profile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ETags and If-None-Match on polled list endpoints (change counters) and detail endpoints (updatedAt).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalGetTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private ProfileService profileService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MessageService messageService;
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Test
+    void categoryListIsRevalidatedWithoutAQuery() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/categories"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn();
+        assertThat(first.getResponse().getHeaders(HttpHeaders.ETAG)).hasSize(1);
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"");
+
+        mockMvc.perform(get("/api/categories").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(SqlAccountingFilter.SERVER_TIMING, containsString("desc=\"0 statements\"")))
+                .andExpect(content().string(""));
+
+        CategoryEntity category = new CategoryEntity();
+        category.setName("ETag Stationery");
+        category = categoryService.createCategory(category);
+        try {
+            MvcResult changed = mockMvc.perform(get("/api/categories").header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(containsString("ETag Stationery")))
+                    .andReturn();
+            assertThat(changed.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        } finally {
+            categoryService.deleteCategory(category.getId());
+        }
+    }
+
+    @Test
+    void productDetailIsRevalidatedThroughTheResponseCache() throws Exception {
+        ProfileEntity seller = profileRepository.save(profile("etag-seller"));
+        ProductEntity product = new ProductEntity();
+        product.setSeller(seller);
+        product.setCategory(categoryRepository.findById(2).orElseThrow());
+        product.setName("ETag desk lamp");
+        product.setDescription("Warm light, no scratches");
+        product.setPrice(new BigDecimal("650.00"));
+        product = productRepository.save(product);
+        String path = "/api/products/" + product.getId();
+
+        String etag = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ResponseCacheFilter.X_CACHE, "MISS"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ResponseCacheFilter.X_CACHE, "HIT"))
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        // The request that reloads the entry still gets its 304
+        responseCache.evictProduct(product.getId());
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ResponseCacheFilter.X_CACHE, "MISS"));
+        mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ResponseCacheFilter.X_CACHE, "HIT"))
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        productService.toggleLike(product.getId(), seller.getId());
+        String liked = mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.likeCount").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(liked).isNotEqualTo(etag);
+
+        // A change to the embedded seller is a change to the product page
+        ProfileEntity rename = new ProfileEntity();
+        rename.setFirstName("etag-renamed");
+        profileService.updateProfile(seller.getId(), rename);
+        responseCache.evictProduct(product.getId());
+        mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, liked))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.seller.firstName").value("etag-renamed"));
+    }
+
+    @Test
+    void notificationsAndConversationsChangeWithNewMessages() throws Exception {
+        ProfileEntity buyer = profileRepository.save(profile("etag-buyer"));
+        ProfileEntity seller = profileRepository.save(profile("etag-inbox"));
+        String unreadCount = "/api/notifications/profile/" + seller.getId() + "/unread/count";
+        String conversation = "/api/messages/conversation/" + seller.getId() + "/" + buyer.getId();
+
+        String countTag = mockMvc.perform(get(unreadCount))
+                .andExpect(content().string("0"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String conversationTag = mockMvc.perform(get(conversation))
+                .andExpect(jsonPath("$.length()").value(0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(unreadCount).header(HttpHeaders.IF_NONE_MATCH, countTag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(conversation).header(HttpHeaders.IF_NONE_MATCH, conversationTag))
+                .andExpect(status().isNotModified());
+
+        MessageEntity message = new MessageEntity();
+        message.setSender(buyer);
+        message.setReceiver(seller);
+        message.setContent("Is the lamp still available?");
+        messageService.sendMessage(message);
+
+        mockMvc.perform(get(unreadCount).header(HttpHeaders.IF_NONE_MATCH, countTag))
+                .andExpect(status().isOk())
+                .andExpect(content().string("1"));
+        mockMvc.perform(get(conversation).header(HttpHeaders.IF_NONE_MATCH, conversationTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+}
@@ -0,0 +1,65 @@
+package com.appdevg5.technominds.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQL accounting and the virtual-thread connection limiter both wrap the "dataSource" bean.
+ * The limiter only recognises a Hikari pool, so it has to get there first.
+ */
+class DataSourceWrappingTests {
+
+    @Test
+    void limiterWrapsThePoolBeforeStatementAccounting() {
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            // Registered in the "wrong" order on purpose; the post-processors' own order decides
+            context.registerBean("statementAccounting", SqlAccountingConfig.StatementAccountingPostProcessor.class);
+            context.registerBean("concurrencyLimit", VirtualThreadConfig.ConcurrencyLimitingPostProcessor.class,
+                    () -> new VirtualThreadConfig.ConcurrencyLimitingPostProcessor(4, 1_000L));
+            context.registerBean("dataSource", HikariDataSource.class, () -> {
+                HikariDataSource pool = new HikariDataSource();
+                pool.setJdbcUrl("jdbc:h2:mem:wrapping;DB_CLOSE_DELAY=-1");
+                return pool;
+            });
+            context.refresh();
+
+            assertChain(context.getBean("dataSource", DataSource.class));
+        }
+    }
+
+    @Nested
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    @SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:wrapping_virtual;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.threads.virtual.enabled=true",
+        "diagnostics.sql-accounting.enabled=true"
+    })
+    class WithVirtualThreads {
+
+        @Autowired
+        private DataSource dataSource;
+
+        @Test
+        void bothWrappersAreInTheChain() {
+            assertChain(dataSource);
+        }
+    }
+
+    private static void assertChain(DataSource dataSource) {
+        assertThat(dataSource).isInstanceOf(StatementAccountingDataSource.class);
+        DataSource limited = ((DelegatingDataSource) dataSource).getTargetDataSource();
+        assertThat(limited).isInstanceOf(ConcurrencyLimitingDataSource.class);
+        assertThat(((DelegatingDataSource) limited).getTargetDataSource()).isInstanceOf(HikariDataSource.class);
+    }
+}
@@ -0,0 +1,44 @@
+package com.appdevg5.technominds.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plain unit tests for token verification and the verified-token cache.
+ */
+class JwtTokenVerifierTests {
+
+    private static final String SECRET = "Nw5+HFQqpYBKt+er9AJvHv8btZwwUgrXGmJaby6FmNE=";
+
+    @Test
+    void verifiesOnceAndServesRepeatsFromCache() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L);
+        JwtTokenVerifier verifier = new JwtTokenVerifier(jwtUtil, 100, 900);
+        String token = jwtUtil.generateToken(1, "buyer@cit.edu", 11);
+
+        VerifiedToken first = verifier.verify(token);
+        assertThat(first).isNotNull();
+        assertThat(first.getUserId()).isEqualTo(1);
+        assertThat(first.getEmail()).isEqualTo("buyer@cit.edu");
+        assertThat(first.getProfileId()).isEqualTo(11);
+        assertThat(verifier.verify(token)).isSameAs(first);
+    }
+
+    @Test
+    void rejectsTamperedForeignAndExpiredTokens() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L);
+        JwtTokenVerifier verifier = new JwtTokenVerifier(jwtUtil, 100, 900);
+        String token = jwtUtil.generateToken(1, "buyer@cit.edu", 11);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        assertThat(verifier.verify(tampered)).isNull();
+        assertThat(verifier.verify("not-a-jwt")).isNull();
+
+        JwtUtil otherKey = new JwtUtil("c2VjcmV0LWtleS1vZi1hbm90aGVyLWRlcGxveW1lbnQ=", 60_000L);
+        assertThat(verifier.verify(otherKey.generateToken(1, "buyer@cit.edu", 11))).isNull();
+
+        JwtUtil expiredIssuer = new JwtUtil(SECRET, -1_000L);
+        assertThat(verifier.verify(expiredIssuer.generateToken(1, "buyer@cit.edu", 11))).isNull();
+    }
+}
@@ -0,0 +1,67 @@
+package com.appdevg5.technominds.config;
+
+import com.appdevg5.technominds.Product.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the Prometheus scrape endpoint is reachable with the scrape account and carries
+ * the endpoint histograms, pool and JVM metrics and the business timers.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class MetricsEndpointTests {
+
+    private static final String SCRAPE_CREDENTIALS = "Basic "
+            + Base64.getEncoder().encodeToString("metrics:test-metrics".getBytes(StandardCharsets.UTF_8));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    void prometheusScrapeExposesLatencyPoolAndBusinessMetrics() throws Exception {
+        mockMvc.perform(get("/api/categories")).andExpect(status().isOk());
+        productService.searchProducts("calculator");
+
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, SCRAPE_CREDENTIALS))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        containsString("http_server_requests_seconds_bucket"),
+                        containsString("hikaricp_connections_pending"),
+                        containsString("jvm_gc_memory_allocated_bytes_total"),
+                        containsString("products_search_seconds_bucket"),
+                        containsString("jwt_verification_seconds"),
+                        containsString("request_sql_statements"))));
+    }
+
+    @Test
+    void onlyHealthIsPublicAndMetricsNeedTheScrapeAccount() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics/jvm.memory.used")
+                        .header(HttpHeaders.AUTHORIZATION, "Basic "
+                                + Base64.getEncoder().encodeToString("metrics:wrong".getBytes(StandardCharsets.UTF_8))))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics/jvm.memory.used")
+                        .header(HttpHeaders.AUTHORIZATION, SCRAPE_CREDENTIALS))
+                .andExpect(status().isOk());
+    }
+}
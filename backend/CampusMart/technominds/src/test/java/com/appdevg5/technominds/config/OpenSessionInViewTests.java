@@ -0,0 +1,183 @@
+package com.appdevg5.technominds.config;
+
+import com.appdevg5.technominds.Category.CategoryRepository;
+import com.appdevg5.technominds.Message.MessageEntity;
+import com.appdevg5.technominds.Message.MessageRepository;
+import com.appdevg5.technominds.Order.OrderEntity;
+import com.appdevg5.technominds.Order.OrderRepository;
+import com.appdevg5.technominds.Order.OrderStatus;
+import com.appdevg5.technominds.Product.ProductEntity;
+import com.appdevg5.technominds.Product.ProductRepository;
+import com.appdevg5.technominds.ProductImage.ProductImageEntity;
+import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.Profile.ProfileRepository;
+import com.appdevg5.technominds.Review.ReviewEntity;
+import com.appdevg5.technominds.Review.ReviewRepository;
+import com.appdevg5.technominds.TradeOffer.TradeOfferEntity;
+import com.appdevg5.technominds.TradeOffer.TradeOfferRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static com.appdevg5.technominds.TestProfiles.profile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * With open-session-in-view off, nothing can be lazily loaded once a service returns. Every
+ * endpoint that renders associations must have fetched them in its transaction; a miss shows
+ * up here as a 500 (LazyInitializationException) instead of an extra query in production.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class OpenSessionInViewTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private TradeOfferRepository tradeOfferRepository;
+
+    @Value("${spring.jpa.open-in-view}")
+    private boolean openInView;
+
+    @Test
+    void endpointsRenderAssociationsWithoutAnOpenSession() throws Exception {
+        assertThat(openInView).isFalse();
+
+        ProfileEntity seller = profileRepository.save(profile("osiv-seller"));
+        ProfileEntity buyer = profileRepository.save(profile("osiv-buyer"));
+
+        ProductEntity product = new ProductEntity();
+        product.setSeller(seller);
+        product.setCategory(categoryRepository.findById(2).orElseThrow());
+        product.setName("Osiv drafting table");
+        product.setDescription("Foldable drafting table");
+        product.setPrice(new BigDecimal("850.00"));
+        ProductImageEntity image = new ProductImageEntity();
+        image.setImageUrl("https://img.example/table.png");
+        product.addImage(image);
+        product = productRepository.save(product);
+
+        MessageEntity message = new MessageEntity();
+        message.setSender(buyer);
+        message.setReceiver(seller);
+        message.setProduct(product);
+        message.setContent("Still available?");
+        messageRepository.save(message);
+
+        OrderEntity order = new OrderEntity();
+        order.setBuyer(buyer);
+        order.setSeller(seller);
+        order.setProduct(product);
+        order.setTotalAmount(new BigDecimal("850.00"));
+        order.setStatus(OrderStatus.COMPLETED);
+        order = orderRepository.save(order);
+
+        ReviewEntity review = new ReviewEntity();
+        review.setReviewer(buyer);
+        review.setSeller(seller);
+        review.setProduct(product);
+        review.setOrder(order);
+        review.setRating(4);
+        review.setComment("Sturdy");
+        review = reviewRepository.save(review);
+
+        TradeOfferEntity offer = new TradeOfferEntity();
+        offer.setProduct(product);
+        offer.setOfferer(buyer);
+        offer.setOfferedPrice(new BigDecimal("700.00"));
+        offer.setStatus("PENDING");
+        offer = tradeOfferRepository.save(offer);
+
+        mockMvc.perform(get("/api/products/" + product.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.seller.firstName").value("osiv-seller"))
+                .andExpect(jsonPath("$.category.id").value(2))
+                .andExpect(jsonPath("$.images[0].imageUrl").value("https://img.example/table.png"))
+                .andExpect(jsonPath("$.imageUrl").value("https://img.example/table.png"))
+                .andExpect(jsonPath("$.seller.ratingSum").doesNotExist());
+
+        mockMvc.perform(get("/api/products/search").param("term", "osiv drafting"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].seller.lastName").value("Tester"));
+
+        mockMvc.perform(get("/api/products/seller/" + seller.getId()).param("available", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].images[0].isPrimary").exists());
+
+        mockMvc.perform(post("/api/products/" + product.getId() + "/like").param("profileId", buyer.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.likeCount").value(1))
+                .andExpect(jsonPath("$.seller.firstName").value("osiv-seller"));
+
+        mockMvc.perform(get("/api/messages/conversation/" + buyer.getId() + "/" + seller.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].sender.firstName").value("osiv-buyer"))
+                .andExpect(jsonPath("$[0].product.name").value("Osiv drafting table"));
+
+        mockMvc.perform(get("/api/orders/" + order.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.buyerName").value("osiv-buyer Tester"))
+                .andExpect(jsonPath("$.productName").value("Osiv drafting table"));
+
+        mockMvc.perform(get("/api/reviews/user/" + seller.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].reviewer.firstName").value("osiv-buyer"))
+                .andExpect(jsonPath("$[0].product.name").value("Osiv drafting table"))
+                .andExpect(jsonPath("$[0].orderId").value(order.getId()));
+
+        mockMvc.perform(put("/api/reviews/" + review.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"rating\": 5, \"comment\": \"Sturdy, and a fair price\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rating").value(5))
+                .andExpect(jsonPath("$.reviewer.lastName").value("Tester"));
+
+        mockMvc.perform(get("/api/trade-offers/product/" + product.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].product.seller.firstName").value("osiv-seller"))
+                .andExpect(jsonPath("$[0].offerer.firstName").value("osiv-buyer"));
+
+        mockMvc.perform(patch("/api/trade-offers/" + offer.getId() + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"accepted\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("ACCEPTED"))
+                .andExpect(jsonPath("$.product.images[0].imageUrl").value("https://img.example/table.png"));
+
+        mockMvc.perform(get("/api/profiles/" + seller.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("osiv-seller@cit.edu"))
+                .andExpect(jsonPath("$.rating5Count").doesNotExist());
+    }
+}
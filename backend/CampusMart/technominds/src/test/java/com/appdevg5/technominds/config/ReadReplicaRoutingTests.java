@@ -0,0 +1,111 @@
+package com.appdevg5.technominds.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Read/write split against two embedded H2 pools. The "replica" connects to its own schema,
+ * which shadows a routing_marker table and otherwise resolves to the primary's tables,
+ * like a replica that has caught up. The marker tells which pool served a query.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:replica_routing;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "datasource.replica.enabled=true",
+    "datasource.replica.url=jdbc:h2:mem:replica_routing;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;"
+        + "SCHEMA=replica;SCHEMA_SEARCH_PATH=replica,public"
+})
+class ReadReplicaRoutingTests {
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void createMarkers() {
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        primary.execute("CREATE SCHEMA IF NOT EXISTS replica");
+        primary.execute("CREATE TABLE IF NOT EXISTS public.routing_marker (name VARCHAR(20))");
+        primary.execute("DELETE FROM public.routing_marker");
+        primary.execute("INSERT INTO public.routing_marker VALUES ('primary')");
+        primary.execute("CREATE TABLE IF NOT EXISTS replica.routing_marker (name VARCHAR(20))");
+        primary.execute("DELETE FROM replica.routing_marker");
+        primary.execute("INSERT INTO replica.routing_marker VALUES ('replica')");
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplicaAndWritesThePrimary() {
+        assertThat(servedBy(true)).isEqualTo("replica");
+        assertThat(servedBy(false)).isEqualTo("primary");
+        assertThat(new JdbcTemplate(replicaDataSource).queryForObject("SELECT name FROM routing_marker", String.class))
+                .isEqualTo("replica");
+    }
+
+    @Test
+    void readOnlyTransactionsUseThePrimaryWhileReadingOwnWrites() {
+        ReplicaRoutingDataSource.requirePrimary(true);
+        try {
+            assertThat(servedBy(true)).isEqualTo("primary");
+        } finally {
+            ReplicaRoutingDataSource.requirePrimary(false);
+        }
+        assertThat(servedBy(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void writersStayOnThePrimaryForTheStickinessWindow() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+        List<Boolean> primaryRequired = new ArrayList<>();
+
+        filter.doFilter(request("GET", "10.1.0.1"), new MockHttpServletResponse(),
+                (req, res) -> primaryRequired.add(ReplicaRoutingDataSource.isPrimaryRequired()));
+        filter.doFilter(request("POST", "10.1.0.1"), new MockHttpServletResponse(),
+                (req, res) -> primaryRequired.add(ReplicaRoutingDataSource.isPrimaryRequired()));
+        filter.doFilter(request("GET", "10.1.0.1"), new MockHttpServletResponse(),
+                (req, res) -> primaryRequired.add(ReplicaRoutingDataSource.isPrimaryRequired()));
+        filter.doFilter(request("GET", "10.1.0.2"), new MockHttpServletResponse(),
+                (req, res) -> primaryRequired.add(ReplicaRoutingDataSource.isPrimaryRequired()));
+
+        assertThat(primaryRequired).containsExactly(false, true, true, false);
+        assertThat(ReplicaRoutingDataSource.isPrimaryRequired()).isFalse();
+    }
+
+    private String servedBy(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status ->
+                (String) entityManager.createNativeQuery("SELECT name FROM routing_marker").getSingleResult());
+    }
+
+    private static MockHttpServletRequest request(String method, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/products");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
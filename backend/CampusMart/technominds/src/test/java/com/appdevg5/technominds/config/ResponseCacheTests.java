@@ -0,0 +1,206 @@
+package com.appdevg5.technominds.config;
+
+import com.appdevg5.technominds.Category.CategoryRepository;
+import com.appdevg5.technominds.Product.ProductEntity;
+import com.appdevg5.technominds.Product.ProductRepository;
+import com.appdevg5.technominds.Product.ProductService;
+import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.Profile.ProfileRepository;
+import com.appdevg5.technominds.Profile.ProfileService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.appdevg5.technominds.TestProfiles.uniqueProfile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The response cache in front of GET /api/products/{id} and /api/profiles/{id}/seller-info.
+ * The TTL is raised so that entries cannot expire in the middle of a test, which needs a context
+ * of its own, so it also gets its own H2 database rather than recreating the shared one.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:response_cache;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+    "response-cache.ttl-seconds=60"
+})
+@AutoConfigureMockMvc
+class ResponseCacheTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProfileService profileService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ProfileEntity seller;
+    private ProductEntity product;
+
+    @BeforeEach
+    void createListing() {
+        seller = profileRepository.save(uniqueProfile("cache-seller"));
+
+        product = new ProductEntity();
+        product.setSeller(seller);
+        product.setCategory(categoryRepository.findById(2).orElseThrow());
+        product.setName("Cache graphing calculator");
+        product.setDescription("TI-84, with batteries");
+        product.setPrice(new BigDecimal("2500.00"));
+        product = productRepository.save(product);
+    }
+
+    @Test
+    void repeatedReadsAreServedWithoutSql() throws Exception {
+        String path = "/api/products/" + product.getId();
+        String first = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ResponseCacheFilter.X_CACHE, "MISS"))
+                .andReturn().getResponse().getContentAsString();
+
+        String second = mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ResponseCacheFilter.X_CACHE, "HIT"))
+                .andExpect(header().string(SqlAccountingFilter.SERVER_TIMING, containsString("desc=\"0 statements\"")))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(second).isEqualTo(first);
+
+        // Other representations are not cached
+        mockMvc.perform(get(path + "?fields=id"))
+                .andExpect(header().doesNotExist(ResponseCacheFilter.X_CACHE));
+        mockMvc.perform(get(path).header("Accept", "application/cbor"))
+                .andExpect(header().doesNotExist(ResponseCacheFilter.X_CACHE));
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        String path = "/api/profiles/" + seller.getId() + "/seller-info";
+        int clients = 32;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                responses.add(pool.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(get(path)).andReturn().getResponse();
+                }));
+            }
+            start.countDown();
+
+            int misses = 0;
+            for (Future<MockHttpServletResponse> response : responses) {
+                MockHttpServletResponse result = response.get();
+                assertThat(result.getStatus()).isEqualTo(200);
+                assertThat(result.getContentAsString()).contains("\"firstName\":\"cache-seller\"");
+                if ("MISS".equals(result.getHeader(ResponseCacheFilter.X_CACHE))) {
+                    misses++;
+                }
+            }
+            assertThat(misses).isEqualTo(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void notFoundIsCachedToo() throws Exception {
+        String path = "/api/products/" + (product.getId() + 1_000_000);
+        mockMvc.perform(get(path))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string(ResponseCacheFilter.X_CACHE, "MISS"));
+        mockMvc.perform(get(path))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string(ResponseCacheFilter.X_CACHE, "HIT"));
+    }
+
+    @Test
+    void writesEvictWhatTheyChange() throws Exception {
+        String productPath = "/api/products/" + product.getId();
+        String sellerInfoPath = "/api/profiles/" + seller.getId() + "/seller-info";
+        mockMvc.perform(get(productPath)).andExpect(jsonPath("$.likeCount").value(0));
+        mockMvc.perform(get(sellerInfoPath)).andExpect(jsonPath("$.totalListings").value(1));
+
+        productService.toggleLike(product.getId(), seller.getId());
+        mockMvc.perform(get(productPath))
+                .andExpect(header().string(ResponseCacheFilter.X_CACHE, "MISS"))
+                .andExpect(jsonPath("$.likeCount").value(1));
+
+        ProfileEntity changes = new ProfileEntity();
+        changes.setFirstName("cache-renamed");
+        profileService.updateProfile(seller.getId(), changes);
+        mockMvc.perform(get(sellerInfoPath))
+                .andExpect(header().string(ResponseCacheFilter.X_CACHE, "MISS"))
+                .andExpect(jsonPath("$.firstName").value("cache-renamed"));
+
+        productService.deleteProduct(product.getId());
+        mockMvc.perform(get(productPath)).andExpect(status().isNotFound());
+        mockMvc.perform(get(sellerInfoPath)).andExpect(jsonPath("$.totalListings").value(0));
+    }
+
+    @Test
+    void readDuringAnUncommittedWriteDoesNotStayCached() throws Exception {
+        String path = "/api/products/" + product.getId();
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                ProductEntity changes = new ProductEntity();
+                changes.setName("Cache graphing calculator, price drop");
+                changes.setDescription("TI-84, with batteries");
+                changes.setPrice(new BigDecimal("2000.00"));
+                changes.setCategory(product.getCategory());
+                productService.updateProduct(product.getId(), changes);
+
+                // Another request misses and loads the committed (old) row while the write is open
+                MockHttpServletResponse during;
+                try {
+                    during = reader.submit(() -> mockMvc.perform(get(path)).andReturn().getResponse())
+                            .get(10, TimeUnit.SECONDS);
+                    assertThat(during.getHeader(ResponseCacheFilter.X_CACHE)).isEqualTo("MISS");
+                    assertThat(during.getContentAsString()).contains("\"name\":\"Cache graphing calculator\"");
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            mockMvc.perform(get(path))
+                    .andExpect(header().string(ResponseCacheFilter.X_CACHE, "MISS"))
+                    .andExpect(jsonPath("$.name").value("Cache graphing calculator, price drop"));
+        } finally {
+            reader.shutdownNow();
+        }
+    }
+}
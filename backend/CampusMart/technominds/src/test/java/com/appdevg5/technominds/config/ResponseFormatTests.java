@@ -0,0 +1,151 @@
+package com.appdevg5.technominds.config;
+
+import com.appdevg5.technominds.Category.CategoryRepository;
+import com.appdevg5.technominds.Order.OrderEntity;
+import com.appdevg5.technominds.Order.OrderRepository;
+import com.appdevg5.technominds.Order.OrderStatus;
+import com.appdevg5.technominds.Product.ProductEntity;
+import com.appdevg5.technominds.Product.ProductRepository;
+import com.appdevg5.technominds.ProductImage.ProductImageEntity;
+import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.Profile.ProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.appdevg5.technominds.TestProfiles.uniqueProfile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * CBOR content negotiation and {@code ?fields=} sparse fieldsets on product, order and profile responses.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ResponseFormatTests {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private ProfileEntity seller;
+    private ProductEntity product;
+    private OrderEntity order;
+
+    @BeforeEach
+    void createListing() {
+        seller = profileRepository.save(uniqueProfile("format-seller"));
+        ProfileEntity buyer = profileRepository.save(uniqueProfile("format-buyer"));
+
+        product = new ProductEntity();
+        product.setSeller(seller);
+        product.setCategory(categoryRepository.findById(2).orElseThrow());
+        product.setName("Format scientific calculator");
+        product.setDescription("fx-991ES, complete with cover");
+        product.setPrice(new BigDecimal("650.00"));
+        ProductImageEntity image = new ProductImageEntity();
+        image.setImageUrl("https://img.example/calc.png");
+        product.addImage(image);
+        product = productRepository.save(product);
+
+        order = new OrderEntity();
+        order.setBuyer(buyer);
+        order.setSeller(seller);
+        order.setProduct(product);
+        order.setTotalAmount(new BigDecimal("650.00"));
+        order.setStatus(OrderStatus.PENDING);
+        order = orderRepository.save(order);
+    }
+
+    @Test
+    void cborIsServedOnlyWhenAskedFor() throws Exception {
+        byte[] cbor = mockMvc.perform(get("/api/products/" + product.getId()).accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        String json = mockMvc.perform(get("/api/products/" + product.getId()))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode decoded = new CBORMapper().readTree(cbor);
+        assertThat(decoded.path("seller").path("firstName").asString()).isEqualTo("format-seller");
+        assertThat(decoded.path("images").get(0).path("imageUrl").asString()).isEqualTo("https://img.example/calc.png");
+        assertThat(cbor.length).isLessThan(json.getBytes().length);
+    }
+
+    @Test
+    void fieldsKeepsOnlyTheSelectedProperties() throws Exception {
+        String body = mockMvc.perform(get("/api/products/" + product.getId())
+                        .param("fields", "id,name,price,seller.firstName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Format scientific calculator"))
+                .andExpect(jsonPath("$.seller.firstName").value("format-seller"))
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode written = new JsonMapper().readTree(body);
+        assertThat(written.propertyNames()).containsExactlyInAnyOrder("id", "name", "price", "seller");
+        assertThat(written.path("seller").propertyNames()).containsExactly("firstName");
+    }
+
+    @Test
+    void fieldsAppliesToEachElementOfAList() throws Exception {
+        mockMvc.perform(get("/api/products/seller/" + seller.getId()).param("fields", "id,category"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(product.getId()))
+                .andExpect(jsonPath("$[0].category.name").exists())
+                .andExpect(jsonPath("$[0].name").doesNotExist())
+                .andExpect(jsonPath("$[0].seller").doesNotExist());
+    }
+
+    @Test
+    void fieldsWorksForOrdersAndProfilesAndInCbor() throws Exception {
+        mockMvc.perform(get("/api/orders/" + order.getId()).param("fields", "id,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("pending"))
+                .andExpect(jsonPath("$.buyerName").doesNotExist());
+
+        mockMvc.perform(get("/api/orders/seller/" + seller.getId()).param("fields", "orderId,productName"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].productName").value("Format scientific calculator"))
+                .andExpect(jsonPath("$[0].buyerEmail").doesNotExist());
+
+        byte[] cbor = mockMvc.perform(get("/api/profiles/" + seller.getId()).param("fields", "firstName").accept(CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(List.copyOf(new CBORMapper().readTree(cbor).propertyNames())).containsExactly("firstName");
+    }
+
+    @Test
+    void responsesWithoutFieldsAreUnchanged() throws Exception {
+        mockMvc.perform(get("/api/profiles/" + seller.getId()).param("fields", " , "))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value(seller.getEmail()))
+                .andExpect(jsonPath("$.lastName").value("Tester"));
+    }
+}
@@ -0,0 +1,113 @@
+package com.appdevg5.technominds.config;
+
+import com.appdevg5.technominds.Message.MessageEntity;
+import com.appdevg5.technominds.Message.MessageRepository;
+import com.appdevg5.technominds.Profile.ProfileEntity;
+import com.appdevg5.technominds.Profile.ProfileRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.appdevg5.technominds.TestProfiles.profile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks per-request SQL accounting: the Server-Timing header, the per-handler metrics,
+ * and that a lazy-loading loop shows up as one statement shape repeated per row.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SqlAccountingTests {
+
+    private static final int SENDERS = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void requestsReportTheirStatementsInServerTiming() throws Exception {
+        ProfileEntity lonely = profileRepository.save(profile("inbox-empty"));
+
+        mockMvc.perform(get("/api/messages/user/" + lonely.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", startsWith("db;dur=")))
+                .andExpect(header().string("Server-Timing", endsWith("desc=\"1 statements\"")))
+                .andExpect(SqlStatementCount.exactly(1));
+
+        assertThat(meterRegistry.get("request.sql.statements")
+                .tag("handler", "MessageController.getMessagesForUser").summary().count()).isPositive();
+    }
+
+    @Test
+    void inboxIsOneStatementWhateverTheNumberOfSenders() throws Exception {
+        ProfileEntity receiver = profileRepository.save(profile("inbox-full"));
+        for (int i = 0; i < SENDERS; i++) {
+            ProfileEntity sender = profileRepository.save(profile("inbox-sender-" + i));
+            MessageEntity message = new MessageEntity();
+            message.setSender(sender);
+            message.setReceiver(receiver);
+            message.setContent("Is this still available?");
+            messageRepository.save(message);
+        }
+
+        // Sender, receiver and product come with the messages, not one lazy load per row
+        mockMvc.perform(get("/api/messages/user/" + receiver.getId()))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatementCount.exactly(1));
+    }
+
+    @Test
+    void lazyLoadingLoopsShowAsARepeatedStatement() {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < SENDERS; i++) {
+            ids.add(profileRepository.save(profile("loop-" + i)).getId());
+        }
+
+        RequestSqlStats stats = RequestSqlStats.start();
+        try {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM messages", Long.class);
+            // What a lazy-loading loop sends: the same lookup once per row
+            for (Integer id : ids) {
+                jdbcTemplate.queryForObject("SELECT first_name FROM profiles WHERE profile_id = " + id, String.class);
+            }
+        } finally {
+            RequestSqlStats.stop();
+        }
+
+        assertThat(stats.getStatementCount()).isEqualTo(1 + SENDERS);
+        assertThat(stats.getMostRepeated().getValue()).isEqualTo(SENDERS);
+        assertThat(stats.getMostRepeated().getKey()).containsIgnoringCase("from profiles");
+    }
+
+    @Test
+    void statementShapesIgnoreLiteralValues() {
+        assertThat(RequestSqlStats.shapeOf("select * from orders where id = 42 and status = 'PAID'"))
+                .isEqualTo(RequestSqlStats.shapeOf("select *  from orders where id = 7 and status = 'it''s'"));
+        assertThat(RequestSqlStats.shapeOf("select * from products where id in (?, ?, ?)"))
+                .isEqualTo(RequestSqlStats.shapeOf("select * from products where id in (?,?)"));
+    }
+}
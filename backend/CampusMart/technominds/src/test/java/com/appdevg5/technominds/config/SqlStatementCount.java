@@ -0,0 +1,30 @@
+package com.appdevg5.technominds.config;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MockMvc matchers on the SQL statements a request ran, as recorded by SqlAccountingFilter:
+ * {@code mockMvc.perform(get("/api/...")).andExpect(SqlStatementCount.exactly(1))}.
+ */
+public final class SqlStatementCount {
+
+    private SqlStatementCount() {
+    }
+
+    public static ResultMatcher exactly(int expected) {
+        return result -> assertThat(stats(result.getRequest().getAttribute(RequestSqlStats.ATTRIBUTE))
+                .getStatementCount()).as("SQL statements").isEqualTo(expected);
+    }
+
+    public static ResultMatcher atMost(int max) {
+        return result -> assertThat(stats(result.getRequest().getAttribute(RequestSqlStats.ATTRIBUTE))
+                .getStatementCount()).as("SQL statements").isLessThanOrEqualTo(max);
+    }
+
+    private static RequestSqlStats stats(Object attribute) {
+        assertThat(attribute).as("SQL accounting did not run for this request").isInstanceOf(RequestSqlStats.class);
+        return (RequestSqlStats) attribute;
+    }
+}
@@ -218,7 +218,8 @@ export default function EditProductPanel({ isOpen, onClose, productData, onProdu
           viewCount: productData.viewCount || productData.view_count || 0,
           likeCount: productData.likeCount || productData.like_count || 0,
           category: formData.category_id ? { id: Number.parseInt(formData.category_id) } : null,
-          images: allImages
+          images: allImages,
+          version: productData.version
         };
 
         const updatedProduct = await updateProduct(productData.id || productData.product_id, productPayload);
@@ -1,6 +1,6 @@
 import { useState, useEffect } from 'react';
 import { FiX, FiCamera } from 'react-icons/fi';
-import { uploadProfilePicture } from '../../services/profileService';
+import { uploadProfilePicture, getProfileById } from '../../services/profileService';
 import Input from './Input';
 import Button from './Button';
 import './EditProfileModal.css';
@@ -18,22 +18,43 @@ export default function EditProfileModal({ isOpen, onClose, userData, onSave })
   const [profileImage, setProfileImage] = useState(null);
   const [imagePreview, setImagePreview] = useState(null);
   const [isSaving, setIsSaving] = useState(false);
+  // Version of the profile the form was filled from; the server refuses the save if it changed since
+  const [version, setVersion] = useState(null);
 
   // Populate form when modal opens
   useEffect(() => {
     if (userData && isOpen) {
-      setFormData({
-        first_name: userData.firstName || userData.first_name || '',
-        last_name: userData.lastName || userData.last_name || '',
-        phone_number: userData.phoneNumber || userData.phone_number || '',
-        instagram_handle: userData.instagramHandle || userData.instagram_handle || '',
-        email: userData.email || ''
+      const fillForm = (profile) => setFormData({
+        first_name: profile.firstName || profile.first_name || '',
+        last_name: profile.lastName || profile.last_name || '',
+        phone_number: profile.phoneNumber || profile.phone_number || '',
+        instagram_handle: profile.instagramHandle || profile.instagram_handle || '',
+        email: profile.email || ''
       });
+      fillForm(userData);
       setImagePreview(userData.profile_picture || null);
+
+      // The stored user can be old; edit the current profile and remember its version
+      let cancelled = false;
+      const profileId = userData.id || userData.profile_id;
+      if (profileId) {
+        getProfileById(profileId)
+          .then(profile => {
+            if (!cancelled) {
+              fillForm(profile);
+              setVersion(profile.version);
+            }
+          })
+          .catch(error => console.error('Failed to load profile:', error));
+      }
+      return () => {
+        cancelled = true;
+      };
     } else if (!isOpen) {
       // Reset image when modal closes
       setProfileImage(null);
       setImagePreview(null);
+      setVersion(null);
     }
   }, [userData, isOpen]);
 
@@ -99,7 +120,8 @@ export default function EditProfileModal({ isOpen, onClose, userData, onSave })
           lastName: formData.last_name,
           phoneNumber: formData.phone_number,
           instagramHandle: formData.instagram_handle,
-          email: formData.email
+          email: formData.email,
+          version
         };
         
         // Save profile data first
@@ -121,9 +143,11 @@ export default function EditProfileModal({ isOpen, onClose, userData, onSave })
               await new Promise(resolve => setTimeout(resolve, 500));
               
               // Trigger profile refresh by calling onSave again with empty data
-              // This will cause ProfilePage to refetch the profile with the new picture URL
+              // This will cause ProfilePage to refetch the profile with the new picture URL.
+              // The first save and the upload both bumped the version, so resend the current one
               if (onSave) {
-                await onSave(profileData);
+                const current = await getProfileById(profileId);
+                await onSave({ ...profileData, version: current.version });
               }
             } else {
               console.error('Profile ID not found');
@@ -263,7 +287,7 @@ export default function EditProfileModal({ isOpen, onClose, userData, onSave })
                 type="submit" 
                 variant="primary" 
                 fullWidth
-                disabled={isSaving}
+                disabled={isSaving || version === null}
               >
                 {isSaving ? 'Saving...' : 'Save Changes'}
               </Button>
@@ -192,7 +192,9 @@ export default function ProfilePage() {
       is_available: product.isAvailable !== undefined ? product.isAvailable : product.is_available,
       images: product.images || product.productImages || [],
       viewCount: product.viewCount || product.view_count || 0,
-      likeCount: product.likeCount || product.like_count || 0
+      likeCount: product.likeCount || product.like_count || 0,
+      // Sent back on save so the server can refuse the edit if the listing changed meanwhile
+      version: product.version
     };
     
     console.log('Editing product:', fullProductData);
@@ -294,7 +296,7 @@ export default function ProfilePage() {
       return updatedProfile;
     } catch (error) {
       console.error('Error updating profile:', error);
-      alert('Failed to update profile. Please try again.');
+      alert(error.response?.data?.message || 'Failed to update profile. Please try again.');
       throw error;
     }
   };
@@ -9,10 +9,79 @@ const api = axios.create({
   },
 });
 
-// Request interceptor - Add auth token
+// Access tokens are short-lived; renew this long before they expire
+const REFRESH_MARGIN_MS = 60 * 1000;
+
+/**
+ * Store the tokens from a login, register or refresh response
+ * @param {{token: string, refreshToken?: string, expiresIn?: number}} data
+ */
+export const storeTokens = (data) => {
+  localStorage.setItem('token', data.token);
+  if (data.refreshToken) {
+    localStorage.setItem('refreshToken', data.refreshToken);
+  }
+  if (data.expiresIn) {
+    localStorage.setItem('tokenExpiresAt', String(Date.now() + data.expiresIn * 1000));
+  }
+};
+
+export const clearTokens = () => {
+  localStorage.removeItem('token');
+  localStorage.removeItem('refreshToken');
+  localStorage.removeItem('tokenExpiresAt');
+  localStorage.removeItem('user');
+};
+
+// One refresh at a time, across tabs too: refresh tokens rotate, so a second refresh with the
+// same token would be seen as reuse and sign the user out everywhere
+const REFRESH_LOCK = 'campusmart-token-refresh';
+let refreshPromise = null;
+
+const rotateRefreshToken = async (refreshToken) => {
+  // Another tab may have rotated the token while this one waited for the lock
+  const current = localStorage.getItem('refreshToken');
+  if (!current) {
+    throw new Error('No refresh token');
+  }
+  if (current !== refreshToken) {
+    return localStorage.getItem('token');
+  }
+  const response = await axios.post(`${API_BASE_URL}/auth/refresh`, { refreshToken: current });
+  storeTokens(response.data);
+  return response.data.token;
+};
+
+const refreshAccessToken = () => {
+  const refreshToken = localStorage.getItem('refreshToken');
+  if (!refreshToken) {
+    return Promise.reject(new Error('No refresh token'));
+  }
+  if (!refreshPromise) {
+    const refresh = () => rotateRefreshToken(refreshToken);
+    // Web Locks are shared by every tab of the origin; without them only this tab is serialised
+    refreshPromise = (navigator.locks ? navigator.locks.request(REFRESH_LOCK, refresh) : refresh())
+      .finally(() => {
+        refreshPromise = null;
+      });
+  }
+  return refreshPromise;
+};
+
+const isAuthCall = (url = '') => url.startsWith('/auth/');
+
+// Request interceptor - Add auth token (renewing it first if it is about to expire)
 api.interceptors.request.use(
-  (config) => {
-    const token = localStorage.getItem('token');
+  async (config) => {
+    let token = localStorage.getItem('token');
+    const expiresAt = Number(localStorage.getItem('tokenExpiresAt'));
+    if (token && expiresAt && expiresAt - Date.now() < REFRESH_MARGIN_MS && !isAuthCall(config.url)) {
+      try {
+        token = await refreshAccessToken();
+      } catch {
+        // Keep the old token; a 401 below sends the user to login
+      }
+    }
     if (token) {
       config.headers.Authorization = `Bearer ${token}`;
     }
@@ -24,10 +93,24 @@ api.interceptors.request.use(
 // Response interceptor - Handle errors
 api.interceptors.response.use(
   (response) => response,
-  (error) => {
-    if (error.response?.status === 401) {
-      localStorage.removeItem('token');
-      localStorage.removeItem('user');
+  async (error) => {
+    const original = error.config;
+    if (error.response?.status === 401 && original && !original._retried && !isAuthCall(original.url)) {
+      original._retried = true;
+      try {
+        // A newer token from another tab's refresh is simply retried; otherwise renew it here
+        const stored = localStorage.getItem('token');
+        const token = stored && original.headers.Authorization !== `Bearer ${stored}`
+          ? stored
+          : await refreshAccessToken();
+        original.headers.Authorization = `Bearer ${token}`;
+        return api(original);
+      } catch {
+        // Fall through to sign out
+      }
+    }
+    if (error.response?.status === 401 && !isAuthCall(original?.url)) {
+      clearTokens();
       window.location.href = '/login';
     }
     return Promise.reject(error);
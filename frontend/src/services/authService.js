@@ -1,4 +1,4 @@
-import api from './api';
+import api, { storeTokens, clearTokens } from './api';
 
 /**
  * Authentication Service
@@ -44,7 +44,7 @@ export const login = async (credentials) => {
   
   const response = await api.post('/auth/login', credentials);
   if (response.data.token) {
-    localStorage.setItem('token', response.data.token);
+    storeTokens(response.data);
     localStorage.setItem('user', JSON.stringify(response.data.user));
   }
   return response.data;
@@ -97,15 +97,22 @@ export const register = async (data) => {
   
   const response = await api.post('/auth/register', backendData);
   if (response.data.token) {
-    localStorage.setItem('token', response.data.token);
+    storeTokens(response.data);
     localStorage.setItem('user', JSON.stringify(response.data.user));
   }
   return response.data;
 };
 
 export const logout = () => {
-  localStorage.removeItem('token');
-  localStorage.removeItem('user');
+  // Revoke the session server-side without holding up the UI
+  const token = localStorage.getItem('token');
+  const refreshToken = localStorage.getItem('refreshToken');
+  if (token) {
+    // Header passed explicitly: the tokens are cleared before the request interceptor runs
+    api.post('/auth/logout', { refreshToken }, { headers: { Authorization: `Bearer ${token}` } })
+      .catch(() => {});
+  }
+  clearTokens();
 };
 
 export const changePassword = async (userId, currentPassword, newPassword) => {